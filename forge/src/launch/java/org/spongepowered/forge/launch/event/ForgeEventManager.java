@@ -39,7 +39,6 @@
 
 import java.util.Collection;
 import java.util.Collections;
-import java.util.List;
 import java.util.function.Consumer;
 
 @Singleton
@@ -154,8 +153,8 @@ private boolean postDualBus(final org.spongepowered.api.event.Event spongeEvent,
             final IEventBusInvokeDispatcher dispatcher) {
         try (final NoExceptionClosable ignored = this.preparePost(spongeEvent)) {
             final RegisteredListener.Cache listeners = this.getHandlerCache(spongeEvent);
-            final List<RegisteredListener<?>> beforeModifications = listeners.beforeModifications();
-            if (!beforeModifications.isEmpty()) {
+            final RegisteredListener<?>[] beforeModifications = listeners.beforeModificationsArray();
+            if (beforeModifications.length != 0) {
                 // First, we fire the Sponge beforeModifications on the Sponge event
                 this.post(spongeEvent, beforeModifications);
 
@@ -173,7 +172,7 @@ private boolean postDualBus(final org.spongepowered.api.event.Event spongeEvent,
             }
 
             // and now we do our standard event listener stuff.
-            return this.post(spongeEvent, listeners.afterModifications());
+            return this.post(spongeEvent, listeners.afterModificationsArray());
         }
     }
 }
@@ -97,6 +97,10 @@ public final class CommonConfig implements Config {
     @Setting
     public final TimingsCategory timings = new TimingsCategory();
 
+    @Setting
+    @Comment("Configuration options related to the execution of scheduled tasks")
+    public final SchedulerCategory scheduler = new SchedulerCategory();
+
     @Setting
     public final WorldCategory world = new WorldCategory();
 
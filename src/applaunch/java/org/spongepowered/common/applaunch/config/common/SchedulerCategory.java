@@ -0,0 +1,65 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.applaunch.config.common;
+
+import org.spongepowered.configurate.objectmapping.ConfigSerializable;
+import org.spongepowered.configurate.objectmapping.meta.Comment;
+import org.spongepowered.configurate.objectmapping.meta.Setting;
+
+@ConfigSerializable
+public final class SchedulerCategory {
+
+    @Setting("async-executor")
+    @Comment(
+        "The executor used to run asynchronous tasks. Supported values:\n"
+            + "  - BOUNDED: A pool of 'async-max-threads' platform threads, with a queue of 'async-queue-capacity'\n"
+            + "    tasks. Once the queue is full, further tasks wait in an unbounded overflow queue, so the amount\n"
+            + "    of queued tasks is not capped. Tasks never run on the thread that submitted them.\n"
+            + "  - FORK_JOIN: A work-stealing pool with a parallelism of 'async-max-threads'\n"
+            + "  - VIRTUAL: A virtual thread per task, if supported by the runtime. Falls back to BOUNDED otherwise.\n"
+            + "  - UNBOUNDED: A cached pool that creates as many threads as needed")
+    public ExecutorType asyncExecutor = ExecutorType.BOUNDED;
+
+    @Setting("async-max-threads")
+    @Comment("The maximum amount of threads used by the BOUNDED and FORK_JOIN executors.")
+    public int asyncMaxThreads = 64;
+
+    @Setting("async-queue-capacity")
+    @Comment("The size of the queue of tasks waiting for a thread of the BOUNDED executor. This does not cap\n"
+            + "the amount of queued tasks, further tasks are held in an unbounded overflow queue until there is room.")
+    public int asyncQueueCapacity = 8192;
+
+    @Setting("plugin-concurrency-limit")
+    @Comment("The maximum amount of asynchronous tasks of a single plugin that may run at the same time.\n"
+            + "Additional tasks wait for one of the plugin's tasks to complete. Set to 0 to disable the limit.")
+    public int pluginConcurrencyLimit = 0;
+
+    public enum ExecutorType {
+        BOUNDED,
+        FORK_JOIN,
+        VIRTUAL,
+        UNBOUNDED
+    }
+}
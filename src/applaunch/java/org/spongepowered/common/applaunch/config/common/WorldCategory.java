@@ -40,6 +40,29 @@ public final class WorldCategory {
                                                           + "Note: 20 ticks is equivalent to 1 second. Set to 0 to disable.")
     public int playerAutoSaveInterval = 6000;
 
+    @Setting(value = "user-data-io-threads")
+    @Comment("The amount of threads used to load offline user data. (Default: 4)")
+    public int userDataIoThreads = 4;
+
+    @Setting(value = "user-data-save-batch-size")
+    @Comment("The maximum amount of offline user data files written by one save batch. (Default: 64) \n"
+                                                          + "Changes made to a user while it waits to be saved are written together.")
+    public int userDataSaveBatchSize = 64;
+
+    @Setting(value = "link-copied-region-files")
+    @Comment("If 'true', copying a world links its region files to the original world instead of copying them. \n"
+                                                          + "A region file is only copied once the copied world loads it, which makes copies of \n"
+                                                          + "large template worlds fast and small. Requires a file system that supports hard links. \n"
+                                                          + "Keep this enabled while linked copies exist, region files are only separated when a world \n"
+                                                          + "opens them while it is. Worlds that are loaded while being copied are always copied in full.")
+    public boolean linkCopiedRegionFiles = false;
+
+    @Setting(value = "volume-stream-writes-per-tick")
+    @Comment("The maximum amount of elements applied to a world per tick by a parallel volume stream. (Default: 4096) \n"
+                                                          + "Parallel streams read from chunk snapshots off the server thread and queue their writes, \n"
+                                                          + "which are then applied over as many ticks as needed.")
+    public int volumeStreamWritesPerTick = 4096;
+
     @Setting(value = "leaf-decay")
     @Comment("If 'true', natural leaf decay is allowed.")
     public boolean leafDecay = true;
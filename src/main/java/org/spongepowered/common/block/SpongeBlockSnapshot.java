@@ -55,6 +55,7 @@
 import org.spongepowered.common.SpongeCommon;
 import org.spongepowered.common.bridge.data.DataCompoundHolder;
 import org.spongepowered.common.bridge.data.DataContainerHolder;
+import org.spongepowered.common.bridge.world.TrackedWorldBridge;
 import org.spongepowered.common.data.holder.SpongeImmutableDataHolder;
 import org.spongepowered.common.data.persistence.NBTTranslator;
 import org.spongepowered.common.data.provider.nbt.NBTDataType;
@@ -99,11 +100,12 @@ public final class SpongeBlockSnapshot implements BlockSnapshot, SpongeImmutable
         this.worldKey = Objects.requireNonNull(builder.worldKey);
         this.pos = Objects.requireNonNull(builder.coordinates);
         this.blockPos = VecHelper.toBlockPos(this.pos);
-        if (copyCompound) {
+        if (copyCompound && !builder.compoundShared) {
             // defensive copy as the builder may further be modified
             this.compound = builder.compound == null ? null : builder.compound.copy();
         } else {
-            // pooled builder has been reset so this won't be modified.
+            // pooled builder has been reset so this won't be modified, and a
+            // compound shared with another snapshot is never modified either.
             this.compound = builder.compound;
         }
         this.changeFlag = builder.flag;
@@ -319,7 +321,7 @@ public BuilderImpl createBuilder() {
             builder.world(this.worldKey);
         }
         if (this.compound != null) {
-            builder.addUnsafeCompound(this.compound);
+            builder.sharedCompound(this.compound);
         }
         return builder;
     }
@@ -335,7 +337,7 @@ public BuilderImpl createBuilder() {
     @Override
     public BlockSnapshot data$withDataContainer(final DataContainer container) {
         final BuilderImpl builder = this.createBuilder();
-        builder.compound = NBTTranslator.INSTANCE.translate(container);;
+        builder.ownedCompound(NBTTranslator.INSTANCE.translate(container));
         return builder.build();
     }
 
@@ -426,6 +428,8 @@ public static BuilderImpl pooled() {
         Vector3i coordinates;
         @Nullable List<DataManipulator.Immutable> manipulators;
         @Nullable CompoundTag compound;
+        // Whether the compound belongs to a built snapshot and must be copied before it's modified
+        boolean compoundShared;
         SpongeBlockChangeFlag flag = (SpongeBlockChangeFlag) BlockChangeFlags.ALL;
         @Nullable WeakReference<ServerLevel> worldRef;
         private final boolean pooled;
@@ -449,7 +453,7 @@ public BuilderImpl world(final ResourceKey key) {
 
         public BuilderImpl world(final ServerLevel world) {
             this.worldKey = ((org.spongepowered.api.world.server.ServerWorld) Objects.requireNonNull(world)).key();
-            this.worldRef = new WeakReference<>(world);
+            this.worldRef = ((TrackedWorldBridge) world).bridge$weakReference();
             return this;
         }
 
@@ -468,7 +472,11 @@ public BuilderImpl blockState(final net.minecraft.world.level.block.state.BlockS
         @Override
         public @NonNull BuilderImpl position(final @NonNull Vector3i position) {
             this.coordinates = Objects.requireNonNull(position);
-            if (this.compound != null) {
+            if (this.compound != null && !this.isCompoundAt(position)) {
+                if (this.compoundShared) {
+                    this.compound = this.compound.copy();
+                    this.compoundShared = false;
+                }
                 this.compound.putInt(Constants.Sponge.BlockSnapshot.TILE_ENTITY_POSITION_X, position.x());
                 this.compound.putInt(Constants.Sponge.BlockSnapshot.TILE_ENTITY_POSITION_Y, position.y());
                 this.compound.putInt(Constants.Sponge.BlockSnapshot.TILE_ENTITY_POSITION_Z, position.z());
@@ -528,11 +536,12 @@ public BuilderImpl from(final SpongeBlockSnapshot snapshot) {
             this.worldKey = snapshot.world();
             this.worldRef = snapshot.world;
             if (snapshot.compound != null) {
-                // make a copy so that any changes to this compound in the builder
-                // (position) won't accidently be reflected in the original snapshot.
-                this.compound = snapshot.compound.copy();
+                // shared until the builder modifies it (position), so those changes
+                // won't accidently be reflected in the original snapshot.
+                this.sharedCompound(snapshot.compound);
             } else {
                 this.compound = null;
+                this.compoundShared = false;
             }
             this.coordinates = snapshot.position();
             this.flag = snapshot.getChangeFlag();
@@ -576,6 +585,7 @@ public SpongeBlockChangeFlag getFlag() {
             this.coordinates = null;
             this.manipulators = null;
             this.compound = null;
+            this.compoundShared = false;
             this.flag = null;
             return this;
         }
@@ -631,9 +641,44 @@ public BuilderImpl addUnsafeCompound(final CompoundTag compound) {
             Objects.requireNonNull(compound);
 
             this.compound = compound.copy();
+            this.compoundShared = false;
+            return this;
+        }
+
+        /**
+         * Uses the given compound without copying it, the caller hands over
+         * ownership and mustn't modify it afterwards.
+         *
+         * @param compound The compound
+         * @return This builder, for chaining
+         */
+        public BuilderImpl ownedCompound(final CompoundTag compound) {
+            this.compound = Objects.requireNonNull(compound);
+            this.compoundShared = false;
             return this;
         }
 
+        /**
+         * Uses the compound of a built snapshot, which is copied lazily if this
+         * builder has to modify it.
+         *
+         * @param compound The compound of a snapshot
+         * @return This builder, for chaining
+         */
+        BuilderImpl sharedCompound(final CompoundTag compound) {
+            this.compound = Objects.requireNonNull(compound);
+            this.compoundShared = true;
+            return this;
+        }
+
+        private boolean isCompoundAt(final Vector3i position) {
+            final CompoundTag compound = Objects.requireNonNull(this.compound);
+            return compound.contains(Constants.Sponge.BlockSnapshot.TILE_ENTITY_POSITION_X)
+                && compound.getInt(Constants.Sponge.BlockSnapshot.TILE_ENTITY_POSITION_X) == position.x()
+                && compound.getInt(Constants.Sponge.BlockSnapshot.TILE_ENTITY_POSITION_Y) == position.y()
+                && compound.getInt(Constants.Sponge.BlockSnapshot.TILE_ENTITY_POSITION_Z) == position.z();
+        }
+
         public BuilderImpl flag(final BlockChangeFlag flag) {
             this.flag = (SpongeBlockChangeFlag) flag;
             return this;
@@ -643,8 +688,7 @@ public BuilderImpl tileEntity(final BlockEntity added) {
             this.compound = null;
             final CompoundTag tag = new CompoundTag();
             added.save(tag);
-            this.compound = tag;
-            return this;
+            return this.ownedCompound(tag);
         }
     }
 
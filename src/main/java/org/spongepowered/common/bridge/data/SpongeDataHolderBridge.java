@@ -25,6 +25,8 @@
 package org.spongepowered.common.bridge.data;
 
 import com.google.common.collect.Multimap;
+import net.minecraft.nbt.CompoundTag;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.api.data.DataManipulator;
 import org.spongepowered.api.data.DataTransactionResult;
 import org.spongepowered.api.data.Key;
@@ -59,4 +61,17 @@ public interface SpongeDataHolderBridge {
     void bridge$invalidateFailedData();
 
     void bridge$addFailedData(DataQuery nameSpace, DataView keyedData);
+
+    /**
+     * Gets whether the given compound still holds the custom data written by
+     * the last serialization of this holder, that is neither the manipulator
+     * nor the failed data changed since {@link #bridge$markDataSerialized}
+     * was called with the same compound.
+     *
+     * @param compound The compound
+     * @return True if serializing again would not change the compound
+     */
+    boolean bridge$isSerializedDataCurrent(CompoundTag compound);
+
+    void bridge$markDataSerialized(@Nullable CompoundTag compound);
 }
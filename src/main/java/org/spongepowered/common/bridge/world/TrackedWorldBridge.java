@@ -32,12 +32,15 @@
 import org.spongepowered.common.bridge.server.level.ServerLevelBridge;
 import org.spongepowered.common.bridge.world.level.LevelBridge;
 import org.spongepowered.common.bridge.world.level.block.state.BlockStateBridge;
+import org.spongepowered.common.event.entity.MovementBatch;
 import org.spongepowered.common.event.tracking.PhaseContext;
 import org.spongepowered.common.event.tracking.context.transaction.TransactionalCaptureSupplier;
 import org.spongepowered.common.event.tracking.context.transaction.pipeline.WorldPipeline;
 
+import java.lang.ref.WeakReference;
 import java.util.Optional;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import net.minecraft.core.BlockPos;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.entity.Entity;
@@ -111,4 +114,29 @@ public interface TrackedWorldBridge {
      */
     SpongeBlockSnapshot bridge$createSnapshotWithEntity(BlockState state, BlockPos pos, BlockChangeFlag updateFlag, @Nullable BlockEntity tileEntity);
 
+    /**
+     * Gets the natural entity movements of the current tick, which are posted
+     * as a {@link org.spongepowered.common.event.entity.MoveEntityBatchEvent}
+     * once all entities are ticked.
+     *
+     * @return The movement batch
+     */
+    MovementBatch tracker$movementBatch();
+
+    /**
+     * Gets a weak reference to this world, shared by all captured block
+     * changes and snapshots instead of each allocating their own.
+     *
+     * @return The weak reference
+     */
+    WeakReference<ServerLevel> bridge$weakReference();
+
+    /**
+     * Gets a supplier of this world backed by {@link #bridge$weakReference()},
+     * which throws if the world has been dereferenced.
+     *
+     * @return The supplier
+     */
+    Supplier<ServerLevel> bridge$weakSupplier();
+
 }
@@ -28,9 +28,9 @@
 import org.spongepowered.api.entity.Entity;
 import org.spongepowered.api.util.Direction;
 import org.spongepowered.common.entity.PlayerTracker;
+import org.spongepowered.common.entity.PlayerTrackerTable;
 
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import net.minecraft.core.BlockPos;
@@ -40,9 +40,7 @@
 
 public interface LevelChunkBridge {
 
-    Map<Short, PlayerTracker> bridge$getTrackedShortPlayerPositions();
-
-    Map<Integer, PlayerTracker> bridge$getTrackedIntPlayerPositions();
+    PlayerTrackerTable bridge$getTrackedPlayerPositions();
 
     Optional<UUID> bridge$getBlockCreatorUUID(BlockPos pos);
 
@@ -54,9 +52,7 @@ public interface LevelChunkBridge {
 
     void bridge$addTrackedBlockPosition(Block block, BlockPos pos, UUID uuid, PlayerTracker.Type trackerType);
 
-    void bridge$setTrackedIntPlayerPositions(Map<Integer, PlayerTracker> trackedPlayerPositions);
-
-    void bridge$setTrackedShortPlayerPositions(Map<Short, PlayerTracker> trackedPlayerPositions);
+    void bridge$setTrackedPlayerPositions(PlayerTrackerTable trackedPlayerPositions);
 
     void bridge$setNeighbor(Direction direction, LevelChunk neighbor);
 
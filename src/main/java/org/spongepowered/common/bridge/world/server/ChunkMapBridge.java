@@ -30,4 +30,14 @@ public interface ChunkMapBridge {
 
     DistanceManagerBridge bridge$distanceManager();
 
+    /**
+     * Keeps chunks from being unloaded and points of interest from being
+     * written, so no chunk data is written to the region files of this world
+     * until {@link #bridge$resumeWrites()} is called. Level saving has to be
+     * disabled separately.
+     */
+    void bridge$pauseWrites();
+
+    void bridge$resumeWrites();
+
 }
@@ -28,6 +28,7 @@
 import org.spongepowered.api.ResourceKey;
 import org.spongepowered.api.data.DataHolder;
 import org.spongepowered.api.data.DataManipulator;
+import org.spongepowered.api.data.Key;
 import org.spongepowered.api.data.persistence.DataContainer;
 import org.spongepowered.api.data.persistence.DataQuery;
 import org.spongepowered.api.data.persistence.DataStore;
@@ -42,7 +43,9 @@
 
 import java.lang.reflect.Type;
 import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.Optional;
+import java.util.Set;
 
 public final class DataUtil {
 
@@ -64,12 +67,22 @@ public static <T extends SpongeDataHolderBridge & DataCompoundHolder> void deser
         if (compound == null) {
             return;
         }
-        final DataContainer allData = NBTTranslator.INSTANCE.translate(compound);
-
-        DataUtil.upgradeDataVersion(compound, allData); // Upgrade v2->v3
+        final Class<? extends DataHolder> typeToken = dataHolder.getClass().asSubclass(DataHolder.class);
+        final String spongeDataRoot = Constants.Sponge.Data.V3.SPONGE_DATA_ROOT.asString(".");
+        final DataContainer allData;
+        if (DataUtil.hasV2CustomData(compound) || SpongeDataManager.getDatastoreRegistry().hasVanillaDataStores(typeToken)) {
+            allData = NBTTranslator.INSTANCE.translate(compound);
+            DataUtil.upgradeDataVersion(compound, allData); // Upgrade v2->v3
+        } else if (compound.contains(spongeDataRoot, Constants.NBT.TAG_COMPOUND)) {
+            // Plugin data stores only read the custom data root, so leave the rest of the holder alone
+            allData = DataContainer.createNew();
+            allData.set(Constants.Sponge.Data.V3.SPONGE_DATA_ROOT, NBTTranslator.INSTANCE.translate(compound.getCompound(spongeDataRoot)));
+        } else {
+            dataHolder.bridge$mergeDeserialized(DataManipulator.mutableOf()); // Nothing to read, only initialize the sponge data holder
+            return;
+        }
 
         // Run content-updaters and collect failed data
-        final Class<? extends DataHolder> typeToken = dataHolder.getClass().asSubclass(DataHolder.class);
         allData.getView(Constants.Sponge.Data.V3.SPONGE_DATA_ROOT).ifPresent(customData -> {
             for (final DataQuery keyNamespace : customData.keys(false)) {
                 final DataView keyedData = customData.getView(keyNamespace).get();
@@ -105,6 +118,12 @@ public static <T extends SpongeDataHolderBridge & DataCompoundHolder> void deser
         }
     }
 
+    @SuppressWarnings("deprecation")
+    private static boolean hasV2CustomData(final CompoundTag compound) {
+        return compound.contains(Constants.Forge.FORGE_DATA, Constants.NBT.TAG_COMPOUND)
+            && compound.getCompound(Constants.Forge.FORGE_DATA).contains(Constants.Sponge.Data.V2.SPONGE_DATA);
+    }
+
     @SuppressWarnings("deprecation")
     public static void upgradeDataVersion(final CompoundTag compound, final DataContainer allData) {
         // Check for v2 data
@@ -174,24 +193,31 @@ private static void upgradeV2CustomData(final CompoundTag compound, final DataCo
 
     public static <T extends SpongeDataHolderBridge & DataCompoundHolder> boolean serializeSpongeData(final T dataHolder) {
         CompoundTag compound = dataHolder.data$getCompound();
+        if (compound != null && !compound.isEmpty() && dataHolder.bridge$isSerializedDataCurrent(compound)) {
+            return true; // Nothing changed since this compound was last written
+        }
         if (compound == null) {
             compound = new CompoundTag();
             dataHolder.data$setCompound(compound);
         }
         compound.remove(Constants.Sponge.Data.V3.SPONGE_DATA_ROOT.asString(".")); // Remove all previous SpongeData
 
-        final DataContainer allData = NBTTranslator.INSTANCE.translate(compound);
-
-        // Clear old custom data root
+        // The data stores only write what they hold, so they get a container of their own
+        // instead of a translation of the whole holder, which is merged back below
+        final DataContainer allData = DataContainer.createNew();
         final DataView customDataRoot = allData.createView(Constants.Sponge.Data.V3.SPONGE_DATA_ROOT);
 
         dataHolder.bridge$getFailedData().forEach(customDataRoot::set); // Add back failed data
 
         final DataManipulator.Mutable manipulator = dataHolder.bridge$getManipulator();
         final Type dataHolderType = dataHolder.getClass();
-        manipulator.getKeys().stream()
-                .map(key -> SpongeDataManager.getDatastoreRegistry().getDataStore(key, dataHolderType))
-                .forEach(dataStore -> dataStore.serialize(manipulator, allData));
+        final Set<DataStore> dataStores = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (final Key<?> key : manipulator.getKeys()) {
+            final DataStore dataStore = SpongeDataManager.getDatastoreRegistry().getDataStore(key, dataHolderType);
+            if (dataStores.add(dataStore)) { // A data store writes all of its keys at once
+                dataStore.serialize(manipulator, allData);
+            }
+        }
 
         // If data is still present after cleanup merge it back into nbt
         if (DataUtil.cleanupEmptySpongeData(allData)) {
@@ -199,8 +225,10 @@ public static <T extends SpongeDataHolderBridge & DataCompoundHolder> boolean se
         }
         if (compound.isEmpty()) {
             dataHolder.data$setCompound(null);
+            dataHolder.bridge$markDataSerialized(null);
             return false;
         }
+        dataHolder.bridge$markDataSerialized(compound);
         return true;
     }
 
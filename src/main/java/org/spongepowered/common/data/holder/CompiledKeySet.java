@@ -0,0 +1,224 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.data.holder;
+
+import com.google.common.collect.MapMaker;
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.api.data.DataHolder;
+import org.spongepowered.api.data.DataProvider;
+import org.spongepowered.api.data.Key;
+import org.spongepowered.api.data.value.Value;
+import org.spongepowered.common.data.SpongeDataManager;
+import org.spongepowered.common.data.provider.DataProviderLookup;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * A fixed set of {@link Key}s of which the values are read together from
+ * many {@link DataHolder}s, for example every online player each tick.
+ *
+ * <p>The {@link DataProvider}s of the keys are resolved once per provider
+ * lookup, so filling a {@link Buffer} is a single pass over pre-resolved
+ * providers instead of a provider lookup per key. Buffers are reusable and
+ * are cleared on every {@link #fill(DataHolder, Buffer)}.</p>
+ */
+public final class CompiledKeySet {
+
+    /**
+     * Compiles a key set for the given keys. Duplicate keys are ignored.
+     *
+     * @param keys The keys
+     * @return The compiled key set
+     */
+    public static CompiledKeySet of(final Key<?>... keys) {
+        return new CompiledKeySet(Arrays.stream(keys).distinct().toArray(Key<?>[]::new));
+    }
+
+    private final Key<?>[] keys;
+    private final Object2IntMap<Key<?>> indices;
+    // The lookups are replaced when providers get registered, so don't keep them alive
+    private final Map<DataProviderLookup, DataProvider<?, ?>[]> providers = new MapMaker().weakKeys().makeMap();
+
+    private CompiledKeySet(final Key<?>[] keys) {
+        this.keys = keys;
+        this.indices = new Object2IntOpenHashMap<>(keys.length);
+        this.indices.defaultReturnValue(-1);
+        for (int i = 0; i < keys.length; i++) {
+            this.indices.put(keys[i], i);
+        }
+    }
+
+    public int size() {
+        return this.keys.length;
+    }
+
+    public Key<?> key(final int index) {
+        return this.keys[index];
+    }
+
+    /**
+     * Gets the index of the given {@link Key} within this set.
+     *
+     * @param key The key
+     * @return The index, or -1 if the key isn't part of this set
+     */
+    public int indexOf(final Key<?> key) {
+        return this.indices.getInt(key);
+    }
+
+    /**
+     * Creates a new, empty buffer to {@link #fill(DataHolder, Buffer)}.
+     *
+     * @return The buffer
+     */
+    public Buffer newBuffer() {
+        return new Buffer(this);
+    }
+
+    /**
+     * Reads the values of all keys in this set from the given
+     * {@link DataHolder} into the buffer, replacing its previous contents.
+     *
+     * @param holder The data holder
+     * @param buffer The buffer to fill
+     * @return The amount of keys that had a value
+     */
+    public int fill(final DataHolder holder, final Buffer buffer) {
+        if (buffer.keySet != this) {
+            throw new IllegalArgumentException("The buffer was created for another key set");
+        }
+        buffer.clear();
+        if (!(holder instanceof SpongeDataHolder)) {
+            return this.fillFallback(holder, buffer);
+        }
+        final List<DataHolder> delegates = ((SpongeDataHolder) holder).impl$delegateDataHolder();
+        final int delegateCount = delegates.size();
+        if (delegateCount == 0) {
+            return 0;
+        }
+        final boolean[] resolved = delegateCount == 1 ? null : new boolean[this.keys.length];
+        int present = 0;
+        for (int d = 0; d < delegateCount; d++) {
+            final DataHolder delegate = delegates.get(d);
+            final DataProvider<?, ?>[] providers = this.providers(delegate.getClass());
+            for (int i = 0; i < providers.length; i++) {
+                if (resolved != null && resolved[i]) {
+                    continue;
+                }
+                final DataProvider<?, ?> provider = providers[i];
+                // Like SpongeDataHolder#impl$apply, the first delegate supporting the key wins
+                if (!provider.isSupported(delegate)) {
+                    continue;
+                }
+                if (resolved != null) {
+                    resolved[i] = true;
+                }
+                final Optional<?> value = provider.get(delegate);
+                if (value.isPresent()) {
+                    buffer.values[i] = value.get();
+                    present++;
+                }
+            }
+        }
+        return present;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private int fillFallback(final DataHolder holder, final Buffer buffer) {
+        int present = 0;
+        for (int i = 0; i < this.keys.length; i++) {
+            final Optional<?> value = holder.get((Key) this.keys[i]);
+            if (value.isPresent()) {
+                buffer.values[i] = value.get();
+                present++;
+            }
+        }
+        return present;
+    }
+
+    private DataProvider<?, ?>[] providers(final Class<?> holderType) {
+        final DataProviderLookup lookup = SpongeDataManager.getProviderRegistry().getProviderLookup(holderType);
+        return this.providers.computeIfAbsent(lookup, l -> l.getProviders(this.keys));
+    }
+
+    /**
+     * A reusable, flat result buffer of a {@link CompiledKeySet}, values are
+     * stored at the index of their key.
+     */
+    public static final class Buffer {
+
+        private final CompiledKeySet keySet;
+        private final Object[] values;
+
+        Buffer(final CompiledKeySet keySet) {
+            this.keySet = keySet;
+            this.values = new Object[keySet.keys.length];
+        }
+
+        public CompiledKeySet keySet() {
+            return this.keySet;
+        }
+
+        public boolean isPresent(final int index) {
+            return this.values[index] != null;
+        }
+
+        /**
+         * Gets the value at the given index.
+         *
+         * @param index The index of the key
+         * @return The value, or null if the holder didn't have it
+         */
+        public @Nullable Object get(final int index) {
+            return this.values[index];
+        }
+
+        /**
+         * Gets the value of the given {@link Key}.
+         *
+         * @param key The key
+         * @param <E> The element type
+         * @return The value, or null if the holder didn't have it
+         * @throws IllegalArgumentException If the key isn't part of the key set
+         */
+        @SuppressWarnings("unchecked")
+        public <E> @Nullable E get(final Key<? extends Value<E>> key) {
+            final int index = this.keySet.indexOf(key);
+            if (index == -1) {
+                throw new IllegalArgumentException("The key " + key.key() + " isn't part of the key set");
+            }
+            return (E) this.values[index];
+        }
+
+        public void clear() {
+            Arrays.fill(this.values, null);
+        }
+    }
+}
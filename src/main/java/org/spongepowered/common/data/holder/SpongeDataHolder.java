@@ -76,7 +76,10 @@ public interface SpongeDataHolder extends DataHolder {
     }
 
     default <T, E, V extends Value<E>> T impl$apply(final Key<V> key, final BiFunction<DataProvider, DataHolder, T> function, final Supplier<T> defaultResult) {
-        for (final DataHolder dataHolder : this.impl$delegateDataHolder()) {
+        // Indexed to avoid an iterator on this hot path, delegates are random access lists
+        final List<DataHolder> delegates = this.impl$delegateDataHolder();
+        for (int i = 0; i < delegates.size(); i++) {
+            final DataHolder dataHolder = delegates.get(i);
             final DataProvider<V, E> dataProvider = this.impl$getProviderFor(key, dataHolder);
             if (dataProvider.isSupported(dataHolder)) {
                 return function.apply(dataProvider, dataHolder);
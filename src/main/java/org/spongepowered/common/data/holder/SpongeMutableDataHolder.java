@@ -60,8 +60,15 @@ public interface SpongeMutableDataHolder extends SpongeDataHolder, DataHolder.Mu
     }
 
     default <E, V extends Value<E>> DataTransactionResult impl$applyTransaction(Key<V> key, BiFunction<DataProvider<V, E>, Mutable, DataTransactionResult> function, Supplier<DataTransactionResult> defaultResult) {
-        for (Mutable dataHolder : this.impl$mutableDelegateDataHolder()) {
+        // Iterate the delegates directly rather than collecting the mutable ones, this runs on every offer
+        final List<DataHolder> delegates = this.impl$delegateDataHolder();
+        for (int i = 0; i < delegates.size(); i++) {
+            final DataHolder delegate = delegates.get(i);
+            if (!(delegate instanceof Mutable)) {
+                continue;
+            }
             // Offer to the first available mutable data holder
+            final Mutable dataHolder = (Mutable) delegate;
             final DataProvider<V, E> dataProvider = this.impl$getProviderFor(key, dataHolder);
             if (!dataProvider.isSupported(dataHolder)) {
                 return defaultResult.get();
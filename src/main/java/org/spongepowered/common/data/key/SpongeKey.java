@@ -40,11 +40,14 @@
 
 import java.lang.reflect.Type;
 import java.util.Comparator;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiPredicate;
 import java.util.function.Supplier;
 
 public final class SpongeKey<V extends Value<E>, E> extends AbstractResourceKeyed implements Key<V> {
 
+    private static final AtomicInteger NEXT_ORDINAL = new AtomicInteger();
+
     private final Type valueType;
     private final Type elementType;
     private final Comparator<? super E> elementComparator;
@@ -52,6 +55,7 @@
     private final ValueConstructor<V, E> valueConstructor;
     private final Supplier<E> defaultValueSupplier;
     private final EmptyDataProvider<V, E> emptyDataProvider;
+    private final int ordinal;
 
     public SpongeKey(final ResourceKey key, final Type valueType, final Type elementType,
             final Comparator<? super E> elementComparator,
@@ -65,6 +69,17 @@ public SpongeKey(final ResourceKey key, final Type valueType, final Type element
         this.defaultValueSupplier = defaultValueSupplier;
         this.emptyDataProvider = new EmptyDataProvider<>(this);
         this.valueConstructor = ValueConstructorFactory.getConstructor(this);
+        this.ordinal = SpongeKey.NEXT_ORDINAL.getAndIncrement();
+    }
+
+    /**
+     * Gets the amount of keys created so far, which is one more than the
+     * highest {@link #ordinal()} handed out.
+     *
+     * @return The key count
+     */
+    public static int count() {
+        return SpongeKey.NEXT_ORDINAL.get();
     }
 
     @Override
@@ -104,4 +119,14 @@ public Supplier<E> getDefaultValueSupplier() {
     public EmptyDataProvider<V, E> getEmptyDataProvider() {
         return this.emptyDataProvider;
     }
+
+    /**
+     * Gets the dense index of this key, assigned in creation order, so
+     * lookups per key can be backed by plain arrays.
+     *
+     * @return The ordinal
+     */
+    public int ordinal() {
+        return this.ordinal;
+    }
 }
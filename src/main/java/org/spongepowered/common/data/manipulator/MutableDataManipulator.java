@@ -46,6 +46,8 @@
 @SuppressWarnings("unchecked")
 final class MutableDataManipulator extends SpongeDataManipulator implements DataManipulator.Mutable {
 
+    private int modifications;
+
     MutableDataManipulator() {
         super(new HashMap<>());
     }
@@ -54,6 +56,10 @@ final class MutableDataManipulator extends SpongeDataManipulator implements Data
         super(values);
     }
 
+    int modifications() {
+        return this.modifications;
+    }
+
     @Override
     public Mutable asMutableCopy() {
         return this.copy();
@@ -70,6 +76,7 @@ public Mutable copyFrom(final ValueContainer valueContainer, final MergeFunction
         checkNotNull(valueContainer, "valueContainer");
         checkNotNull(predicate, "predicate");
         checkNotNull(overlap, "overlap");
+        this.modifications++;
         if (valueContainer instanceof SpongeDataManipulator) {
             // Do this to prevent unnecessary object allocations
             final SpongeDataManipulator manipulator = (SpongeDataManipulator) valueContainer;
@@ -117,6 +124,7 @@ public Mutable copyFrom(final ValueContainer valueContainer, final MergeFunction
         checkNotNull(valueContainer, "valueContainer");
         checkNotNull(overlap, "overlap");
         checkNotNull(keys, "keys");
+        this.modifications++;
         if (valueContainer instanceof SpongeDataManipulator) {
             // Do this to prevent unnecessary object allocations
             final SpongeDataManipulator manipulator = (SpongeDataManipulator) valueContainer;
@@ -131,6 +139,7 @@ public Mutable copyFrom(final ValueContainer valueContainer, final MergeFunction
     public Mutable copyFrom(final ValueContainer valueContainer, final MergeFunction overlap) {
         checkNotNull(valueContainer, "valueContainer");
         checkNotNull(overlap, "overlap");
+        this.modifications++;
         MutableDataManipulator.copyFrom(this.values, valueContainer, overlap);
         return this;
     }
@@ -169,6 +178,7 @@ private static void copyFrom(final Map<Key<?>, Object> values, final MergeFuncti
     public <E> Mutable set(final Key<? extends Value<E>> key, final E value) {
         checkNotNull(key, "key");
         checkNotNull(value, "value");
+        this.modifications++;
         this.values.put(key, CopyHelper.copy(value));
         return this;
     }
@@ -176,6 +186,7 @@ public <E> Mutable set(final Key<? extends Value<E>> key, final E value) {
     @Override
     public Mutable remove(final Key<?> key) {
         checkNotNull(key, "key");
+        this.modifications++;
         this.values.remove(key);
         return this;
     }
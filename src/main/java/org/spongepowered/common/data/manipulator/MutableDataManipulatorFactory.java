@@ -33,6 +33,7 @@
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
+import java.util.OptionalInt;
 
 public final class MutableDataManipulatorFactory implements DataManipulator.Mutable.Factory {
 
@@ -46,6 +47,22 @@ public DataManipulator.Mutable of(final Iterable<? extends Value<?>> values) {
         return new MutableDataManipulator(MutableDataManipulatorFactory.mapValues(values));
     }
 
+    /**
+     * Gets a counter that changes every time the given manipulator is
+     * modified, so callers can tell whether a manipulator changed since they
+     * last looked at it without comparing its values.
+     *
+     * @param manipulator The manipulator
+     * @return The modification counter, or empty if the manipulator does not
+     *     track its modifications
+     */
+    public static OptionalInt modifications(final DataManipulator.Mutable manipulator) {
+        if (manipulator instanceof MutableDataManipulator) {
+            return OptionalInt.of(((MutableDataManipulator) manipulator).modifications());
+        }
+        return OptionalInt.empty();
+    }
+
     static Map<Key<?>, Object> mapValues(final Iterable<? extends Value<?>> values) {
         Objects.requireNonNull(values);
 
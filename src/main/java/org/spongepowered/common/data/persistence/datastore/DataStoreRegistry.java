@@ -52,7 +52,8 @@ public final class DataStoreRegistry {
     private final List<DataStore> allDataStores = new ArrayList<>();
 
     private final Map<LookupKey, DataStore> dataStoreCache = new ConcurrentHashMap<>();
-    private final Multimap<Type, DataStore> dataStoreByTokenCache = HashMultimap.create();
+    private final Map<Type, Collection<DataStore>> dataStoreByTokenCache = new ConcurrentHashMap<>();
+    private final Map<Type, Boolean> vanillaDataStoreByTokenCache = new ConcurrentHashMap<>();
 
     public void register(final DataStore dataStore, Iterable<Key<?>> keys) {
         keys.forEach(k -> this.dataStoreByValueKey.put(k, dataStore));
@@ -63,6 +64,7 @@ public void register(final DataStore dataStore, Iterable<Key<?>> keys) {
         this.allDataStores.add(dataStore);
         this.dataStoreCache.clear();
         this.dataStoreByTokenCache.clear();
+        this.vanillaDataStoreByTokenCache.clear();
     }
 
     public Collection<DataStore> getDataStores(Key<?> dataKey) {
@@ -104,14 +106,28 @@ private List<DataStore> filterDataStoreCandidates(Collection<DataStore> candidat
     }
 
     public Collection<DataStore> getDataStoresForType(Class<? extends DataHolder> holderType) {
-        if (!this.dataStoreByTokenCache.containsKey(holderType)) {
+        return this.dataStoreByTokenCache.computeIfAbsent(holderType, type -> {
+            final List<DataStore> dataStores = new ArrayList<>();
             for (DataStore dataStore : this.allDataStores) {
-                if (dataStore.supportedTypes().stream().anyMatch(token -> GenericTypeReflector.isSuperType(token, holderType))) {
-                    this.dataStoreByTokenCache.put(holderType, dataStore);
+                if (dataStore.supportedTypes().stream().anyMatch(token -> GenericTypeReflector.isSuperType(token, type))) {
+                    dataStores.add(dataStore);
                 }
             }
-        }
-        return this.dataStoreByTokenCache.get(holderType);
+            return Collections.unmodifiableList(dataStores);
+        });
+    }
+
+    /**
+     * Gets whether any of the data stores for the given holder type is not a
+     * {@link SpongeDataStore}. Those may read and write anywhere in the data
+     * of a holder, whereas plugin data stores only touch the custom data root.
+     *
+     * @param holderType The data holder type
+     * @return True if there are vanilla data stores for the type
+     */
+    public boolean hasVanillaDataStores(final Class<? extends DataHolder> holderType) {
+        return this.vanillaDataStoreByTokenCache.computeIfAbsent(holderType, type -> this.getDataStoresForType(holderType).stream()
+            .anyMatch(dataStore -> !(dataStore instanceof SpongeDataStore)));
     }
 
     private static class LookupKey {
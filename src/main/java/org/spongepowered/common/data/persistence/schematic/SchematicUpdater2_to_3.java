@@ -31,11 +31,10 @@
 import org.spongepowered.api.data.persistence.DataView;
 import org.spongepowered.api.data.persistence.InvalidDataException;
 import org.spongepowered.api.registry.Registry;
-import org.spongepowered.api.registry.RegistryTypes;
 import org.spongepowered.api.world.biome.Biome;
 import org.spongepowered.api.world.schematic.PaletteTypes;
 import org.spongepowered.common.util.Constants;
-import org.spongepowered.common.world.schematic.MutableBimapPalette;
+import org.spongepowered.common.world.schematic.MutableArrayPalette;
 import org.spongepowered.common.world.schematic.SchematicTranslator;
 import org.spongepowered.common.world.volume.VolumeStreamUtils;
 import org.spongepowered.common.world.volume.buffer.biome.ByteArrayMutableBiomeBuffer;
@@ -101,10 +100,9 @@ public DataView update(final DataView content) {
 
             final Set<DataQuery> biomeKeys = palette.keys(false);
             final Registry<Biome> biomeRegistry = VolumeStreamUtils.nativeToSpongeRegistry(BuiltinRegistries.BIOME);
-            final MutableBimapPalette<Biome, Biome> biomePalette = new MutableBimapPalette<>(
+            final MutableArrayPalette<Biome, Biome> biomePalette = new MutableArrayPalette<>(
                 PaletteTypes.BIOME_PALETTE.get(),
                 biomeRegistry,
-                RegistryTypes.BIOME,
                 biomeKeys.size()
             );
             final ByteArrayMutableBiomeBuffer biomeBuffer = new ByteArrayMutableBiomeBuffer(
@@ -62,4 +62,20 @@ public final class DataProviderLookup {
     public <V extends Value<E>, E> DataProvider<V, E> getProvider(Key<V> key) {
         return (DataProvider<V, E>) this.providerMap.getOrDefault(key, ((SpongeKey<V, E>) key).getEmptyDataProvider());
     }
+
+    /**
+     * Gets the delegate {@link DataProvider}s for all the given {@link Key}s,
+     * in the same order as the keys.
+     *
+     * @param keys The keys
+     * @return The delegate providers
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public DataProvider<?, ?>[] getProviders(final Key<?>[] keys) {
+        final DataProvider<?, ?>[] providers = new DataProvider<?, ?>[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            providers[i] = this.getProvider((Key) keys[i]);
+        }
+        return providers;
+    }
 }
@@ -26,6 +26,7 @@
 
 import com.google.common.collect.HashMultimap;
 import com.google.common.collect.Multimap;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.api.data.DataProvider;
 import org.spongepowered.api.data.Key;
 import org.spongepowered.api.data.value.Value;
@@ -44,8 +45,8 @@
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -77,13 +78,15 @@ public boolean equals(final Object o) {
 
         @Override
         public int hashCode() {
-            return Objects.hash(this.holderType, this.key);
+            return 31 * this.holderType.hashCode() + this.key.hashCode();
         }
 
     }
     private final Multimap<Key<?>, DataProvider<?,?>> dataProviders = HashMultimap.create();
     private final Map<LookupKey, DataProvider<?,?>> dataProviderCache = new ConcurrentHashMap<>();
     private final Map<Class<?>, DataProviderLookup> dataProviderLookupCache = new ConcurrentHashMap<>();
+    // Providers of SpongeKeys per holder type, indexed by key ordinal and filled in lazily
+    private final Map<Class<?>, AtomicReferenceArray<DataProvider<?, ?>>> dataProviderTableCache = new ConcurrentHashMap<>();
 
     private static boolean filterHolderType(final DataProvider<?,?> provider, final Class<?> holderType) {
         // Filter out data providers of which we know that they will never be relevant.
@@ -94,9 +97,24 @@ private static boolean filterHolderType(final DataProvider<?,?> provider, final
         return true;
     }
 
-    @SuppressWarnings("unchecked")
     private DataProvider<?,?> loadProvider(final LookupKey key) {
-        return this.buildDelegate((Key<Value<Object>>) key.key, provider -> DataProviderRegistry.filterHolderType(provider, key.holderType));
+        return this.loadProvider(key.key, key.holderType);
+    }
+
+    @SuppressWarnings("unchecked")
+    private DataProvider<?,?> loadProvider(final Key<?> key, final Class<?> holderType) {
+        return this.buildDelegate((Key<Value<Object>>) key, provider -> DataProviderRegistry.filterHolderType(provider, holderType));
+    }
+
+    private AtomicReferenceArray<DataProvider<?, ?>> getProviderTable(final Class<?> dataHolderType, final int ordinal) {
+        final @Nullable AtomicReferenceArray<DataProvider<?, ?>> table = this.dataProviderTableCache.get(dataHolderType);
+        if (table != null && ordinal < table.length()) {
+            return table;
+        }
+        // Keys created after the table was sized, grow it to fit all of them
+        return this.dataProviderTableCache.compute(dataHolderType, (type, existing) -> existing != null && ordinal < existing.length()
+            ? existing
+            : new AtomicReferenceArray<>(Math.max(SpongeKey.count(), ordinal + 1)));
     }
 
     @SuppressWarnings(value = {"unchecked", "rawtypes"})
@@ -191,6 +209,16 @@ public Collection<DataProvider<?,?>> getAllProviders(final Class<?> dataHolderTy
      */
     @SuppressWarnings({"unchecked"})
     public <V extends Value<E>, E> DataProvider<V, E> getProvider(final Key<V> key, final Class<?> dataHolderType) {
+        if (key instanceof SpongeKey) {
+            final int ordinal = ((SpongeKey<V, E>) key).ordinal();
+            final AtomicReferenceArray<DataProvider<?, ?>> table = this.getProviderTable(dataHolderType, ordinal);
+            @Nullable DataProvider<?, ?> provider = table.get(ordinal);
+            if (provider == null) {
+                provider = this.loadProvider(key, dataHolderType);
+                table.set(ordinal, provider);
+            }
+            return (DataProvider<V, E>) provider;
+        }
         return (DataProvider<V, E>) this.dataProviderCache.computeIfAbsent(new LookupKey(dataHolderType, key), this::loadProvider);
     }
 
@@ -203,6 +231,7 @@ public void register(final DataProvider<?,?> provider) {
         this.dataProviders.put(provider.key(), provider);
         this.dataProviderCache.clear();
         this.dataProviderLookupCache.clear();
+        this.dataProviderTableCache.clear();
     }
 
     public void registerDefaultProviders() {
@@ -0,0 +1,183 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.entity;
+
+import it.unimi.dsi.fastutil.ints.Int2LongMap;
+import it.unimi.dsi.fastutil.ints.Int2LongOpenHashMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import net.minecraft.core.BlockPos;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.IntArrayTag;
+import net.minecraft.nbt.ListTag;
+import net.minecraft.nbt.Tag;
+import org.spongepowered.common.util.Constants;
+
+/**
+ * The creator and notifier indices of the tracked block positions of a chunk.
+ *
+ * <p>Positions are packed into an int key holding the chunk local x and z
+ * coordinates and the full y coordinate, and both indices are packed into
+ * a single long value, so no objects are allocated per tracked block. A
+ * missing index is stored as {@code -1}.</p>
+ *
+ * <p>The table is serialized as one {@link IntArrayTag} per chunk section,
+ * holding a {@code (local position, creator, notifier)} triple for each
+ * tracked block of the section.</p>
+ */
+public final class PlayerTrackerTable {
+
+    private static final long NONE = -1L;
+    private static final int ENTRY_LENGTH = 3;
+
+    private final Int2LongOpenHashMap trackers = new Int2LongOpenHashMap();
+
+    public PlayerTrackerTable() {
+        this.trackers.defaultReturnValue(PlayerTrackerTable.NONE);
+    }
+
+    public static int key(final BlockPos pos) {
+        return PlayerTrackerTable.key(pos.getX(), pos.getY(), pos.getZ());
+    }
+
+    private static int key(final int x, final int y, final int z) {
+        return (y << 8) | ((z & 0xF) << 4) | (x & 0xF);
+    }
+
+    private static long pack(final int creatorIndex, final int notifierIndex) {
+        return ((long) creatorIndex << 32) | (notifierIndex & 0xFFFFFFFFL);
+    }
+
+    public boolean isEmpty() {
+        return this.trackers.isEmpty();
+    }
+
+    public int size() {
+        return this.trackers.size();
+    }
+
+    public boolean contains(final int key) {
+        return this.trackers.containsKey(key);
+    }
+
+    public int creatorIndex(final int key) {
+        return (int) (this.trackers.get(key) >> 32);
+    }
+
+    public int notifierIndex(final int key) {
+        return (int) this.trackers.get(key);
+    }
+
+    public void set(final int key, final int creatorIndex, final int notifierIndex) {
+        if (creatorIndex == -1 && notifierIndex == -1) {
+            this.trackers.remove(key);
+        } else {
+            this.trackers.put(key, PlayerTrackerTable.pack(creatorIndex, notifierIndex));
+        }
+    }
+
+    public void setCreatorIndex(final int key, final int creatorIndex) {
+        this.set(key, creatorIndex, this.notifierIndex(key));
+    }
+
+    public void setNotifierIndex(final int key, final int notifierIndex) {
+        this.set(key, this.creatorIndex(key), notifierIndex);
+    }
+
+    public void remove(final int key) {
+        this.trackers.remove(key);
+    }
+
+    /**
+     * Writes the table into the given compound, as one {@link IntArrayTag}
+     * per chunk section keyed by the section y coordinate.
+     *
+     * @param compound The compound to write to
+     */
+    public void write(final CompoundTag compound) {
+        final Int2ObjectMap<IntArrayList> sections = new Int2ObjectOpenHashMap<>();
+        for (final Int2LongMap.Entry entry : this.trackers.int2LongEntrySet()) {
+            final int key = entry.getIntKey();
+            final long value = entry.getLongValue();
+            final IntArrayList section = sections.computeIfAbsent(key >> 12, k -> new IntArrayList());
+            section.add(key & 0xFFF);
+            section.add((int) (value >> 32));
+            section.add((int) value);
+        }
+        for (final Int2ObjectMap.Entry<IntArrayList> section : sections.int2ObjectEntrySet()) {
+            compound.putIntArray(Integer.toString(section.getIntKey()), section.getValue().toIntArray());
+        }
+    }
+
+    /**
+     * Reads a table written by {@link #write(CompoundTag)}.
+     *
+     * @param compound The compound to read from
+     * @return The table
+     */
+    public static PlayerTrackerTable read(final CompoundTag compound) {
+        final PlayerTrackerTable table = new PlayerTrackerTable();
+        for (final String sectionKey : compound.getAllKeys()) {
+            final int sectionY;
+            try {
+                sectionY = Integer.parseInt(sectionKey);
+            } catch (final NumberFormatException e) {
+                continue;
+            }
+            final int[] entries = compound.getIntArray(sectionKey);
+            for (int i = 0; i + PlayerTrackerTable.ENTRY_LENGTH <= entries.length; i += PlayerTrackerTable.ENTRY_LENGTH) {
+                table.set((sectionY << 12) | entries[i], entries[i + 1], entries[i + 2]);
+            }
+        }
+        return table;
+    }
+
+    /**
+     * Reads a table from the {@link Constants.Sponge#SPONGE_BLOCK_POS_TABLE}
+     * list, which stored a compound for every tracked position.
+     *
+     * @param list The legacy position list
+     * @return The table
+     */
+    public static PlayerTrackerTable readLegacy(final ListTag list) {
+        final PlayerTrackerTable table = new PlayerTrackerTable();
+        for (final Tag tag : list) {
+            final CompoundTag data = (CompoundTag) tag;
+            final int creatorIndex = data.contains("owner") ? data.getInt("owner") : -1;
+            final int notifierIndex = data.contains("notifier") ? data.getInt("notifier") : -1;
+            final int key;
+            if (data.contains("pos")) {
+                final short pos = data.getShort("pos");
+                key = PlayerTrackerTable.key(pos & Constants.Chunk.XZ_MASK, (pos >> 4) & Constants.Chunk.Y_SHORT_MASK, (pos >> 12) & Constants.Chunk.XZ_MASK);
+            } else {
+                final int pos = data.getInt("ipos");
+                key = PlayerTrackerTable.key(pos & Constants.Chunk.XZ_MASK, (pos >> 4) & Constants.Chunk.Y_INT_MASK, (pos >>> 28) & Constants.Chunk.XZ_MASK);
+            }
+            table.set(key, creatorIndex, notifierIndex);
+        }
+        return table;
+    }
+}
@@ -0,0 +1,174 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.entity;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.Arrays;
+import java.util.UUID;
+
+/**
+ * An append-only table assigning indices to player unique ids, used by the
+ * creator and notifier tracking of blocks.
+ *
+ * <p>The unique ids are stored as two longs per index in a single array,
+ * and the reverse lookup is an open addressing hash table of indices into
+ * that array. Lookups don't lock and may happen from any thread, for
+ * example during async chunk serialization. New unique ids are appended
+ * while holding the lock of the index.</p>
+ */
+public final class PlayerUniqueIdIndex {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    // Two longs per index, the most and least significant bits
+    private volatile long[] uniqueIds = new long[PlayerUniqueIdIndex.INITIAL_CAPACITY * 2];
+    // Slots hold index + 1, zero marks an empty slot. The length is a power of two
+    private volatile int[] slots = new int[PlayerUniqueIdIndex.INITIAL_CAPACITY * 2];
+    // Written last when appending, so entries below it are fully visible
+    private volatile int size;
+
+    private static int hash(final long mostSignificantBits, final long leastSignificantBits) {
+        final long hash = mostSignificantBits ^ leastSignificantBits;
+        final int h = (int) (hash ^ (hash >>> 32));
+        return h ^ (h >>> 16);
+    }
+
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Gets the index of the unique id, or {@code -1} if it has none yet.
+     *
+     * @param uniqueId The unique id
+     * @return The index
+     */
+    public int indexOf(final UUID uniqueId) {
+        final long most = uniqueId.getMostSignificantBits();
+        final long least = uniqueId.getLeastSignificantBits();
+        final int size = this.size;
+        final long[] uniqueIds = this.uniqueIds;
+        final int[] slots = this.slots;
+        final int mask = slots.length - 1;
+        for (int slot = PlayerUniqueIdIndex.hash(most, least) & mask; ; slot = (slot + 1) & mask) {
+            final int index = slots[slot] - 1;
+            if (index == -1) {
+                return -1;
+            }
+            // Entries at or above the size may not be visible yet, treat them as missing
+            if (index < size && uniqueIds[index * 2] == most && uniqueIds[index * 2 + 1] == least) {
+                return index;
+            }
+        }
+    }
+
+    /**
+     * Gets the index of the unique id, assigning the next free index if the
+     * unique id has none yet.
+     *
+     * @param uniqueId The unique id
+     * @return The index
+     */
+    public int getOrAssign(final UUID uniqueId) {
+        final int index = this.indexOf(uniqueId);
+        if (index != -1) {
+            return index;
+        }
+        synchronized (this) {
+            final int existing = this.indexOf(uniqueId);
+            if (existing != -1) {
+                return existing;
+            }
+            return this.append(uniqueId.getMostSignificantBits(), uniqueId.getLeastSignificantBits());
+        }
+    }
+
+    public @Nullable UUID get(final int index) {
+        if (index < 0 || index >= this.size) {
+            return null;
+        }
+        final long[] uniqueIds = this.uniqueIds;
+        return new UUID(uniqueIds[index * 2], uniqueIds[index * 2 + 1]);
+    }
+
+    /**
+     * Gets a copy of the unique ids, as two longs per index.
+     *
+     * @return The unique ids
+     */
+    public long[] toLongArray() {
+        final int size = this.size;
+        return Arrays.copyOf(this.uniqueIds, size * 2);
+    }
+
+    /**
+     * Appends the unique ids read from a {@link #toLongArray()} copy,
+     * skipping those which already have an index.
+     *
+     * @param uniqueIds The unique ids, as two longs per index
+     */
+    public synchronized void addAll(final long[] uniqueIds) {
+        for (int i = 0; i + 1 < uniqueIds.length; i += 2) {
+            if (this.indexOf(new UUID(uniqueIds[i], uniqueIds[i + 1])) == -1) {
+                this.append(uniqueIds[i], uniqueIds[i + 1]);
+            }
+        }
+    }
+
+    private int append(final long most, final long least) {
+        final int index = this.size;
+        long[] uniqueIds = this.uniqueIds;
+        if (index * 2 == uniqueIds.length) {
+            uniqueIds = Arrays.copyOf(uniqueIds, uniqueIds.length * 2);
+        }
+        uniqueIds[index * 2] = most;
+        uniqueIds[index * 2 + 1] = least;
+        this.uniqueIds = uniqueIds;
+
+        // Keep the load factor of the slots at or below one half
+        if ((index + 1) * 2 > this.slots.length) {
+            final int[] slots = new int[this.slots.length * 2];
+            for (int i = 0; i < index; i++) {
+                PlayerUniqueIdIndex.insert(slots, uniqueIds[i * 2], uniqueIds[i * 2 + 1], i);
+            }
+            PlayerUniqueIdIndex.insert(slots, most, least, index);
+            this.slots = slots;
+        } else {
+            PlayerUniqueIdIndex.insert(this.slots, most, least, index);
+        }
+        this.size = index + 1;
+        return index;
+    }
+
+    private static void insert(final int[] slots, final long most, final long least, final int index) {
+        final int mask = slots.length - 1;
+        int slot = PlayerUniqueIdIndex.hash(most, least) & mask;
+        while (slots[slot] != 0) {
+            slot = (slot + 1) & mask;
+        }
+        slots[slot] = index + 1;
+    }
+}
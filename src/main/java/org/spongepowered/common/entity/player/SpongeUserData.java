@@ -96,7 +96,6 @@
 
 import java.io.File;
 import java.io.FileInputStream;
-import java.io.FileOutputStream;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -172,6 +171,18 @@ public static SpongeUserData create(final GameProfile profile) throws IOExceptio
         }
     }
 
+    /**
+     * Creates a user from a {@link #snapshot()} that has not been written to
+     * disk yet.
+     *
+     * @param profile The profile of the user
+     * @param snapshot The snapshot
+     * @return The user
+     */
+    public static SpongeUserData fromSnapshot(final GameProfile profile, final CompoundTag snapshot) {
+        return new SpongeUserData(profile, snapshot.copy());
+    }
+
     private SpongeUserData(final GameProfile profile, final CompoundTag tag) {
         this.profile = profile;
         this.compound = tag;
@@ -428,23 +439,25 @@ public void markDirty() {
         ((SpongeServer) SpongeCommon.server()).userManager().markDirty(this);
     }
 
-    public void save() throws IOException {
+    /**
+     * Writes the current state of this user to its data tag and returns a
+     * copy of it, which may be written to disk from another thread.
+     *
+     * @return The data tag to save
+     */
+    public CompoundTag snapshot() {
         synchronized (this) {
-            final SpongeUserManager userManager = ((SpongeServer) SpongeCommon.server()).userManager();
-            final LevelStorageSource.LevelStorageAccess storageSource = ((MinecraftServerAccessor) Sponge.server()).accessor$storageSource();
-            final File file = storageSource.getLevelPath(LevelResource.PLAYER_DATA_DIR).resolve(this.uniqueId() + ".dat").toFile();
             this.writeCompound(this.compound);
-            try (final FileOutputStream out = new FileOutputStream(file)) {
-                NbtIo.writeCompressed(this.compound, out);
-                userManager.unmarkDirty(this);
-            } catch (final IOException e) {
-                // We log the message here because the error may be swallowed by a completable future.
-                SpongeCommon.logger().warn("Failed to save user file [{}]!", file, e);
-                throw e;
-            }
+            return this.compound.copy();
         }
     }
 
+    public void save() throws IOException {
+        final SpongeUserManager userManager = ((SpongeServer) SpongeCommon.server()).userManager();
+        userManager.writeNow(this.uniqueId(), this.snapshot());
+        userManager.unmarkDirty(this);
+    }
+
     // Helpers for Equipment:
 
     private void setEquippedItem(final Supplier<? extends EquipmentType> type, final @Nullable ItemStack item) {
@@ -0,0 +1,180 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.api.entity.Entity;
+import org.spongepowered.api.event.Event;
+import org.spongepowered.api.event.entity.MoveEntityEvent;
+import org.spongepowered.api.event.entity.RotateEntityEvent;
+import org.spongepowered.api.event.filter.Getter;
+import org.spongepowered.api.event.filter.cause.First;
+import org.spongepowered.api.event.filter.cause.Root;
+import org.spongepowered.common.event.entity.MoveEntityBatchEvent;
+import org.spongepowered.common.event.manager.RegisteredListener;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * An entity scoped companion of {@link ShouldFire}, for events which are
+ * fired for every entity on every tick. Listeners which only accept a
+ * specific kind of entity, for example through {@code @Root ServerPlayer},
+ * only enable the event for the entities that match.
+ *
+ * <p>The flags are updated by the event manager while it holds its lock,
+ * and read without locking while entities are ticked. The matching
+ * {@link ShouldFire} flag must still be checked first.</p>
+ */
+public final class EntityShouldFire {
+
+    public static final EntityShouldFire MOVE_ENTITY_EVENT = new EntityShouldFire(MoveEntityEvent.class);
+    public static final EntityShouldFire ROTATE_ENTITY_EVENT = new EntityShouldFire(RotateEntityEvent.class);
+    public static final EntityShouldFire MOVE_ENTITY_BATCH_EVENT = new EntityShouldFire(MoveEntityBatchEvent.class);
+
+    private static final EntityShouldFire[] VALUES = {
+            EntityShouldFire.MOVE_ENTITY_EVENT, EntityShouldFire.ROTATE_ENTITY_EVENT, EntityShouldFire.MOVE_ENTITY_BATCH_EVENT };
+
+    private final Class<? extends Event> eventType;
+    // Only accessed by the event manager while holding its lock
+    private final Map<Class<?>, Integer> scopedListeners = new HashMap<>();
+    private int unscopedListeners;
+
+    private volatile State state = State.NONE;
+
+    private EntityShouldFire(final Class<? extends Event> eventType) {
+        this.eventType = eventType;
+    }
+
+    /**
+     * Gets whether the event should be fired for the given entity.
+     *
+     * @param entity The entity
+     * @return True if a listener may receive the event
+     */
+    public boolean shouldFire(final net.minecraft.world.entity.Entity entity) {
+        final State state = this.state;
+        if (state.any) {
+            return true;
+        }
+        if (state.scopes.length == 0) {
+            return false;
+        }
+        final Class<?> entityClass = entity.getClass();
+        final Boolean cached = state.byEntityClass.get(entityClass);
+        if (cached != null) {
+            return cached;
+        }
+        boolean result = false;
+        for (final Class<?> scope : state.scopes) {
+            if (scope.isAssignableFrom(entityClass)) {
+                result = true;
+                break;
+            }
+        }
+        state.byEntityClass.put(entityClass, result);
+        return result;
+    }
+
+    private void update(final RegisteredListener<?> listener, final boolean registered) {
+        if (!listener.getEventType().getType().isAssignableFrom(this.eventType) || !listener.acceptsEventClass(this.eventType)) {
+            return;
+        }
+        final @Nullable Class<?> scope = listener.getEntityScope();
+        if (scope == null) {
+            this.unscopedListeners += registered ? 1 : -1;
+        } else if (registered) {
+            this.scopedListeners.merge(scope, 1, Integer::sum);
+        } else {
+            this.scopedListeners.computeIfPresent(scope, (key, count) -> count == 1 ? null : count - 1);
+        }
+        this.state = new State(this.unscopedListeners > 0, this.scopedListeners.keySet().toArray(new Class<?>[0]));
+    }
+
+    /**
+     * Updates all the entity scoped flags after the listener was registered.
+     *
+     * @param listener The listener
+     */
+    public static void register(final RegisteredListener<?> listener) {
+        for (final EntityShouldFire shouldFire : EntityShouldFire.VALUES) {
+            shouldFire.update(listener, true);
+        }
+    }
+
+    /**
+     * Updates all the entity scoped flags after the listener was unregistered.
+     *
+     * @param listener The listener
+     */
+    public static void unregister(final RegisteredListener<?> listener) {
+        for (final EntityShouldFire shouldFire : EntityShouldFire.VALUES) {
+            shouldFire.update(listener, false);
+        }
+    }
+
+    /**
+     * Finds the type of entity a listener method requires from the filters on
+     * its parameters. The entity of a natural movement is both the root and
+     * the first cause of the event, any type filters only narrow the
+     * parameter type further.
+     *
+     * @param method The listener method
+     * @return The entity type, or null if the listener accepts any entity
+     */
+    public static @Nullable Class<?> findEntityScope(final Method method) {
+        final Parameter[] parameters = method.getParameters();
+        for (int i = 1; i < parameters.length; i++) {
+            final Parameter parameter = parameters[i];
+            final Class<?> type = parameter.getType();
+            if (!Entity.class.isAssignableFrom(type) || type == Entity.class) {
+                continue;
+            }
+            final @Nullable Getter getter = parameter.getAnnotation(Getter.class);
+            if ((getter != null && getter.value().equals("entity"))
+                    || parameter.isAnnotationPresent(Root.class) || parameter.isAnnotationPresent(First.class)) {
+                return type;
+            }
+        }
+        return null;
+    }
+
+    private static final class State {
+
+        static final State NONE = new State(false, new Class<?>[0]);
+
+        final boolean any;
+        final Class<?>[] scopes;
+        final Map<Class<?>, Boolean> byEntityClass = new ConcurrentHashMap<>();
+
+        State(final boolean any, final Class<?>[] scopes) {
+            this.any = any;
+            this.scopes = scopes;
+        }
+    }
+}
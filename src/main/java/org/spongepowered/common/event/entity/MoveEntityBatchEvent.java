@@ -0,0 +1,147 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event.entity;
+
+import org.spongepowered.api.entity.Entity;
+import org.spongepowered.api.event.Cause;
+import org.spongepowered.api.event.Event;
+import org.spongepowered.api.world.server.ServerWorld;
+
+import java.util.BitSet;
+
+/**
+ * Posted once per world tick with all the natural entity movements of that
+ * tick, after the individual {@link org.spongepowered.api.event.entity.MoveEntityEvent}s.
+ *
+ * <p>The movements are exposed as parallel arrays, where the positions of
+ * the movement at index {@code i} are stored at {@code i * 3}, {@code i * 3 + 1}
+ * and {@code i * 3 + 2}. Only the first {@link #size()} movements of the
+ * arrays are valid, and the arrays are reused by the following ticks so they
+ * must not be retained by listeners.</p>
+ *
+ * <p>A movement can be cancelled with {@link #setCancelled(int, boolean)},
+ * which moves the entity back to its original position, or redirected by
+ * changing its destination position.</p>
+ */
+public final class MoveEntityBatchEvent implements Event {
+
+    private final Cause cause;
+    private final ServerWorld world;
+    private final int size;
+    private final Entity[] entities;
+    private final int[] entityIds;
+    private final double[] originalPositions;
+    private final double[] destinationPositions;
+    private final BitSet cancelled = new BitSet();
+
+    MoveEntityBatchEvent(final Cause cause, final ServerWorld world, final int size, final Entity[] entities, final int[] entityIds,
+            final double[] originalPositions, final double[] destinationPositions) {
+        this.cause = cause;
+        this.world = world;
+        this.size = size;
+        this.entities = entities;
+        this.entityIds = entityIds;
+        this.originalPositions = originalPositions;
+        this.destinationPositions = destinationPositions;
+    }
+
+    @Override
+    public Cause cause() {
+        return this.cause;
+    }
+
+    public ServerWorld world() {
+        return this.world;
+    }
+
+    /**
+     * Gets the amount of movements in this event.
+     *
+     * @return The amount of movements
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Gets the entity of the movement at the given index.
+     *
+     * @param index The index of the movement
+     * @return The entity
+     */
+    public Entity entity(final int index) {
+        return this.entities[this.checkIndex(index)];
+    }
+
+    /**
+     * Gets the network ids of the moved entities.
+     *
+     * @return The entity ids, which must not be modified
+     */
+    public int[] entityIds() {
+        return this.entityIds;
+    }
+
+    /**
+     * Gets the positions the entities moved from.
+     *
+     * @return The original positions, which must not be modified
+     */
+    public double[] originalPositions() {
+        return this.originalPositions;
+    }
+
+    /**
+     * Gets the positions the entities will be moved to. Changing a position
+     * redirects the movement.
+     *
+     * @return The destination positions
+     */
+    public double[] destinationPositions() {
+        return this.destinationPositions;
+    }
+
+    public void setDestinationPosition(final int index, final double x, final double y, final double z) {
+        final int offset = this.checkIndex(index) * 3;
+        this.destinationPositions[offset] = x;
+        this.destinationPositions[offset + 1] = y;
+        this.destinationPositions[offset + 2] = z;
+    }
+
+    public boolean isCancelled(final int index) {
+        return this.cancelled.get(this.checkIndex(index));
+    }
+
+    public void setCancelled(final int index, final boolean cancelled) {
+        this.cancelled.set(this.checkIndex(index), cancelled);
+    }
+
+    private int checkIndex(final int index) {
+        if (index < 0 || index >= this.size) {
+            throw new IndexOutOfBoundsException("Index " + index + " is out of bounds for size " + this.size);
+        }
+        return index;
+    }
+}
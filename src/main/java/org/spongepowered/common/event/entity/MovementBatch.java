@@ -0,0 +1,125 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event.entity;
+
+import net.minecraft.server.level.ServerLevel;
+import org.spongepowered.api.entity.Entity;
+import org.spongepowered.api.event.CauseStackManager;
+import org.spongepowered.api.event.EventContextKeys;
+import org.spongepowered.api.event.cause.entity.MovementTypes;
+import org.spongepowered.api.world.server.ServerWorld;
+import org.spongepowered.common.SpongeCommon;
+import org.spongepowered.common.event.tracking.PhaseTracker;
+
+import java.util.Arrays;
+
+/**
+ * Collects the natural entity movements of a world during a tick, to be
+ * posted as a single {@link MoveEntityBatchEvent} once all entities have
+ * been ticked. The buffers are reused between ticks.
+ */
+public final class MovementBatch {
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    private int size;
+    private Entity[] entities = new Entity[MovementBatch.INITIAL_CAPACITY];
+    private int[] entityIds = new int[MovementBatch.INITIAL_CAPACITY];
+    private double[] originalPositions = new double[MovementBatch.INITIAL_CAPACITY * 3];
+    private double[] destinationPositions = new double[MovementBatch.INITIAL_CAPACITY * 3];
+
+    /**
+     * Records the movement the entity made during its tick, if it moved far
+     * enough to be considered a movement.
+     *
+     * @param entity The entity
+     */
+    public void record(final net.minecraft.world.entity.Entity entity) {
+        if (entity.removed) {
+            return;
+        }
+        final double deltaX = entity.xOld - entity.getX();
+        final double deltaY = entity.yOld - entity.getY();
+        final double deltaZ = entity.zOld - entity.getZ();
+        if (deltaX * deltaX + deltaY * deltaY + deltaZ * deltaZ < 1f / 256) {
+            return;
+        }
+        if (this.size == this.entities.length) {
+            final int capacity = this.size * 2;
+            this.entities = Arrays.copyOf(this.entities, capacity);
+            this.entityIds = Arrays.copyOf(this.entityIds, capacity);
+            this.originalPositions = Arrays.copyOf(this.originalPositions, capacity * 3);
+            this.destinationPositions = Arrays.copyOf(this.destinationPositions, capacity * 3);
+        }
+        final int index = this.size++;
+        final int offset = index * 3;
+        this.entities[index] = (Entity) entity;
+        this.entityIds[index] = entity.getId();
+        this.originalPositions[offset] = entity.xOld;
+        this.originalPositions[offset + 1] = entity.yOld;
+        this.originalPositions[offset + 2] = entity.zOld;
+        this.destinationPositions[offset] = entity.getX();
+        this.destinationPositions[offset + 1] = entity.getY();
+        this.destinationPositions[offset + 2] = entity.getZ();
+    }
+
+    /**
+     * Posts the recorded movements and applies the cancellations and
+     * redirections of the listeners, then clears the batch.
+     *
+     * @param level The world the movements happened in
+     */
+    public void post(final ServerLevel level) {
+        if (this.size == 0) {
+            return;
+        }
+        try (final CauseStackManager.StackFrame frame = PhaseTracker.getCauseStackManager().pushCauseFrame()) {
+            frame.pushCause(level);
+            frame.addContext(EventContextKeys.MOVEMENT_TYPE, MovementTypes.NATURAL);
+
+            final MoveEntityBatchEvent event = new MoveEntityBatchEvent(frame.currentCause(), (ServerWorld) level, this.size, this.entities,
+                    this.entityIds, this.originalPositions, this.destinationPositions);
+            SpongeCommon.post(event);
+
+            for (int i = 0; i < this.size; i++) {
+                final net.minecraft.world.entity.Entity entity = (net.minecraft.world.entity.Entity) this.entities[i];
+                if (entity.removed) {
+                    continue;
+                }
+                final double[] positions = event.isCancelled(i) ? this.originalPositions : this.destinationPositions;
+                final int offset = i * 3;
+                final double x = positions[offset];
+                final double y = positions[offset + 1];
+                final double z = positions[offset + 2];
+                if (x != entity.getX() || y != entity.getY() || z != entity.getZ()) {
+                    entity.setPos(x, y, z);
+                }
+            }
+        } finally {
+            Arrays.fill(this.entities, 0, this.size, null);
+            this.size = 0;
+        }
+    }
+}
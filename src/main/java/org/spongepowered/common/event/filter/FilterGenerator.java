@@ -40,6 +40,7 @@
 import static org.objectweb.asm.Opcodes.RETURN;
 import static org.objectweb.asm.Opcodes.V1_6;
 
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.objectweb.asm.ClassWriter;
 import org.objectweb.asm.MethodVisitor;
 import org.objectweb.asm.Type;
@@ -57,8 +58,6 @@
 import org.spongepowered.api.event.filter.data.GetValue;
 import org.spongepowered.api.event.filter.data.Has;
 import org.spongepowered.api.event.filter.data.Supports;
-import org.spongepowered.api.event.filter.type.Exclude;
-import org.spongepowered.api.event.filter.type.Include;
 import org.spongepowered.api.util.Tristate;
 import org.spongepowered.api.util.Tuple;
 import org.spongepowered.common.event.filter.delegate.AfterCauseFilterSourceDelegate;
@@ -66,18 +65,15 @@
 import org.spongepowered.common.event.filter.delegate.BeforeCauseFilterSourceDelegate;
 import org.spongepowered.common.event.filter.delegate.CancellationEventFilterDelegate;
 import org.spongepowered.common.event.filter.delegate.ContextValueFilterSourceDelegate;
-import org.spongepowered.common.event.filter.delegate.ExcludeSubtypeFilterDelegate;
 import org.spongepowered.common.event.filter.delegate.FilterDelegate;
 import org.spongepowered.common.event.filter.delegate.FirstCauseFilterSourceDelegate;
 import org.spongepowered.common.event.filter.delegate.GetValueFilterSourceDelegate;
 import org.spongepowered.common.event.filter.delegate.GetterFilterSourceDelegate;
 import org.spongepowered.common.event.filter.delegate.HasDataFilterDelegate;
-import org.spongepowered.common.event.filter.delegate.IncludeSubtypeFilterDelegate;
 import org.spongepowered.common.event.filter.delegate.LastCauseFilterSourceDelegate;
 import org.spongepowered.common.event.filter.delegate.ParameterFilterDelegate;
 import org.spongepowered.common.event.filter.delegate.ParameterFilterSourceDelegate;
 import org.spongepowered.common.event.filter.delegate.RootCauseFilterSourceDelegate;
-import org.spongepowered.common.event.filter.delegate.SubtypeFilterDelegate;
 import org.spongepowered.common.event.filter.delegate.SupportsDataFilterDelegate;
 import org.spongepowered.common.event.gen.LoaderClassWriter;
 import org.spongepowered.common.util.generator.GeneratorUtils;
@@ -106,11 +102,17 @@ public static FilterGenerator getInstance() {
     FilterGenerator() {
     }
 
-    public byte[] generateClass(String name, Method method) {
-        name = name.replace('.', '/');
-        Parameter[] params = method.getParameters();
-
-        SubtypeFilterDelegate sfilter = null;
+    /**
+     * Reads the filter annotations of the listener method.
+     *
+     * @param method The listener method
+     * @return The filter, or null if the method is not filtered
+     */
+    public @Nullable Filter createFilter(final Method method) {
+        final Parameter[] params = method.getParameters();
+
+        // @Include and @Exclude are not part of the generated filter, they
+        // are resolved by the event manager when baking the listeners.
         final List<FilterDelegate> additional = new ArrayList<>();
         boolean cancellation = false;
         for (Annotation anno : method.getAnnotations()) {
@@ -118,12 +120,7 @@ public byte[] generateClass(String name, Method method) {
             if (obj == null) {
                 continue;
             }
-            if (obj instanceof SubtypeFilter) {
-                if (sfilter != null) {
-                    throw new IllegalStateException("Cannot have both @Include and @Exclude annotations present at once");
-                }
-                sfilter = ((SubtypeFilter) obj).getDelegate(anno);
-            } else if (obj instanceof EventTypeFilter) {
+            if (obj instanceof EventTypeFilter) {
                 EventTypeFilter etf = (EventTypeFilter) obj;
                 additional.add(etf.getDelegate(anno));
                 if (etf == EventTypeFilter.CANCELLATION) {
@@ -136,7 +133,17 @@ public byte[] generateClass(String name, Method method) {
         }
 
         // we know there are no filters, skip generating a class
-        if (additional.isEmpty() && sfilter == null && params.length == 1) {
+        if (additional.isEmpty() && params.length == 1) {
+            return null;
+        }
+        return new Filter(method, additional);
+    }
+
+    public byte[] generateClass(String name, Method method) {
+        name = name.replace('.', '/');
+        final Parameter[] params = method.getParameters();
+        final @Nullable Filter filter = this.createFilter(method);
+        if (filter == null) {
             return null;
         }
 
@@ -145,17 +152,11 @@ public byte[] generateClass(String name, Method method) {
 
         cw.visit(V1_6, ACC_PUBLIC + ACC_FINAL + ACC_SUPER, name, null, "java/lang/Object", new String[] { Type.getInternalName(EventFilter.class) });
 
-        if (sfilter != null) {
-            sfilter.createFields(cw);
-        }
         {
             mv = cw.visitMethod(ACC_PUBLIC, "<init>", "()V", null, null);
             mv.visitCode();
             mv.visitVarInsn(ALOAD, 0);
             mv.visitMethodInsn(INVOKESPECIAL, "java/lang/Object", "<init>", "()V", false);
-            if (sfilter != null) {
-                sfilter.writeCtor(name, cw, mv);
-            }
             mv.visitInsn(RETURN);
             mv.visitMaxs(0, 0);
             mv.visitEnd();
@@ -163,51 +164,7 @@ public byte[] generateClass(String name, Method method) {
         {
             mv = cw.visitMethod(ACC_PUBLIC, "filter", "(" + Type.getDescriptor(Event.class) + ")[Ljava/lang/Object;", null, null);
             mv.visitCode();
-            // index of the next available local variable
-            int local = 2;
-            if (sfilter != null) {
-                local = sfilter.write(name, cw, mv, method, local);
-            }
-            for (FilterDelegate eventFilter : additional) {
-                local = eventFilter.write(name, cw, mv, method, local);
-            }
-
-            // local var indices of the parameters values
-            int[] plocals = new int[params.length - 1];
-            for (int i = 1; i < params.length; i++) {
-                Parameter param = params[i];
-                ParameterFilterSourceDelegate source = null;
-                List<ParameterFilterDelegate> paramFilters = new ArrayList<>();
-                for (Annotation anno : param.getAnnotations()) {
-                    Object obj = FilterGenerator.filterFromAnnotation(anno.annotationType());
-                    if (obj == null) {
-                        continue;
-                    }
-                    if (obj instanceof ParameterSource) {
-                        if (source != null) {
-                            throw new IllegalStateException("Cannot have multiple parameter filter source annotations (for " + param.getName() + ")");
-                        }
-                        source = ((ParameterSource) obj).getDelegate(anno);
-                    } else if (obj instanceof ParameterFilter) {
-                        paramFilters.add(((ParameterFilter) obj).getDelegate(anno));
-                    }
-                }
-                if (source == null) {
-                    throw new IllegalStateException("Cannot have additional parameters filters without a source (for " + param.getName() + ")");
-                }
-                if (source instanceof AllCauseFilterSourceDelegate && !paramFilters.isEmpty()) {
-                    // TODO until better handling for filtering arrays is added
-                    throw new IllegalStateException(
-                            "Cannot have additional parameters filters without an array source (for " + param.getName() + ")");
-                }
-                final Tuple<Integer, Integer> localState = source.write(cw, mv, method, i, local, plocals, params);
-                local = localState.first();
-                plocals[i - 1] = localState.second();
-
-                for (ParameterFilterDelegate paramFilter : paramFilters) {
-                    paramFilter.write(cw, mv, method, param, plocals[i - 1]);
-                }
-            }
+            final int[] plocals = filter.write(name, cw, mv, 2);
 
             // create the return array
             if (params.length == 1) {
@@ -237,6 +194,19 @@ public byte[] generateClass(String name, Method method) {
         cw.visitEnd();
         byte[] data = cw.toByteArray();
 
+        FilterGenerator.dumpClass(name, data);
+
+        return data;
+    }
+
+    /**
+     * Writes the class to the debug output directory, if filter
+     * debugging is enabled.
+     *
+     * @param name The internal name of the class
+     * @param data The class bytes
+     */
+    public static void dumpClass(final String name, final byte[] data) {
         if (FilterGenerator.FILTER_DEBUG) {
             File outDir = new File(".sponge.debug.out");
             File outFile = new File(outDir, name + ".class");
@@ -249,14 +219,10 @@ public byte[] generateClass(String name, Method method) {
                 ignored.printStackTrace();
             }
         }
-
-        return data;
     }
 
     private static Object filterFromAnnotation(Class<? extends Annotation> cls) {
         Object filter;
-        if ((filter = SubtypeFilter.valueOf(cls)) != null)
-            return filter;
         if ((filter = EventTypeFilter.valueOf(cls)) != null)
             return filter;
         if ((filter = ParameterSource.valueOf(cls)) != null)
@@ -266,38 +232,6 @@ private static Object filterFromAnnotation(Class<? extends Annotation> cls) {
         return null;
     }
 
-    private enum SubtypeFilter {
-        INCLUDE(Include.class, IncludeSubtypeFilterDelegate::new),
-        EXCLUDE(Exclude.class, ExcludeSubtypeFilterDelegate::new),
-        ;
-
-        private static final Map<Class<? extends Annotation>, SubtypeFilter> BY_CLAZZ;
-        private final Class<? extends Annotation> cls;
-        private final Function<Annotation, SubtypeFilterDelegate> factory;
-
-        @SuppressWarnings("unchecked")
-        <T extends Annotation> SubtypeFilter(final Class<? extends Annotation> cls, final Function<T, SubtypeFilterDelegate> factory) {
-            this.cls = cls;
-            this.factory = (Function<Annotation, SubtypeFilterDelegate>) factory;
-        }
-
-        public SubtypeFilterDelegate getDelegate(final Annotation anno) {
-            return this.factory.apply(anno);
-        }
-
-        public static SubtypeFilter valueOf(final Class<? extends Annotation> cls) {
-            return SubtypeFilter.BY_CLAZZ.get(cls);
-        }
-
-        static {
-            final Map<Class<? extends Annotation>, SubtypeFilter> byClazz = new HashMap<>();
-            for (final SubtypeFilter value : SubtypeFilter.values()) {
-                byClazz.put(value.cls, value);
-            }
-            BY_CLAZZ = Collections.unmodifiableMap(byClazz);
-        }
-    }
-
     private enum EventTypeFilter {
         CANCELLATION(IsCancelled.class, CancellationEventFilterDelegate::new),
         ;
@@ -400,6 +334,78 @@ public static ParameterFilter valueOf(final Class<? extends Annotation> cls) {
         }
     }
 
+    /**
+     * The filter conditions of a listener method, which can be written into
+     * any generated class. The code written by {@link #write} rejects an
+     * event by returning null from the method it is written into.
+     */
+    public static final class Filter {
+
+        private final Method method;
+        private final List<FilterDelegate> additional;
+
+        Filter(final Method method, final List<FilterDelegate> additional) {
+            this.method = method;
+            this.additional = additional;
+        }
+
+        /**
+         * Writes the filter conditions, the event is expected in local
+         * variable 1.
+         *
+         * @param name The internal name of the generated class
+         * @param cw The class writer
+         * @param mv The method visitor
+         * @param local The index of the next available local variable
+         * @return The local variable indices of the extracted parameter
+         *     values, excluding the event
+         */
+        public int[] write(final String name, final ClassWriter cw, final MethodVisitor mv, int local) {
+            final Parameter[] params = this.method.getParameters();
+            for (FilterDelegate eventFilter : this.additional) {
+                local = eventFilter.write(name, cw, mv, this.method, local);
+            }
+
+            // local var indices of the parameters values
+            int[] plocals = new int[params.length - 1];
+            for (int i = 1; i < params.length; i++) {
+                Parameter param = params[i];
+                ParameterFilterSourceDelegate source = null;
+                List<ParameterFilterDelegate> paramFilters = new ArrayList<>();
+                for (Annotation anno : param.getAnnotations()) {
+                    Object obj = FilterGenerator.filterFromAnnotation(anno.annotationType());
+                    if (obj == null) {
+                        continue;
+                    }
+                    if (obj instanceof ParameterSource) {
+                        if (source != null) {
+                            throw new IllegalStateException("Cannot have multiple parameter filter source annotations (for " + param.getName() + ")");
+                        }
+                        source = ((ParameterSource) obj).getDelegate(anno);
+                    } else if (obj instanceof ParameterFilter) {
+                        paramFilters.add(((ParameterFilter) obj).getDelegate(anno));
+                    }
+                }
+                if (source == null) {
+                    throw new IllegalStateException("Cannot have additional parameters filters without a source (for " + param.getName() + ")");
+                }
+                if (source instanceof AllCauseFilterSourceDelegate && !paramFilters.isEmpty()) {
+                    // TODO until better handling for filtering arrays is added
+                    throw new IllegalStateException(
+                            "Cannot have additional parameters filters without an array source (for " + param.getName() + ")");
+                }
+                final Tuple<Integer, Integer> localState = source.write(cw, mv, this.method, i, local, plocals, params);
+                local = localState.first();
+                plocals[i - 1] = localState.second();
+
+                for (ParameterFilterDelegate paramFilter : paramFilters) {
+                    paramFilter.write(cw, mv, this.method, param, plocals[i - 1]);
+                }
+            }
+            return plocals;
+        }
+    }
+
     private static final class Holder {
 
         static final FilterGenerator INSTANCE = new FilterGenerator();
@@ -26,6 +26,7 @@
 
 import static com.google.common.base.Preconditions.checkNotNull;
 
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.api.event.Event;
 import org.spongepowered.api.event.EventListener;
 import org.spongepowered.api.event.Order;
@@ -49,13 +50,28 @@
 
     private final boolean beforeModifications;
 
+    // The subtypes from @Include and @Exclude, these are resolved when baking
+    private final Class<?> @Nullable [] includedTypes;
+    private final Class<?> @Nullable [] excludedTypes;
+    // The entity type required by the parameter filters, see EntityShouldFire
+    private final @Nullable Class<?> entityScope;
+
     RegisteredListener(
             final PluginContainer plugin, final EventType<T> eventType, final Order order, final EventListener<? super T> listener, final boolean beforeModifications) {
+        this(plugin, eventType, order, listener, beforeModifications, null, null, null);
+    }
+
+    RegisteredListener(
+            final PluginContainer plugin, final EventType<T> eventType, final Order order, final EventListener<? super T> listener, final boolean beforeModifications,
+            final Class<?> @Nullable [] includedTypes, final Class<?> @Nullable [] excludedTypes, final @Nullable Class<?> entityScope) {
         this.plugin = checkNotNull(plugin, "plugin");
         this.eventType = checkNotNull(eventType, "eventType");
         this.order = checkNotNull(order, "order");
         this.listener = checkNotNull(listener, "listener");
         this.beforeModifications = beforeModifications;
+        this.includedTypes = includedTypes;
+        this.excludedTypes = excludedTypes;
+        this.entityScope = entityScope;
     }
 
     public PluginContainer getPlugin() {
@@ -74,6 +90,62 @@ public boolean isBeforeModifications() {
         return this.beforeModifications;
     }
 
+    /**
+     * Gets the type of entity this listener requires, if the listener
+     * only accepts events for a specific kind of entity.
+     *
+     * @return The entity type, or null if any entity is accepted
+     */
+    public @Nullable Class<?> getEntityScope() {
+        return this.entityScope;
+    }
+
+    /**
+     * Gets whether events of the given class pass the {@code @Include} and
+     * {@code @Exclude} filters of this listener.
+     *
+     * @param eventClass The concrete event class
+     * @return True if the listener accepts the events
+     */
+    public boolean acceptsEventClass(final Class<?> eventClass) {
+        if (this.includedTypes != null) {
+            for (final Class<?> type : this.includedTypes) {
+                if (type.isAssignableFrom(eventClass)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        if (this.excludedTypes != null) {
+            for (final Class<?> type : this.excludedTypes) {
+                if (type.isAssignableFrom(eventClass)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Gets the event types whose {@link org.spongepowered.common.event.ShouldFire}
+     * flags this listener enables. When the listener only includes subtypes
+     * of its event type, only the flags of those subtypes are enabled.
+     *
+     * @return The event types
+     */
+    public Class<?>[] getShouldFireTypes() {
+        final Class<?> type = this.eventType.getType();
+        if (this.includedTypes == null) {
+            return new Class<?>[] { type };
+        }
+        final Class<?>[] types = new Class<?>[this.includedTypes.length];
+        for (int i = 0; i < types.length; i++) {
+            // Included types which aren't subtypes can't narrow the flags down
+            types[i] = type.isAssignableFrom(this.includedTypes[i]) ? this.includedTypes[i] : type;
+        }
+        return types;
+    }
+
     @Override
     public Object getHandle() {
         if (this.listener instanceof SpongeEventListener) {
@@ -95,10 +167,16 @@ public int compareTo(final RegisteredListener<?> handler) {
 
     public static final class Cache {
 
+        private static final RegisteredListener<?>[] NO_LISTENERS = new RegisteredListener<?>[0];
+
         private final List<RegisteredListener<?>> listeners;
         private final List<RegisteredListener<?>> beforeModifications = new ArrayList<>();
         private final List<RegisteredListener<?>> afterModifications = new ArrayList<>();
         private final EnumMap<Order, List<RegisteredListener<?>>> listenersByOrder;
+        // Baked copies of the lists above, used when posting events
+        private final RegisteredListener<?>[] listenerArray;
+        private final RegisteredListener<?>[] beforeModificationsArray;
+        private final RegisteredListener<?>[] afterModificationsArray;
 
         Cache(final List<RegisteredListener<?>> listeners) {
             this.listeners = listeners;
@@ -113,12 +191,45 @@ public static final class Cache {
                     this.afterModifications.add(handler);
                 }
             }
+            this.listenerArray = listeners.toArray(Cache.NO_LISTENERS);
+            this.beforeModificationsArray = this.beforeModifications.toArray(Cache.NO_LISTENERS);
+            this.afterModificationsArray = this.afterModifications.toArray(Cache.NO_LISTENERS);
         }
 
         public List<RegisteredListener<?>> getListeners() {
             return this.listeners;
         }
 
+        /**
+         * Gets all the listeners, ordered by their {@link Order}. The
+         * returned array is shared and must not be modified.
+         *
+         * @return The listeners
+         */
+        public RegisteredListener<?>[] getListenerArray() {
+            return this.listenerArray;
+        }
+
+        /**
+         * Gets the listeners which are called before modifications, the
+         * returned array is shared and must not be modified.
+         *
+         * @return The listeners
+         */
+        public RegisteredListener<?>[] beforeModificationsArray() {
+            return this.beforeModificationsArray;
+        }
+
+        /**
+         * Gets the listeners which are called after modifications, the
+         * returned array is shared and must not be modified.
+         *
+         * @return The listeners
+         */
+        public RegisteredListener<?>[] afterModificationsArray() {
+            return this.afterModificationsArray;
+        }
+
         public List<RegisteredListener<?>> getListenersByOrder(final Order order) {
             final List<RegisteredListener<?>> list = this.listenersByOrder.get(Objects.requireNonNull(order, "order"));
             if (list == null) {
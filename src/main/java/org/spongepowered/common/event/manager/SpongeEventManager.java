@@ -41,12 +41,14 @@
 import org.spongepowered.api.event.GenericEvent;
 import org.spongepowered.api.event.Listener;
 import org.spongepowered.api.event.Order;
+import org.spongepowered.api.event.filter.type.Exclude;
+import org.spongepowered.api.event.filter.type.Include;
 import org.spongepowered.api.event.impl.AbstractEvent;
 import org.spongepowered.api.event.item.inventory.container.InteractContainerEvent;
 import org.spongepowered.common.SpongeCommon;
 import org.spongepowered.common.bridge.world.inventory.container.ContainerBridge;
+import org.spongepowered.common.event.EntityShouldFire;
 import org.spongepowered.common.event.ShouldFire;
-import org.spongepowered.common.event.filter.FilterFactory;
 import org.spongepowered.common.event.gen.DefineableClassLoader;
 import org.spongepowered.common.event.tracking.PhaseContext;
 import org.spongepowered.common.event.tracking.PhaseTracker;
@@ -61,6 +63,7 @@
 import java.lang.reflect.Modifier;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -72,7 +75,6 @@
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
-import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 public abstract class SpongeEventManager implements EventManager {
@@ -89,6 +91,12 @@ public abstract class SpongeEventManager implements EventManager {
      */
     protected final LoadingCache<EventType<?>, RegisteredListener.Cache> handlersCache =
             Caffeine.newBuilder().initialCapacity(150).build(this::bakeHandlers);
+    /**
+     * The handlers of non generic events, keyed by the event class. This
+     * avoids creating an {@link EventType} for every posted event. The map
+     * is replaced when handlers are added or removed.
+     */
+    private volatile Map<Class<?>, RegisteredListener.Cache> handlersByClass = new ConcurrentHashMap<>(150, 0.75f, 1);
     private final Map<ClassLoader, AnnotatedEventListener.Factory> classLoaders;
     private final Set<Object> registeredListeners;
 
@@ -142,6 +150,9 @@ public SpongeEventManager() {
         if (method.getReturnType() != void.class) {
             errors.add("method must return void");
         }
+        if (method.isAnnotationPresent(Include.class) && method.isAnnotationPresent(Exclude.class)) {
+            errors.add("method cannot have both @Include and @Exclude annotations");
+        }
         final Class<?>[] parameters = method.getParameterTypes();
         if (parameters.length == 0 || !Event.class.isAssignableFrom(parameters[0])) {
             errors.add("method must have an Event as its first parameter");
@@ -152,15 +163,22 @@ public SpongeEventManager() {
         return String.join(", ", errors);
     }
 
-    @SuppressWarnings({"unchecked", "rawtypes"})
     private static <T extends Event> RegisteredListener<T> createRegistration(final PluginContainer plugin, final Type eventType,
             final Order order, final boolean beforeModifications, final EventListener<? super T> handler) {
+        return SpongeEventManager.createRegistration(plugin, eventType, order, beforeModifications, handler, null, null, null);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static <T extends Event> RegisteredListener<T> createRegistration(final PluginContainer plugin, final Type eventType,
+            final Order order, final boolean beforeModifications, final EventListener<? super T> handler,
+            final Class<?> @Nullable [] includedTypes, final Class<?> @Nullable [] excludedTypes, final @Nullable Class<?> entityScope) {
         Type genericType = null;
         final Class<?> erased = GenericTypeReflector.erase(eventType);
         if (GenericEvent.class.isAssignableFrom(erased)) {
             genericType = TypeTokenUtil.typeArgumentFromSupertype(eventType, GenericEvent.class, 0);
         }
-        return new RegisteredListener(plugin, new EventType(erased, genericType), order, handler, beforeModifications);
+        return new RegisteredListener(plugin, new EventType(erased, genericType), order, handler, beforeModifications,
+                includedTypes, excludedTypes, entityScope);
     }
 
     <T extends Event> RegisteredListener.Cache bakeHandlers(final EventType<T> eventType) {
@@ -169,8 +187,9 @@ <T extends Event> RegisteredListener.Cache bakeHandlers(final EventType<T> event
                 .map(GenericTypeReflector::erase)
                 .filter(Event.class::isAssignableFrom);
 
-        // TODO: Move @Includes and @Excludes from filters to the baking process, this simplifies the generated
-        //       filter code and makes the filter baking target more specific handlers.
+        // @Include and @Exclude are resolved here, so listeners are only baked
+        // for the event classes they will actually accept.
+        final Class<T> eventClass = eventType.getType();
         synchronized (this.lock) {
             for (final Iterator<? extends Class<?>> it = types.iterator(); it.hasNext(); ) {
                 final Class<?> type = it.next();
@@ -179,12 +198,16 @@ <T extends Event> RegisteredListener.Cache bakeHandlers(final EventType<T> event
                     final Type genericType = Objects.requireNonNull(eventType.getGenericType());
                     for (final RegisteredListener<?> listener : listeners) {
                         final Type genericType1 = Objects.requireNonNull(listener.getEventType().getGenericType());
-                        if (TypeTokenUtil.isAssignable(genericType, genericType1)) {
+                        if (TypeTokenUtil.isAssignable(genericType, genericType1) && listener.acceptsEventClass(eventClass)) {
                             handlers.add(listener);
                         }
                     }
                 } else {
-                    handlers.addAll(listeners);
+                    for (final RegisteredListener<?> listener : listeners) {
+                        if (listener.acceptsEventClass(eventClass)) {
+                            handlers.add(listener);
+                        }
+                    }
                 }
             }
         }
@@ -193,6 +216,19 @@ <T extends Event> RegisteredListener.Cache bakeHandlers(final EventType<T> event
         return new RegisteredListener.Cache(handlers);
     }
 
+    private void invalidateHandlers() {
+        this.handlersCache.invalidateAll();
+        // Published last, so nothing baked before the change can end up in it
+        this.handlersByClass = new ConcurrentHashMap<>(150, 0.75f, 1);
+    }
+
+    private void registerShouldFire(final RegisteredListener<?> handler) {
+        for (final Class<?> type : handler.getShouldFireTypes()) {
+            this.checker.registerListenerFor(type);
+        }
+        EntityShouldFire.register(handler);
+    }
+
     private void register(final List<RegisteredListener<? extends Event>> handlers) {
         boolean changed = false;
 
@@ -201,13 +237,13 @@ private void register(final List<RegisteredListener<? extends Event>> handlers)
                 final Class<?> raw = handler.getEventType().getType();
                 if (this.handlersByEvent.put(raw, handler)) {
                     changed = true;
-                    this.checker.registerListenerFor(raw);
+                    this.registerShouldFire(handler);
                 }
             }
         }
 
         if (changed) {
-            this.handlersCache.invalidateAll();
+            this.invalidateHandlers();
         }
     }
 
@@ -218,12 +254,12 @@ private void register(final RegisteredListener<? extends Event> handler) {
             final Class<?> raw = handler.getEventType().getType();
             if (this.handlersByEvent.put(raw, handler)) {
                 changed = true;
-                this.checker.registerListenerFor(raw);
+                this.registerShouldFire(handler);
             }
         }
 
         if (changed) {
-            this.handlersCache.invalidateAll();
+            this.invalidateHandlers();
         }
     }
 
@@ -247,8 +283,7 @@ private void registerListener(final PluginContainer plugin, final Object listene
         AnnotatedEventListener.Factory handlerFactory = this.classLoaders.get(handleLoader);
         if (handlerFactory == null) {
             final DefineableClassLoader classLoader = new DefineableClassLoader(handleLoader);
-            handlerFactory = new ClassEventListenerFactory("org.spongepowered.common.event.listener",
-                    new FilterFactory("org.spongepowered.common.event.filters", classLoader), classLoader);
+            handlerFactory = new ClassEventListenerFactory("org.spongepowered.common.event.listener", classLoader);
             this.classLoaders.put(handleLoader, handlerFactory);
         }
 
@@ -266,8 +301,11 @@ private void registerListener(final PluginContainer plugin, final Object listene
                         continue;
                     }
 
+                    final @Nullable Include include = method.getAnnotation(Include.class);
+                    final @Nullable Exclude exclude = method.getAnnotation(Exclude.class);
                     handlers.add(SpongeEventManager.createRegistration(plugin, eventType, listener.order(), listener.beforeModifications(),
-                            handler));
+                            handler, include == null ? null : include.value(), exclude == null ? null : exclude.value(),
+                            EntityShouldFire.findEntityScope(method)));
                 } else {
                     methodErrors.put(method, error);
                 }
@@ -321,14 +359,17 @@ private void unregister(final Predicate<RegisteredListener<?>> unregister) {
                 if (unregister.test(handler)) {
                     itr.remove();
                     changed = true;
-                    this.checker.unregisterListenerFor(handler.getEventType().getType());
+                    for (final Class<?> type : handler.getShouldFireTypes()) {
+                        this.checker.unregisterListenerFor(type);
+                    }
+                    EntityShouldFire.unregister(handler);
                     this.registeredListeners.remove(handler.getHandle());
                 }
             }
         }
 
         if (changed) {
-            this.handlersCache.invalidateAll();
+            this.invalidateHandlers();
         }
     }
 
@@ -346,32 +387,52 @@ public SpongeEventManager unregisterListeners(final Object obj) {
     @SuppressWarnings({"unchecked", "rawtypes"})
     protected RegisteredListener.Cache getHandlerCache(final Event event) {
         final Class<? extends Event> eventClass = Objects.requireNonNull(event, "event").getClass();
-        final EventType<? extends Event> eventType;
         if (event instanceof GenericEvent) {
-            eventType = new EventType(eventClass, Objects.requireNonNull(((GenericEvent<?>) event).paramType().getType()));
-        } else {
-            eventType = new EventType(eventClass, null);
+            return this.handlersCache.get(new EventType(eventClass, Objects.requireNonNull(((GenericEvent<?>) event).paramType().getType())));
+        }
+        final Map<Class<?>, RegisteredListener.Cache> handlersByClass = this.handlersByClass;
+        final RegisteredListener.@Nullable Cache cache = handlersByClass.get(eventClass);
+        if (cache != null) {
+            return cache;
         }
-        return this.handlersCache.get(eventType);
+        // Baked directly rather than through handlersCache, which may still
+        // hold a stale cache while the handlers are being invalidated.
+        return handlersByClass.computeIfAbsent(eventClass, type -> this.bakeHandlers(new EventType(type, null)));
     }
 
-    @SuppressWarnings({"unchecked", "rawtypes"})
     protected final boolean post(final Event event, final List<RegisteredListener<?>> handlers) {
-        for (final RegisteredListener handler : handlers) {
+        return this.post(event, handlers.toArray(new RegisteredListener<?>[0]));
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    protected final boolean post(final Event event, final RegisteredListener<?>[] handlers) {
+        int index = 0;
+        while (index < handlers.length) {
+            // Consecutive listeners of the same plugin share their cause frame
+            // and phase context, most plugins register several listeners for
+            // the same event with the same order.
+            final PluginContainer plugin = handlers[index].getPlugin();
             try (
                     final CauseStackManager.StackFrame frame = PhaseTracker.getCauseStackManager().pushCauseFrame();
-                    final PhaseContext<@NonNull ?> context = SpongeEventManager.createListenerContext(handler.getPlugin())
+                    final PhaseContext<@NonNull ?> context = SpongeEventManager.createListenerContext(plugin)
             ) {
-                frame.pushCause(handler.getPlugin());
+                frame.pushCause(plugin);
                 if (context != null) {
                     context.buildAndSwitch();
                 }
-                if (event instanceof AbstractEvent) {
-                    ((AbstractEvent) event).currentOrder = handler.getOrder();
-                }
-                handler.handle(event);
+                do {
+                    final RegisteredListener handler = handlers[index++];
+                    if (event instanceof AbstractEvent) {
+                        ((AbstractEvent) event).currentOrder = handler.getOrder();
+                    }
+                    try {
+                        handler.handle(event);
+                    } catch (final Throwable e) {
+                        SpongeCommon.logger().error("Could not pass {} to {}", event.getClass().getSimpleName(), plugin.metadata().id(), e);
+                    }
+                } while (index < handlers.length && handlers[index].getPlugin() == plugin);
             } catch (final Throwable e) {
-                SpongeCommon.logger().error("Could not pass {} to {}", event.getClass().getSimpleName(), handler.getPlugin().metadata().id(), e);
+                SpongeCommon.logger().error("Could not pass {} to {}", event.getClass().getSimpleName(), plugin.metadata().id(), e);
             }
         }
         if (event instanceof AbstractEvent) {
@@ -396,15 +457,14 @@ protected final boolean post(final Event event, final List<RegisteredListener<?>
     @Override
     public boolean post(final Event event) {
         try (final NoExceptionClosable ignored = this.preparePost(event)) {
-            return this.post(event, this.getHandlerCache(event).getListeners());
+            return this.post(event, this.getHandlerCache(event).getListenerArray());
         }
     }
 
     public boolean postToPlugin(final Event event, final PluginContainer plugin) {
-        final List<RegisteredListener<?>> listeners = this.getHandlerCache(event).getListeners();
-        final List<RegisteredListener<?>> pluginListeners = listeners.stream()
+        final RegisteredListener<?>[] pluginListeners = Arrays.stream(this.getHandlerCache(event).getListenerArray())
                 .filter(l -> l.getPlugin() == plugin)
-                .collect(Collectors.toList());
+                .toArray(RegisteredListener<?>[]::new);
         return this.post(event, pluginListeners);
     }
 
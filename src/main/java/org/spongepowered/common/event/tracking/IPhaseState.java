@@ -329,6 +329,22 @@ default ChangeBlock createTransaction(final C phaseContext,
         return changeBlock;
     }
 
+    /**
+     * Gets whether plain block changes, those without block entities, may be
+     * kept in the {@link org.spongepowered.common.event.tracking.context.transaction.block.CompactBlockChangeLog}
+     * instead of being recorded as {@link ChangeBlock} transactions while no
+     * {@link org.spongepowered.api.event.block.ChangeBlockEvent} listeners are
+     * registered. The compactly logged changes never reach
+     * {@link #postBlockTransactionApplication(PhaseContext, BlockChange, BlockTransactionReceipt)},
+     * so states doing work there have to keep returning {@code false}.
+     *
+     * @param phaseContext The current context
+     * @return True if plain block changes may be logged compactly
+     */
+    default boolean allowsCompactBlockCapture(final C phaseContext) {
+        return false;
+    }
+
     default BlockChange associateBlockChangeWithSnapshot(
         final C phaseContext, final BlockState newState,
         final BlockState currentState
@@ -57,6 +57,7 @@
 import org.spongepowered.common.bridge.world.TrackedWorldBridge;
 import org.spongepowered.common.bridge.world.level.TrackableBlockEventDataBridge;
 import org.spongepowered.common.entity.PlayerTracker;
+import org.spongepowered.common.event.ShouldFire;
 import org.spongepowered.common.event.tracking.context.transaction.GameTransaction;
 import org.spongepowered.common.event.tracking.context.transaction.block.ChangeBlock;
 import org.spongepowered.common.event.tracking.context.transaction.world.SpawnEntityTransaction;
@@ -258,6 +259,21 @@ default ChangeBlock createTransaction(final SpongeBlockSnapshot originalBlockSna
         return this.getState().createTransaction(this.asContext(), originalBlockSnapshot, newState, flags);
     }
 
+    /**
+     * Gets whether plain block changes of this context may be kept in the
+     * {@link org.spongepowered.common.event.tracking.context.transaction.block.CompactBlockChangeLog},
+     * which is only the case while the state allows it and no
+     * {@link org.spongepowered.api.event.block.ChangeBlockEvent} listener
+     * would need the transactions.
+     *
+     * @return True if plain block changes may be logged compactly
+     */
+    default boolean allowsCompactBlockCapture() {
+        return !ShouldFire.CHANGE_BLOCK_EVENT_ALL
+            && !ShouldFire.CHANGE_BLOCK_EVENT_POST
+            && this.getState().allowsCompactBlockCapture(this.asContext());
+    }
+
     default BlockChange associateBlockChangeWithSnapshot(
         final BlockState newState,
         final BlockState currentState
@@ -68,6 +68,7 @@
 import org.spongepowered.common.bridge.world.level.chunk.LevelChunkBridge;
 import org.spongepowered.common.bridge.world.level.chunk.TrackedLevelChunkBridge;
 import org.spongepowered.common.entity.PlayerTracker;
+import org.spongepowered.common.event.EntityShouldFire;
 import org.spongepowered.common.event.ShouldFire;
 import org.spongepowered.common.event.SpongeCommonEventFactory;
 import org.spongepowered.common.event.tracking.context.transaction.TransactionalCaptureSupplier;
@@ -136,12 +137,15 @@ public static void tickEntity(final Consumer<net.minecraft.world.entity.Entity>
             context.buildAndSwitch();
             entityTiming.startTiming();
             consumer.accept(entity);
-            if (ShouldFire.MOVE_ENTITY_EVENT) {
+            if (ShouldFire.MOVE_ENTITY_EVENT && EntityShouldFire.MOVE_ENTITY_EVENT.shouldFire(entity)) {
                 SpongeCommonEventFactory.callNaturalMoveEntityEvent(entity);
             }
-            if (ShouldFire.ROTATE_ENTITY_EVENT) {
+            if (ShouldFire.ROTATE_ENTITY_EVENT && EntityShouldFire.ROTATE_ENTITY_EVENT.shouldFire(entity)) {
                 SpongeCommonEventFactory.callNaturalRotateEntityEvent(entity);
             }
+            if (EntityShouldFire.MOVE_ENTITY_BATCH_EVENT.shouldFire(entity)) {
+                ((TrackedWorldBridge) entity.level).tracker$movementBatch().record(entity);
+            }
         } catch (final Exception e) {
             PhasePrinter.printExceptionFromPhase(PhaseTracker.getInstance().stack, e, tickContext);
         }
@@ -166,12 +170,15 @@ public static void tickRidingEntity(final net.minecraft.world.entity.Entity enti
             }
             context.buildAndSwitch();
             entity.rideTick();
-            if (ShouldFire.MOVE_ENTITY_EVENT) {
+            if (ShouldFire.MOVE_ENTITY_EVENT && EntityShouldFire.MOVE_ENTITY_EVENT.shouldFire(entity)) {
                 SpongeCommonEventFactory.callNaturalMoveEntityEvent(entity);
             }
-            if (ShouldFire.ROTATE_ENTITY_EVENT) {
+            if (ShouldFire.ROTATE_ENTITY_EVENT && EntityShouldFire.ROTATE_ENTITY_EVENT.shouldFire(entity)) {
                 SpongeCommonEventFactory.callNaturalRotateEntityEvent(entity);
             }
+            if (EntityShouldFire.MOVE_ENTITY_BATCH_EVENT.shouldFire(entity)) {
+                ((TrackedWorldBridge) entity.level).tracker$movementBatch().record(entity);
+            }
         } catch (final Exception e) {
             PhasePrinter.printExceptionFromPhase(PhaseTracker.getInstance().stack, e, tickContext);
         }
@@ -483,7 +490,8 @@ public static void addTileEntityToBuilder(final net.minecraft.world.level.block.
         final CompoundTag compound = new CompoundTag();
         try {
             existing.save(compound);
-            builder.addUnsafeCompound(compound);
+            // freshly saved, no need for the defensive copy
+            builder.ownedCompound(compound);
         }
         catch (final Throwable t) {
             // ignore
@@ -31,7 +31,7 @@
 
 public class EffectTransactor implements AutoCloseable {
     final @Nullable ResultingTransactionBySideEffect previousEffect;
-    public final @Nullable GameTransaction<@NonNull ?> parent;
+    public @Nullable GameTransaction<@NonNull ?> parent;
     private final TransactionalCaptureSupplier supplier;
     private final ResultingTransactionBySideEffect effect;
 
@@ -48,6 +48,20 @@ public class EffectTransactor implements AutoCloseable {
         this.previousEffect = previousEffect;
     }
 
+    /**
+     * Attaches the effect to the transaction that caused it, once that
+     * transaction exists. Effects of a change kept in the
+     * {@link org.spongepowered.common.event.tracking.context.transaction.block.CompactBlockChangeLog}
+     * are pushed before their {@link org.spongepowered.common.event.tracking.context.transaction.block.ChangeBlock}
+     * is created.
+     *
+     * @param parent The transaction the effect belongs to
+     */
+    void attach(final GameTransaction<@NonNull ?> parent) {
+        this.parent = parent;
+        parent.addLast(this.effect);
+    }
+
     @Override
     public void close() {
         if (this.effect.head == null
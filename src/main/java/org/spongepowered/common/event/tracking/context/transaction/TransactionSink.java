@@ -96,8 +96,6 @@
 import org.spongepowered.common.world.SpongeBlockChangeFlag;
 import org.spongepowered.common.world.volume.VolumeStreamUtils;
 
-import java.lang.ref.WeakReference;
-import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Supplier;
 
@@ -136,8 +134,7 @@ default void logBlockEvent(
         final BlockState state, final TrackedWorldBridge serverWorld, final BlockPos pos,
         final TrackableBlockEventDataBridge blockEvent
     ) {
-        final WeakReference<ServerLevel> worldRef = new WeakReference<>((ServerLevel) serverWorld);
-        final Supplier<ServerLevel> worldSupplier = () -> Objects.requireNonNull(worldRef.get(), "ServerWorld dereferenced");
+        final Supplier<ServerLevel> worldSupplier = serverWorld.bridge$weakSupplier();
         final @Nullable BlockEntity tileEntity = ((ServerLevel) serverWorld).getBlockEntity(pos);
         final SpongeBlockSnapshot original = TrackingUtil.createPooledSnapshot(
             state,
@@ -158,8 +155,7 @@ default EffectTransactor logBlockDrops(
         final Level serverWorld, final BlockPos pos, final BlockState state,
         final @Nullable BlockEntity tileEntity
     ) {
-        final WeakReference<ServerLevel> worldRef = new WeakReference<>((ServerLevel) serverWorld);
-        final Supplier<ServerLevel> worldSupplier = () -> Objects.requireNonNull(worldRef.get(), "ServerWorld dereferenced");
+        final Supplier<ServerLevel> worldSupplier = ((TrackedWorldBridge) serverWorld).bridge$weakSupplier();
         final SpongeBlockSnapshot original = TrackingUtil.createPooledSnapshot(
             state,
             pos,
@@ -177,8 +173,7 @@ default EffectTransactor logBlockDrops(
 
     @SuppressWarnings("ConstantConditions")
     default void logScheduledUpdate(final ServerLevel serverWorld, final TickNextTickData<?> data) {
-        final WeakReference<ServerLevel> worldRef = new WeakReference<>(serverWorld);
-        final Supplier<ServerLevel> worldSupplier = () -> Objects.requireNonNull(worldRef.get(), "ServerWorld dereferenced");
+        final Supplier<ServerLevel> worldSupplier = ((TrackedWorldBridge) serverWorld).bridge$weakSupplier();
         final @Nullable BlockEntity tileEntity = serverWorld.getBlockEntity(data.pos);
         final BlockState existing = serverWorld.getBlockState(data.pos);
         final SpongeBlockSnapshot original = TrackingUtil.createPooledSnapshot(
@@ -209,8 +204,7 @@ default void logEntitySpawn(
         final PhaseContext<@NonNull ?> current, final TrackedWorldBridge serverWorld,
         final Entity entityIn
     ) {
-        final WeakReference<ServerLevel> worldRef = new WeakReference<>((ServerLevel) serverWorld);
-        final Supplier<ServerLevel> worldSupplier = () -> Objects.requireNonNull(worldRef.get(), "ServerWorld dereferenced");
+        final Supplier<ServerLevel> worldSupplier = serverWorld.bridge$weakSupplier();
         final Supplier<SpawnType> contextualType = current.getSpawnTypeForTransaction(entityIn);
         final SpawnEntityTransaction transaction = new SpawnEntityTransaction(worldSupplier, entityIn, contextualType);
         this.logTransaction(transaction);
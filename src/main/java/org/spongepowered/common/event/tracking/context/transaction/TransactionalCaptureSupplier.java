@@ -26,6 +26,9 @@
 
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMultimap;
+import net.minecraft.core.BlockPos;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.block.state.BlockState;
 import org.checkerframework.checker.nullness.qual.MonotonicNonNull;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
@@ -37,10 +40,15 @@
 import org.spongepowered.common.event.tracking.PhaseContext;
 import org.spongepowered.common.event.tracking.PhaseTracker;
 import org.spongepowered.common.event.tracking.context.ICaptureSupplier;
+import org.spongepowered.common.event.tracking.context.transaction.block.CompactBlockChangeLog;
 import org.spongepowered.common.event.tracking.context.transaction.effect.PrepareBlockDrops;
 import org.spongepowered.common.event.tracking.context.transaction.type.TransactionType;
+import org.spongepowered.common.world.BlockChange;
+import org.spongepowered.common.world.SpongeBlockChangeFlag;
 
+import java.util.ArrayDeque;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.Iterator;
 import java.util.Objects;
 import java.util.Optional;
@@ -48,6 +56,7 @@
 import java.util.Spliterators;
 import java.util.StringJoiner;
 import java.util.function.BiConsumer;
+import java.util.function.Supplier;
 
 @SuppressWarnings("rawtypes")
 public final class TransactionalCaptureSupplier implements ICaptureSupplier, TransactionSink, Iterable<GameTransaction<@NonNull ?>> {
@@ -62,6 +71,10 @@ public final class TransactionalCaptureSupplier implements ICaptureSupplier, Tra
     private @Nullable GameTransaction<@NonNull ?> tail;
     private @Nullable GameTransaction<@NonNull ?> head;
     private @Nullable ResultingTransactionBySideEffect effect;
+    // Plain block changes not yet turned into transactions, they always follow the tail
+    private @Nullable CompactBlockChangeLog compactChanges;
+    // Open effects of the newest compact change, attached once its transaction is created
+    private final Deque<EffectTransactor> compactEffects = new ArrayDeque<>();
     private final PhaseContext<@NonNull ?> context;
 
     public TransactionalCaptureSupplier(final PhaseContext<@NonNull ?> context) {
@@ -76,7 +89,59 @@ public TransactionalCaptureSupplier(final PhaseContext<@NonNull ?> context) {
      */
     @Override
     public boolean isEmpty() {
-        return this.head == null;
+        return this.head == null && (this.compactChanges == null || this.compactChanges.isEmpty());
+    }
+
+    /**
+     * Records a plain block change in the {@link CompactBlockChangeLog}
+     * instead of as a {@link org.spongepowered.common.event.tracking.context.transaction.block.ChangeBlock}.
+     * The change is only turned into a transaction once another transaction
+     * is recorded, including one caused by this change's own effects, or once
+     * the transactions are iterated or processed while a
+     * {@link org.spongepowered.api.event.block.ChangeBlockEvent} listener
+     * needs them.
+     *
+     * <p>Changes made by an effect of another transaction, and changes in a
+     * different world than the ones already logged, are refused and have to
+     * be logged as a full transaction.</p>
+     *
+     * @return True if the change was logged compactly
+     */
+    public boolean logCompactBlockChange(
+        final Supplier<ServerLevel> world, final BlockPos pos, final BlockState originalState,
+        final BlockState newState, final SpongeBlockChangeFlag flag, final int limit, final BlockChange blockChange
+    ) {
+        if (this.effect != null) {
+            return false;
+        }
+        if (this.compactChanges == null) {
+            this.compactChanges = new CompactBlockChangeLog();
+        } else if (!this.compactChanges.accepts(world)) {
+            return false;
+        }
+        this.compactChanges.log(world, pos, originalState, newState, flag, limit, blockChange);
+        return true;
+    }
+
+    private void materializeCompactChanges() {
+        if (this.compactChanges == null || this.compactChanges.isEmpty()) {
+            return;
+        }
+        this.compactChanges.materialize(changeBlock -> {
+            final GameTransaction<@NonNull ?> gameTransaction = changeBlock.recordState();
+            if (this.head == null) {
+                this.head = gameTransaction;
+            } else {
+                gameTransaction.previous = this.tail;
+                this.tail.next = gameTransaction;
+            }
+            this.tail = gameTransaction;
+        });
+        // The effects were pushed against the newest change, which is now the tail
+        for (final EffectTransactor transactor : this.compactEffects) {
+            transactor.attach(this.tail);
+        }
+        this.compactEffects.clear();
     }
 
     /*
@@ -95,6 +160,13 @@ public boolean isEmpty() {
 
     @Override
     public EffectTransactor pushEffect(final ResultingTransactionBySideEffect effect) {
+        if ((this.effect == null || this.effect.tail == null) && this.compactChanges != null && !this.compactChanges.isEmpty()) {
+            // The owning transaction is the newest compact change, which doesn't exist as a transaction yet
+            final EffectTransactor effectTransactor = new EffectTransactor(effect, null, this.effect, this);
+            this.effect = effect;
+            this.compactEffects.addLast(effectTransactor);
+            return effectTransactor;
+        }
         final GameTransaction<@NonNull ?> parentTransaction = Optional.ofNullable(this.effect)
             .map(child -> (GameTransaction) child.tail)
             .orElse(Objects.requireNonNull(this.tail, "Somehow pushing a new effect without an owning Transaction"));
@@ -106,12 +178,17 @@ public EffectTransactor pushEffect(final ResultingTransactionBySideEffect effect
 
     void popEffect(final EffectTransactor transactor) {
         this.effect = transactor.previousEffect;
+        if (this.compactEffects.peekLast() == transactor) {
+            this.compactEffects.pollLast();
+        }
     }
 
     @SuppressWarnings("DeprecatedIsStillUsed")
     @Deprecated
     @Override
     public void logTransaction(final StatefulTransaction transaction) {
+        // Keep the order of the changes logged compactly before this transaction
+        this.materializeCompactChanges();
         // todo - abstract the rest of this out into StatefulTransaction
         if (this.head == null) {
             final GameTransaction<@NonNull ?> gameTransaction = transaction.recordState();
@@ -161,10 +238,25 @@ public void clear() {
         this.head = null;
         this.tail = null;
         this.effect = null;
+        this.clearCompactChanges();
+    }
+
+    private void clearCompactChanges() {
+        if (this.compactChanges != null) {
+            this.compactChanges.clear();
+        }
+        this.compactEffects.clear();
     }
 
     @SuppressWarnings("unchecked")
     public boolean processTransactions(final PhaseContext<@NonNull ?> context) {
+        if (context.allowsCompactBlockCapture()) {
+            // Nothing would see the events of the compactly logged changes
+            this.clearCompactChanges();
+        } else {
+            // A listener was registered after the changes were logged
+            this.materializeCompactChanges();
+        }
         if (this.head == null) {
             return false;
         }
@@ -344,6 +436,7 @@ public String toString() {
             .add("tail=" + this.tail)
             .add("head=" + this.head)
             .add("effect=" + this.effect)
+            .add("compactChanges=" + this.compactChanges)
             .toString();
     }
 
@@ -355,10 +448,12 @@ public void reset() {
         if (this.effect != null) {
             this.effect = null;
         }
+        this.clearCompactChanges();
     }
 
     @Override
     public Iterator<GameTransaction<@NonNull ?>> iterator() {
+        this.materializeCompactChanges();
         return this.head != null ? new DeepIterator(this.head) : Collections.emptyIterator();
     }
 
@@ -368,6 +463,7 @@ public void reset() {
     }
 
     public Iterator<GameTransaction<@NonNull ?>> descendingIterator() {
+        this.materializeCompactChanges();
         return this.tail != null ? new ReverseDeepIterator(this.tail) : Collections.emptyIterator();
     }
 
@@ -84,7 +84,17 @@ public SpongeBlockChangeFlag getBlockChangeFlag() {
     }
 
     public void populateChunkEffects(final ChunkPipeline.Builder builder) {
+        ChangeBlock.addChunkEffects(builder);
+    }
 
+    /**
+     * Adds the effects applying a block change to its chunk, shared by
+     * {@link ChangeBlock} transactions and changes kept in the
+     * {@link CompactBlockChangeLog}.
+     *
+     * @param builder The pipeline builder
+     */
+    public static void addChunkEffects(final ChunkPipeline.Builder builder) {
         builder.addEffect(SetBlockToChunkSectionEffect.getInstance());
         builder.addEffect(UpdateHeightMapEffect.getInstance());
         builder.addEffect(UpdateChunkLightManagerEffect.getInstance());
@@ -0,0 +1,209 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event.tracking.context.transaction.block;
+
+import com.google.common.base.Preconditions;
+import net.minecraft.core.BlockPos;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.state.BlockState;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.checkerframework.framework.qual.DefaultQualifier;
+import org.spongepowered.common.block.SpongeBlockSnapshot;
+import org.spongepowered.common.event.tracking.BlockChangeFlagManager;
+import org.spongepowered.common.event.tracking.TrackingUtil;
+import org.spongepowered.common.world.BlockChange;
+import org.spongepowered.common.world.SpongeBlockChangeFlag;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.StringJoiner;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * A column-oriented log of plain block changes, recorded in place of
+ * {@link ChangeBlock} transactions while nothing needs the transactions
+ * themselves. Each change is kept as its packed position, the ids of the
+ * original and new states, the raw change flag, the update limit and the
+ * {@link BlockChange}, so a phase changing hundreds of thousands of blocks
+ * does not keep a {@link SpongeBlockSnapshot} and transaction alive for each
+ * of them. {@link #materialize(Consumer)} turns the log back into
+ * {@link ChangeBlock}s, in the order the changes were made, whenever they are
+ * needed after all.
+ *
+ * <p>All changes in a log belong to the same world.</p>
+ */
+@DefaultQualifier(NonNull.class)
+public final class CompactBlockChangeLog {
+
+    static final int INITIAL_CAPACITY = 64;
+    // Phase contexts are pooled, don't hold on to the columns of a large explosion forever
+    static final int RETAINED_CAPACITY = 4096;
+    private static final BlockChange[] BLOCK_CHANGES = BlockChange.values();
+
+    private long[] positions;
+    private int[] originalStates;
+    private int[] newStates;
+    private int[] flags;
+    private int[] limits;
+    private byte[] blockChanges;
+    private int size;
+    private @Nullable Supplier<ServerLevel> world;
+
+    public CompactBlockChangeLog() {
+        this.allocate(CompactBlockChangeLog.INITIAL_CAPACITY);
+    }
+
+    private void allocate(final int capacity) {
+        this.positions = new long[capacity];
+        this.originalStates = new int[capacity];
+        this.newStates = new int[capacity];
+        this.flags = new int[capacity];
+        this.limits = new int[capacity];
+        this.blockChanges = new byte[capacity];
+    }
+
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Gets whether a change in the world of the given supplier can be
+     * appended to this log.
+     *
+     * @param world The {@link org.spongepowered.common.bridge.world.TrackedWorldBridge#bridge$weakSupplier() shared supplier}
+     *     of the changed world
+     * @return True if the log is empty or already records changes of that world
+     */
+    public boolean accepts(final Supplier<ServerLevel> world) {
+        return this.size == 0 || this.world == world;
+    }
+
+    public void log(
+        final Supplier<ServerLevel> world, final BlockPos pos, final BlockState originalState,
+        final BlockState newState, final SpongeBlockChangeFlag flag, final int limit, final BlockChange blockChange
+    ) {
+        if (!this.accepts(world)) {
+            throw new IllegalStateException("Cannot log block changes of different worlds in the same compact log");
+        }
+        this.world = world;
+        this.append(pos.asLong(), Block.getId(originalState), Block.getId(newState), flag.getRawFlag(), limit, blockChange);
+    }
+
+    void append(
+        final long position, final int originalState, final int newState, final int flag, final int limit,
+        final BlockChange blockChange
+    ) {
+        if (this.size == this.positions.length) {
+            final int capacity = this.size << 1;
+            this.positions = Arrays.copyOf(this.positions, capacity);
+            this.originalStates = Arrays.copyOf(this.originalStates, capacity);
+            this.newStates = Arrays.copyOf(this.newStates, capacity);
+            this.flags = Arrays.copyOf(this.flags, capacity);
+            this.limits = Arrays.copyOf(this.limits, capacity);
+            this.blockChanges = Arrays.copyOf(this.blockChanges, capacity);
+        }
+        final int index = this.size++;
+        this.positions[index] = position;
+        this.originalStates[index] = originalState;
+        this.newStates[index] = newState;
+        this.flags[index] = flag;
+        this.limits[index] = limit;
+        this.blockChanges[index] = (byte) blockChange.ordinal();
+    }
+
+    long position(final int index) {
+        return this.positions[Preconditions.checkElementIndex(index, this.size)];
+    }
+
+    int originalState(final int index) {
+        return this.originalStates[Preconditions.checkElementIndex(index, this.size)];
+    }
+
+    int newState(final int index) {
+        return this.newStates[Preconditions.checkElementIndex(index, this.size)];
+    }
+
+    int flag(final int index) {
+        return this.flags[Preconditions.checkElementIndex(index, this.size)];
+    }
+
+    int limit(final int index) {
+        return this.limits[Preconditions.checkElementIndex(index, this.size)];
+    }
+
+    BlockChange blockChange(final int index) {
+        return CompactBlockChangeLog.BLOCK_CHANGES[this.blockChanges[Preconditions.checkElementIndex(index, this.size)]];
+    }
+
+    int capacity() {
+        return this.positions.length;
+    }
+
+    /**
+     * Creates the {@link ChangeBlock} for each logged change, oldest first,
+     * and empties this log.
+     *
+     * @param consumer The consumer recording the transactions
+     */
+    public void materialize(final Consumer<ChangeBlock> consumer) {
+        if (this.size == 0) {
+            return;
+        }
+        final Supplier<ServerLevel> world = Objects.requireNonNull(this.world, "World of the compact block changes is unknown");
+        for (int i = 0; i < this.size; i++) {
+            final BlockPos pos = BlockPos.of(this.positions[i]);
+            final SpongeBlockChangeFlag flag = BlockChangeFlagManager.fromNativeInt(this.flags[i]);
+            final SpongeBlockSnapshot original = TrackingUtil.createPooledSnapshot(Block.stateById(this.originalStates[i]), pos, flag,
+                this.limits[i], null, world, Optional::empty, Optional::empty);
+            original.blockChange = CompactBlockChangeLog.BLOCK_CHANGES[this.blockChanges[i]];
+            consumer.accept(new ChangeBlock(original, Block.stateById(this.newStates[i]), flag));
+        }
+        this.clear();
+    }
+
+    public void clear() {
+        if (this.positions.length > CompactBlockChangeLog.RETAINED_CAPACITY) {
+            this.allocate(CompactBlockChangeLog.INITIAL_CAPACITY);
+        }
+        this.size = 0;
+        this.world = null;
+    }
+
+    @Override
+    public String toString() {
+        return new StringJoiner(", ", CompactBlockChangeLog.class.getSimpleName() + "[", "]")
+            .add("size=" + this.size)
+            .add("capacity=" + this.positions.length)
+            .toString();
+    }
+}
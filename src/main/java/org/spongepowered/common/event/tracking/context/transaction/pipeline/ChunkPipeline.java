@@ -33,6 +33,7 @@
 import net.minecraft.world.level.chunk.LevelChunkSection;
 import org.checkerframework.checker.nullness.qual.MonotonicNonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.common.bridge.world.TrackedWorldBridge;
 import org.spongepowered.common.event.tracking.PhaseContext;
 import org.spongepowered.common.event.tracking.context.transaction.EffectTransactor;
 import org.spongepowered.common.event.tracking.context.transaction.ResultingTransactionBySideEffect;
@@ -55,7 +56,7 @@ public final class ChunkPipeline implements BlockPipeline {
     private final @Nullable Supplier<LevelChunkSection> sectionSupplier;
     private final boolean wasEmpty;
     private final List<ResultingTransactionBySideEffect> chunkEffects;
-    final ChangeBlock transaction;
+    private final @Nullable SpongeBlockChangeFlag flag;
 
     public static ChunkPipeline nullReturn(final LevelChunk chunk, final ServerLevel world) {
         return new ChunkPipeline(chunk, world);
@@ -64,12 +65,11 @@ public static ChunkPipeline nullReturn(final LevelChunk chunk, final ServerLevel
     private ChunkPipeline(final LevelChunk chunk, final ServerLevel world) {
         final WeakReference<LevelChunk> chunkWeakReference = new WeakReference<>(chunk);
         this.chunkSupplier = () -> chunkWeakReference.get();
-        final WeakReference<ServerLevel> serverWorldWeakReference = new WeakReference<>(world);
-        this.serverWorld = () -> serverWorldWeakReference.get();
+        this.serverWorld = ((TrackedWorldBridge) world).bridge$weakSupplier();
         this.sectionSupplier = () -> LevelChunk.EMPTY_SECTION;
         this.wasEmpty = true;
         this.chunkEffects = Collections.emptyList();
-        this.transaction = null;
+        this.flag = null;
     }
 
     ChunkPipeline(final Builder builder) {
@@ -78,7 +78,7 @@ private ChunkPipeline(final LevelChunk chunk, final ServerLevel world) {
         this.serverWorld = builder.serverWorld;
         this.sectionSupplier = builder.sectionSupplier;
         this.wasEmpty = Objects.requireNonNull(builder.sectionSupplier).get().isEmpty();
-        this.transaction = builder.transaction;
+        this.flag = builder.flag;
     }
 
     public Supplier<LevelChunk> getChunkSupplier() {
@@ -112,7 +112,7 @@ public LevelChunkSection getAffectedSection() {
         }
         final ServerLevel serverWorld = this.serverWorld.get();
         final int oldOpacity = currentState.getLightBlock(serverWorld, pos);
-        final SpongeBlockChangeFlag flag = this.transaction.getBlockChangeFlag();
+        final SpongeBlockChangeFlag flag = this.flag;
         final @Nullable BlockEntity existing = this.chunkSupplier.get().getBlockEntity(pos, LevelChunk.EntityCreationType.CHECK);
         PipelineCursor formerState = new PipelineCursor(currentState, oldOpacity, pos, existing, (Entity) null, limit);
 
@@ -151,11 +151,24 @@ public static final class Builder {
         @Nullable Supplier<LevelChunk> chunkSupplier;
         @Nullable Supplier<LevelChunkSection> sectionSupplier;
         boolean wasSectionEmpty;
-        @MonotonicNonNull ChangeBlock transaction;
+        @MonotonicNonNull SpongeBlockChangeFlag flag;
         List<ResultingTransactionBySideEffect> effects;
 
         public Builder kickOff(final ChangeBlock transaction) {
-            this.transaction = Objects.requireNonNull(transaction, "ChangeBlock transaction cannot be null!");
+            this.flag = Objects.requireNonNull(transaction, "ChangeBlock transaction cannot be null!").getBlockChangeFlag();
+            return this;
+        }
+
+        /**
+         * Kicks off the pipeline of a change kept in the
+         * {@link org.spongepowered.common.event.tracking.context.transaction.block.CompactBlockChangeLog},
+         * which has no {@link ChangeBlock} transaction of its own.
+         *
+         * @param flag The flag of the change
+         * @return This builder, for chaining
+         */
+        public Builder kickOff(final SpongeBlockChangeFlag flag) {
+            this.flag = Objects.requireNonNull(flag, "SpongeBlockChangeFlag cannot be null!");
             return this;
         }
         public Builder addEffect(final ProcessingSideEffect effect) {
@@ -192,14 +205,7 @@ public Builder chunkSection(final LevelChunkSection section) {
         }
 
         public Builder world(final ServerLevel world) {
-            final WeakReference<ServerLevel> worldRef = new WeakReference<>(world);
-            this.serverWorld = () -> {
-                final ServerLevel serverWorld = worldRef.get();
-                if (serverWorld == null) {
-                    throw new IllegalStateException("ServerWorld dereferenced");
-                }
-                return serverWorld;
-            };
+            this.serverWorld = ((TrackedWorldBridge) world).bridge$weakSupplier();
             return this;
         }
 
@@ -207,7 +213,7 @@ public ChunkPipeline build() {
             if (this.effects == null) {
                 this.effects = Collections.emptyList();
             }
-            Objects.requireNonNull(this.transaction, "ChangeBlock transaction must have been recorded!");
+            Objects.requireNonNull(this.flag, "ChangeBlock transaction or compact change must have been recorded!");
             return new ChunkPipeline(this);
         }
 
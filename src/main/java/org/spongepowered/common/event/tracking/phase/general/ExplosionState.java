@@ -93,6 +93,11 @@ public void populateLootContext(final ExplosionContext phaseContext, final LootC
         }
     }
 
+    @Override
+    public boolean allowsCompactBlockCapture(final ExplosionContext context) {
+        return true;
+    }
+
     @Override
     public void unwind(final ExplosionContext context) {
         TrackingUtil.processBlockCaptures(context);
@@ -93,6 +93,14 @@ public boolean doesBlockEventTracking(final T context) {
         return context.allowsBlockEvents();
     }
 
+    /**
+     * Without a notifier, {@link #postBlockTransactionApplication} has nothing
+     * to associate with the changed positions.
+     */
+    @Override
+    public boolean allowsCompactBlockCapture(final T context) {
+        return !context.getNotifier().isPresent();
+    }
 
     @Override
     public void appendNotifierToBlockEvent(
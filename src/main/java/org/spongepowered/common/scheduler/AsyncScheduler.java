@@ -29,150 +29,110 @@
 import org.spongepowered.api.scheduler.ScheduledTask;
 import org.spongepowered.api.util.Functional;
 import org.spongepowered.common.SpongeCommon;
+import org.spongepowered.common.applaunch.config.common.SchedulerCategory;
+import org.spongepowered.common.applaunch.config.core.SpongeConfigs;
 import org.spongepowered.common.util.PrettyPrinter;
+import org.spongepowered.plugin.PluginContainer;
 
 import java.util.Set;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.concurrent.locks.Condition;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.LockSupport;
 
 public final class AsyncScheduler extends SpongeScheduler {
 
-    // Locking mechanism
-    private final Lock lock = new ReentrantLock();
-    private final Condition condition = this.lock.newCondition();
-    private final AtomicBoolean stateChanged = new AtomicBoolean(false);
-    // The dynamic thread pooling executor of asynchronous tasks.
-    private final ExecutorService executor = Executors.newCachedThreadPool(new ThreadFactoryBuilder()
-                                                                                   .setNameFormat("Sponge-AsyncScheduler-%d")
-                                                                                   .build());
-    private volatile boolean running = true;
+    private static final String THREAD_NAME_FORMAT = "Sponge-AsyncScheduler-%d";
 
-    // Adjustable timeout for pending Tasks
-    private long minimumTimeout = Long.MAX_VALUE;
-    private long lastProcessingTimestamp;
+    // The configurable executor of asynchronous tasks.
+    private final ExecutorService executor;
+    private final PluginConcurrencyLimiter limiter;
+    private final Thread thread;
+    private volatile boolean running = true;
 
     public AsyncScheduler() {
         super("A");
 
-        final Thread thread = new Thread(AsyncScheduler.this::mainLoop);
-        thread.setName("Sponge Async Scheduler Thread");
-        thread.setDaemon(true);
-        thread.start();
-    }
+        final SchedulerCategory config = SpongeConfigs.getCommon().get().scheduler;
+        this.executor = AsyncScheduler.createExecutor(config);
+        this.limiter = new PluginConcurrencyLimiter(this.executor, config.pluginConcurrencyLimit);
 
-    private void mainLoop() {
-        this.lastProcessingTimestamp = System.nanoTime();
-        while (this.running) {
-            this.recalibrateMinimumTimeout();
-            this.runTick();
-        }
+        this.thread = new Thread(AsyncScheduler.this::mainLoop);
+        this.thread.setName("Sponge Async Scheduler Thread");
+        this.thread.setDaemon(true);
+        this.thread.start();
     }
 
-    private void recalibrateMinimumTimeout() {
-        this.lock.lock();
-        try {
-            final Set<ScheduledTask> tasks = this.tasks();
-            this.minimumTimeout = Long.MAX_VALUE;
-            final long now = System.nanoTime();
-            for (final ScheduledTask tmpTask : tasks) {
-                final SpongeScheduledTask task = (SpongeScheduledTask) tmpTask;
-                if (task.state() == SpongeScheduledTask.ScheduledTaskState.EXECUTING) {
-                    // bail out for this task. We'll signal when we complete the task.
-                    continue;
+    private static ExecutorService createExecutor(final SchedulerCategory config) {
+        final int maxThreads = Math.max(1, config.asyncMaxThreads);
+        switch (config.asyncExecutor) {
+            case UNBOUNDED:
+                return Executors.newCachedThreadPool(new ThreadFactoryBuilder().setNameFormat(AsyncScheduler.THREAD_NAME_FORMAT).build());
+            case FORK_JOIN:
+                return new ForkJoinPool(maxThreads, pool -> {
+                    final ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+                    thread.setName(String.format(AsyncScheduler.THREAD_NAME_FORMAT, thread.getPoolIndex()));
+                    return thread;
+                }, null, true);
+            case VIRTUAL:
+                try {
+                    // Only available on newer runtimes, the implementation targets Java 8
+                    return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+                } catch (final ReflectiveOperationException | RuntimeException e) {
+                    SpongeCommon.logger().warn("Virtual threads are not supported by this runtime, "
+                            + "falling back to a bounded executor for asynchronous tasks.");
                 }
-                // Recalibrate the wait delay for processing tasks before new
-                // tasks cause the scheduler to process pending tasks.
-                if (task.task.delay == 0 && task.task.interval == 0) {
-                    this.minimumTimeout = 0;
-                }
-                // The time since the task last executed or was added to the map
-                final long timeSinceLast = now - task.timestamp();
-
-                if (task.task.delay > 0 && task.state() == SpongeScheduledTask.ScheduledTaskState.WAITING) {
-                    // There is an delay and the task hasn't run yet
-                    this.minimumTimeout = Math.min(task.task.delay - timeSinceLast, this.minimumTimeout);
-                }
-                if (task.task.interval > 0 && task.state().isActive) {
-                    // The task repeats and has run after the initial delay
-                    this.minimumTimeout = Math.min(task.task.interval - timeSinceLast, this.minimumTimeout);
-                }
-                if (this.minimumTimeout <= 0) {
-                    break;
-                }
-            }
-            if (!tasks.isEmpty()) {
-                final long latency = System.nanoTime() - this.lastProcessingTimestamp;
-                this.minimumTimeout -= (latency <= 0) ? 0 : latency;
-                this.minimumTimeout = (this.minimumTimeout < 0) ? 0 : this.minimumTimeout;
-            }
-        } finally {
-            this.lock.unlock();
+                // fall through
+            case BOUNDED:
+            default:
+                // Tasks beyond the queue capacity spill over instead of running on the dispatch thread.
+                final ThreadPoolExecutor executor = new OverflowingThreadPoolExecutor(maxThreads, Math.max(1, config.asyncQueueCapacity),
+                        new ThreadFactoryBuilder().setNameFormat(AsyncScheduler.THREAD_NAME_FORMAT).build());
+                executor.allowCoreThreadTimeOut(true);
+                return executor;
         }
     }
 
-    @Override
-    protected void addTask(final SpongeScheduledTask task) {
-        this.lock.lock();
-        try {
-            super.addTask(task);
-            this.condition.signalAll();
-        } finally {
-            this.lock.unlock();
-        }
-    }
-
-    @Override
-    protected void preTick() {
-        this.lock.lock();
-        try {
-            // If we have something that has indicated it needs to change,
-            // don't await, just continue.
-            if (!this.stateChanged.get()) {
-                this.condition.await(this.minimumTimeout, TimeUnit.NANOSECONDS);
+    private void mainLoop() {
+        while (this.running) {
+            // Tasks are ordered by their deadline, so only the head of the
+            // queues needs to be checked. Submitting, completing or cancelling
+            // a task never blocks this thread, new tasks will unpark it.
+            final long delay = this.delayUntilNextTask(System.nanoTime());
+            if (delay > 0) {
+                LockSupport.parkNanos(this, delay);
             }
-            // We're processing now. Set to false.
-            this.stateChanged.set(false);
-        } catch (final InterruptedException ignored) {
-            // The taskMap has been modified; there is work to do.
-            // Continue on without handling the Exception.
-        } catch (final IllegalMonitorStateException e) {
-            SpongeCommon.logger().error("The scheduler internal state machine suffered a catastrophic error", e);
+            this.runTick();
         }
     }
 
-    @Override
-    protected void postTick() {
-        this.lastProcessingTimestamp = System.nanoTime();
+    private void wakeUp() {
+        LockSupport.unpark(this.thread);
     }
 
     @Override
-    protected void finallyPostTick() {
-        this.lock.unlock();
+    protected void addTask(final SpongeScheduledTask task) {
+        super.addTask(task);
+        this.wakeUp();
     }
 
     @Override
     protected void onTaskCompletion(final SpongeScheduledTask task) {
-        if (task.state() == SpongeScheduledTask.ScheduledTaskState.RUNNING) {
-            this.lock.lock();
-            try {
-                this.stateChanged.set(true);
-                this.condition.signalAll();
-            } finally {
-                this.lock.unlock();
-            }
+        // Repeating tasks have been queued again, they may be due earlier
+        // than the task the scheduler is currently waiting for.
+        if (task.state() == SpongeScheduledTask.ScheduledTaskState.RUNNING && task.task.interval > 0L) {
+            this.wakeUp();
         }
     }
 
     @Override
-    protected void executeRunnable(final Runnable runnable) {
-        this.executor.submit(runnable);
+    protected void executeRunnable(final PluginContainer plugin, final Runnable runnable) {
+        this.limiter.execute(plugin, runnable);
     }
 
     public <T> CompletableFuture<T> submit(final Callable<T> callable) {
@@ -181,6 +141,7 @@ public <T> CompletableFuture<T> submit(final Callable<T> callable) {
 
     public void close() {
         this.running = false;
+        this.wakeUp();
         // Cancel all tasks
         final Set<ScheduledTask> tasks = this.tasks();
         tasks.forEach(ScheduledTask::cancel);
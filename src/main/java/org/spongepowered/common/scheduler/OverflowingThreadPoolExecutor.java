@@ -0,0 +1,115 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.scheduler;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.common.SpongeCommon;
+
+import java.util.Deque;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * A fixed size {@link ThreadPoolExecutor} with a bounded work queue. Tasks
+ * that don't fit in the work queue are never run by the submitting thread,
+ * they spill over to an unbounded overflow queue which the workers move back
+ * into the work queue as they complete tasks. While tasks are overflowing,
+ * new submissions join the back of the overflow queue so they can't overtake
+ * the tasks that spilled before them.
+ */
+final class OverflowingThreadPoolExecutor extends ThreadPoolExecutor {
+
+    private final Deque<Runnable> overflow = new ConcurrentLinkedDeque<>();
+    private final AtomicBoolean saturated = new AtomicBoolean();
+
+    OverflowingThreadPoolExecutor(final int threads, final int queueCapacity, final ThreadFactory threadFactory) {
+        super(threads, threads, 60L, TimeUnit.SECONDS, new LinkedBlockingQueue<>(queueCapacity), threadFactory);
+        this.setRejectedExecutionHandler(new Spill());
+    }
+
+    @Override
+    public void execute(final Runnable command) {
+        if (!this.overflow.isEmpty() && !this.isShutdown()) {
+            this.overflow.addLast(command);
+            this.drainOverflow();
+            return;
+        }
+        super.execute(command);
+    }
+
+    @Override
+    protected void afterExecute(final Runnable runnable, final Throwable throwable) {
+        super.afterExecute(runnable, throwable);
+        this.drainOverflow();
+    }
+
+    /**
+     * Moves as many overflowed tasks into the work queue as it has room for.
+     * Workers and submitting threads may drain at the same time, so each task
+     * is taken out of the overflow queue before it is offered and put back in
+     * front if the work queue turned out to be full.
+     */
+    private void drainOverflow() {
+        @Nullable Runnable next;
+        while ((next = this.overflow.pollFirst()) != null) {
+            if (!this.getQueue().offer(next)) {
+                this.overflow.offerFirst(next);
+                return;
+            }
+            if (this.getPoolSize() == 0) {
+                // Idle workers may have timed out, make sure one picks it up
+                this.prestartCoreThread();
+            }
+        }
+        if (this.saturated.compareAndSet(true, false)) {
+            SpongeCommon.logger().info("The async scheduler executor has caught up with its overflowed tasks.");
+        }
+    }
+
+    private final class Spill implements RejectedExecutionHandler {
+
+        @Override
+        public void rejectedExecution(final Runnable runnable, final ThreadPoolExecutor executor) {
+            if (executor.isShutdown()) {
+                // Like the default policies, tasks submitted after shutdown are discarded
+                return;
+            }
+            final OverflowingThreadPoolExecutor outer = OverflowingThreadPoolExecutor.this;
+            outer.overflow.addLast(runnable);
+            if (outer.saturated.compareAndSet(false, true)) {
+                SpongeCommon.logger().warn("The async scheduler executor is saturated, {} threads are busy and {} tasks are queued. "
+                        + "Further tasks are held in an overflow queue until it catches up.",
+                        executor.getMaximumPoolSize(), executor.getQueue().size());
+            }
+            // The workers may have emptied the work queue between the rejection and the spill
+            outer.drainOverflow();
+        }
+    }
+}
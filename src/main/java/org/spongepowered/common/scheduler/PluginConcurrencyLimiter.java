@@ -0,0 +1,100 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.scheduler;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.plugin.PluginContainer;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Limits the amount of tasks of a single plugin that may run on the
+ * backing {@link Executor} at the same time. Tasks exceeding the limit
+ * wait in a queue of the plugin until one of its running tasks completes,
+ * without occupying a thread of the executor.
+ */
+final class PluginConcurrencyLimiter {
+
+    private final Executor executor;
+    private final int limit;
+    private final Map<String, Lane> lanes = new ConcurrentHashMap<>();
+
+    PluginConcurrencyLimiter(final Executor executor, final int limit) {
+        this.executor = executor;
+        this.limit = limit;
+    }
+
+    void execute(final PluginContainer plugin, final Runnable command) {
+        if (this.limit <= 0) {
+            this.executor.execute(command);
+            return;
+        }
+        final Lane lane = this.lanes.computeIfAbsent(plugin.metadata().id(), id -> new Lane());
+        lane.pending.add(command);
+        lane.drain();
+    }
+
+    private final class Lane {
+
+        final Queue<Runnable> pending = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger running = new AtomicInteger();
+
+        void drain() {
+            while (!this.pending.isEmpty()) {
+                final int current = this.running.get();
+                if (current >= PluginConcurrencyLimiter.this.limit) {
+                    // One of the running tasks will drain the lane once it completes
+                    return;
+                }
+                if (!this.running.compareAndSet(current, current + 1)) {
+                    continue;
+                }
+                final @Nullable Runnable next = this.pending.poll();
+                if (next == null) {
+                    this.running.decrementAndGet();
+                    continue;
+                }
+                try {
+                    PluginConcurrencyLimiter.this.executor.execute(() -> {
+                        try {
+                            next.run();
+                        } finally {
+                            this.running.decrementAndGet();
+                            this.drain();
+                        }
+                    });
+                } catch (final RuntimeException e) {
+                    this.running.decrementAndGet();
+                    throw e;
+                }
+            }
+        }
+    }
+}
@@ -25,11 +25,13 @@
 package org.spongepowered.common.scheduler;
 
 import com.google.common.base.MoreObjects;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.api.scheduler.ScheduledTask;
 import org.spongepowered.api.scheduler.Scheduler;
 import org.spongepowered.api.scheduler.Task;
 
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * An internal representation of a {@link Task} created by a plugin.
@@ -42,8 +44,12 @@ public final class SpongeScheduledTask implements ScheduledTask {
     private final String name;
 
     private long timestamp;
-    private ScheduledTaskState state;
-    private boolean isCancelled = false;
+    private long deadline;
+    private volatile ScheduledTaskState state;
+    private volatile boolean isCancelled = false;
+    // The TaskQueue this task waits in, cleared by whichever of the
+    // queue or a cancellation takes it out first
+    private final AtomicReference<@Nullable TaskQueue> queue = new AtomicReference<>();
 
     SpongeScheduledTask(final SpongeScheduler scheduler, final SpongeTask task, final String name) {
         this.scheduler = scheduler;
@@ -76,8 +82,12 @@ public String name() {
 
     @Override
     public boolean cancel() {
-        final boolean success = this.state() == ScheduledTaskState.RUNNING
-                || this.state() == ScheduledTaskState.EXECUTING;
+        final ScheduledTaskState previous = this.state();
+        final boolean success = previous == ScheduledTaskState.RUNNING
+                || previous == ScheduledTaskState.EXECUTING;
+        if (previous != ScheduledTaskState.CANCELED) {
+            this.scheduler.onTaskCancelled(this);
+        }
         this.state = ScheduledTaskState.CANCELED;
         this.isCancelled = true;
         return success;
@@ -96,6 +106,33 @@ void setTimestamp(final long timestamp) {
         this.timestamp = timestamp;
     }
 
+    /**
+     * Gets the timestamp at which this task is due, as computed when
+     * it was last put in a {@link TaskQueue}.
+     *
+     * @return The deadline
+     */
+    long deadline() {
+        return this.deadline;
+    }
+
+    void setDeadline(final long deadline) {
+        this.deadline = deadline;
+    }
+
+    /**
+     * Gets whether the next execution of this task is measured in ticks
+     * rather than real time.
+     *
+     * @return True if the next execution is tick based
+     */
+    boolean isNextExecutionTickBased() {
+        if (this.state.isActive) {
+            return this.task.tickBasedInterval;
+        }
+        return this.task.tickBasedDelay;
+    }
+
     /**
      * Returns a timestamp after which the next execution will take place.
      * Should only be compared to
@@ -110,6 +147,19 @@ long nextExecutionTimestamp() {
         return this.timestamp + this.task.delay;
     }
 
+    void setQueue(final TaskQueue queue) {
+        this.queue.set(queue);
+    }
+
+    /**
+     * Clears the queue this task was waiting in.
+     *
+     * @return The queue, or null if it was already cleared
+     */
+    @Nullable TaskQueue clearQueue() {
+        return this.queue.getAndSet(null);
+    }
+
     ScheduledTaskState state() {
         return this.state;
     }
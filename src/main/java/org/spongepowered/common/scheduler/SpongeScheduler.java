@@ -37,6 +37,7 @@
 import org.spongepowered.common.launch.Launch;
 import org.spongepowered.plugin.PluginContainer;
 
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.Objects;
@@ -49,6 +50,7 @@
 import java.util.concurrent.FutureTask;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -61,9 +63,14 @@ public abstract class SpongeScheduler implements Scheduler {
 
     private final String tag;
 
-    // The simple queue of all pending (and running) ScheduledTasks
+    // All pending (and running) ScheduledTasks, indexed by their id and owner
     protected final Map<UUID, SpongeScheduledTask> tasks = new ConcurrentHashMap<>();
-    private long sequenceNumber = 0L;
+    private final Map<String, Set<SpongeScheduledTask>> tasksByPlugin = new ConcurrentHashMap<>();
+    private final Map<String, TaskMetrics> metricsByPlugin = new ConcurrentHashMap<>();
+    // The pending ScheduledTasks, ordered by the moment they are due
+    private final TaskQueue tickBasedQueue = new TaskQueue();
+    private final TaskQueue timeBasedQueue = new TaskQueue();
+    private final AtomicLong sequenceNumber = new AtomicLong();
 
     SpongeScheduler(final String tag) {
         this.tag = tag;
@@ -93,6 +100,8 @@ protected long timestamp(final boolean tickBased) {
     protected void addTask(final SpongeScheduledTask task) {
         task.setTimestamp(this.timestamp(task.task.tickBasedDelay));
         this.tasks.put(task.uniqueId(), task);
+        this.tasksByPlugin.computeIfAbsent(task.task.plugin().metadata().id(), id -> ConcurrentHashMap.newKeySet()).add(task);
+        this.enqueueTask(task);
     }
 
     /**
@@ -101,7 +110,58 @@ protected void addTask(final SpongeScheduledTask task) {
      * @param task The task to remove
      */
     private void removeTask(final SpongeScheduledTask task) {
-        this.tasks.remove(task.uniqueId());
+        if (this.tasks.remove(task.uniqueId()) != null) {
+            final @Nullable Set<SpongeScheduledTask> pluginTasks = this.tasksByPlugin.get(task.task.plugin().metadata().id());
+            if (pluginTasks != null) {
+                pluginTasks.remove(task);
+            }
+        }
+    }
+
+    /**
+     * Puts the task in the queue matching the clock of its next execution,
+     * the task will be processed once its timestamp plus the delay or
+     * interval has passed.
+     *
+     * @param task The task to enqueue
+     */
+    private void enqueueTask(final SpongeScheduledTask task) {
+        task.setDeadline(task.nextExecutionTimestamp());
+        this.queue(task.isNextExecutionTickBased()).offer(task);
+    }
+
+    private TaskQueue queue(final boolean tickBased) {
+        return tickBased ? this.tickBasedQueue : this.timeBasedQueue;
+    }
+
+    /**
+     * Called when a task is cancelled, the task will no longer be found
+     * and will be discarded from the queue it is waiting in.
+     *
+     * @param task The cancelled task
+     */
+    void onTaskCancelled(final SpongeScheduledTask task) {
+        this.removeTask(task);
+        final @Nullable TaskQueue queue = task.clearQueue();
+        if (queue != null) {
+            queue.markCancelled();
+        }
+    }
+
+    /**
+     * Gets the time until the next queued task is due, measured against the
+     * given timestamp. Only intended for schedulers where both clocks are
+     * the same, and must be called from the thread that runs
+     * {@link #runTick()}.
+     *
+     * @param now The current timestamp
+     * @return The delay, or {@link Long#MAX_VALUE} if no task is queued
+     */
+    final long delayUntilNextTask(final long now) {
+        this.tickBasedQueue.drain();
+        this.timeBasedQueue.drain();
+        final long next = Math.min(this.tickBasedQueue.nextDeadline(), this.timeBasedQueue.nextDeadline());
+        return next == Long.MAX_VALUE ? Long.MAX_VALUE : next - now;
     }
 
     @Override
@@ -139,23 +199,17 @@ public Set<ScheduledTask> tasks() {
     public Set<ScheduledTask> tasks(final PluginContainer plugin) {
         final String testOwnerId = Objects.requireNonNull(plugin, "plugin").metadata().id();
 
-        final Set<ScheduledTask> allTasks = this.tasks();
-        final Iterator<ScheduledTask> it = allTasks.iterator();
-
-        while (it.hasNext()) {
-            final String taskOwnerId = it.next().task().plugin().metadata().id();
-            if (!testOwnerId.equals(taskOwnerId)) {
-                it.remove();
-            }
+        final @Nullable Set<SpongeScheduledTask> pluginTasks = this.tasksByPlugin.get(testOwnerId);
+        if (pluginTasks == null) {
+            return new HashSet<>();
         }
-
-        return allTasks;
+        return new HashSet<>(pluginTasks);
     }
 
     @Override
     public SpongeTaskExecutorService executor(final PluginContainer plugin) {
         Objects.requireNonNull(plugin, "plugin");
-        return new SpongeTaskExecutorService(() -> Task.builder().plugin(plugin), this);
+        return new SpongeTaskExecutorService(() -> Task.builder().plugin(plugin), this, this.metrics(plugin));
     }
 
     @Override
@@ -174,18 +228,19 @@ public SpongeScheduledTask submit(Task task, String name) {
         }
 
         final SpongeScheduledTask scheduledTask = new SpongeScheduledTask(this, (SpongeTask) task,
-                name + "-" + this.tag + "-#" + this.sequenceNumber++);
+                name + "-" + this.tag + "-#" + this.sequenceNumber.getAndIncrement());
         this.addTask(scheduledTask);
         return scheduledTask;
     }
 
     /**
-     * Process all tasks in the map.
+     * Process all tasks that are due.
      */
     final void runTick() {
         this.preTick();
         try {
-            this.tasks.values().forEach(this::processTask);
+            this.processQueue(this.tickBasedQueue, this.timestamp(true));
+            this.processQueue(this.timeBasedQueue, this.timestamp(false));
             this.postTick();
         } finally {
             this.finallyPostTick();
@@ -212,7 +267,23 @@ protected void finallyPostTick() {
     }
 
     /**
-     * Processes the task.
+     * Processes all the tasks of the queue that are due at the given
+     * timestamp. Tasks that are submitted or rescheduled while processing
+     * will be picked up by the next tick.
+     *
+     * @param queue The queue to process
+     * @param now The current timestamp of the queue's clock
+     */
+    private void processQueue(final TaskQueue queue, final long now) {
+        queue.drain();
+        @Nullable SpongeScheduledTask task;
+        while ((task = queue.poll(now)) != null) {
+            this.processTask(task);
+        }
+    }
+
+    /**
+     * Processes a task which is due.
      *
      * @param task The task to process
      */
@@ -223,42 +294,16 @@ private void processTask(final SpongeScheduledTask task) {
             this.removeTask(task);
             return;
         }
-        // If the task is already being processed, we wait for the previous
-        // occurrence to terminate.
-        if (task.state() == SpongeScheduledTask.ScheduledTaskState.EXECUTING) {
-            return;
-        }
-        final long threshold;
-        final boolean tickBased;
-        // Figure out if we start a delayed Task after threshold ticks or, start
-        // it after the interval (interval) of the repeating task parameter.
-        if (task.state() == SpongeScheduledTask.ScheduledTaskState.WAITING) {
-            threshold = task.task.delay;
-            tickBased = task.task.tickBasedDelay;
-        } else if (task.state() == SpongeScheduledTask.ScheduledTaskState.RUNNING) {
-            threshold = task.task.interval;
-            tickBased = task.task.tickBasedInterval;
-        } else {
-            threshold = Long.MAX_VALUE;
-            tickBased = false;
-        }
-        // This moment is 'now'
-        final long now = this.timestamp(tickBased);
-        // So, if the current time minus the timestamp of the task is greater
-        // than the delay to wait before starting the task, then start the task.
-        // Repeating tasks get a reset-timestamp each time they are set RUNNING
+        task.setState(SpongeScheduledTask.ScheduledTaskState.SWITCHING);
+        // It is always interval here because that's the only thing that matters
+        // at this point.
+        task.setTimestamp(this.timestamp(task.task.tickBasedInterval));
+        this.startTask(task);
         // If the task has a interval of 0 (zero) this task will not repeat, and
-        // is removed after we start it.
-        if (threshold <= (now - task.timestamp())) {
-            task.setState(SpongeScheduledTask.ScheduledTaskState.SWITCHING);
-            // It is always interval here because that's the only thing that matters
-            // at this point.
-            task.setTimestamp(this.timestamp(task.task.tickBasedInterval));
-            this.startTask(task);
-            // If task is one time shot, remove it from the map.
-            if (task.task.interval == 0L) {
-                this.removeTask(task);
-            }
+        // is removed after we start it. Repeating tasks are queued again once
+        // the execution completes.
+        if (task.task.interval == 0L) {
+            this.removeTask(task);
         }
     }
 
@@ -268,7 +313,12 @@ private void processTask(final SpongeScheduledTask task) {
      * @param task The task to start
      */
     private void startTask(final SpongeScheduledTask task) {
-        this.executeRunnable(() -> {
+        final PluginContainer plugin = task.task().plugin();
+        final TaskMetrics metrics = this.metrics(plugin);
+        final long queuedAt = System.nanoTime();
+        metrics.onQueued();
+        this.executeRunnable(plugin, () -> {
+            final long startedAt = metrics.onStart(queuedAt);
             task.setState(SpongeScheduledTask.ScheduledTaskState.EXECUTING);
             try (final @Nullable PhaseContext<@NonNull ?> context = this.createContext(task, task.task().plugin())) {
                 if (context != null) {
@@ -283,7 +333,11 @@ private void startTask(final SpongeScheduledTask task) {
             } finally {
                 if (!task.isCancelled()) {
                     task.setState(SpongeScheduledTask.ScheduledTaskState.RUNNING);
+                    if (task.task.interval > 0L) {
+                        this.enqueueTask(task);
+                    }
                 }
+                metrics.onComplete(startedAt);
                 this.onTaskCompletion(task);
             }
         });
@@ -303,10 +357,20 @@ protected void onTaskCompletion(final SpongeScheduledTask task) {
         // no-op for sync methods.
     }
 
-    protected void executeRunnable(final Runnable runnable) {
+    protected void executeRunnable(final PluginContainer plugin, final Runnable runnable) {
         runnable.run();
     }
 
+    /**
+     * Gets the execution statistics of the tasks owned by the plugin.
+     *
+     * @param plugin The plugin
+     * @return The metrics
+     */
+    public TaskMetrics metrics(final PluginContainer plugin) {
+        return this.metricsByPlugin.computeIfAbsent(Objects.requireNonNull(plugin, "plugin").metadata().id(), id -> new TaskMetrics());
+    }
+
     public <V> Future<V> execute(final Callable<V> callable) {
         final FutureTask<V> runnable = new FutureTask<>(callable);
         this.submit(new SpongeTask.BuilderImpl().execute(runnable).plugin(Launch.instance().commonPlugin()).build());
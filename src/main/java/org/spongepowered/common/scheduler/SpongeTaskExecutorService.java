@@ -45,14 +45,28 @@
 import java.util.concurrent.TimeoutException;
 import java.util.function.Supplier;
 
-class SpongeTaskExecutorService extends AbstractExecutorService implements TaskExecutorService {
+public final class SpongeTaskExecutorService extends AbstractExecutorService implements TaskExecutorService {
 
     private final Supplier<Task.Builder> taskBuilderProvider;
     private final SpongeScheduler scheduler;
+    private final TaskMetrics metrics;
 
-    SpongeTaskExecutorService(final Supplier<Task.Builder> taskBuilderProvider, final SpongeScheduler scheduler) {
+    SpongeTaskExecutorService(final Supplier<Task.Builder> taskBuilderProvider, final SpongeScheduler scheduler, final TaskMetrics metrics) {
         this.taskBuilderProvider = taskBuilderProvider;
         this.scheduler = scheduler;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Gets the queue depth, active count and latency statistics of the
+     * tasks of the plugin owning this executor. These cover all tasks of
+     * the plugin on the scheduler, not only the ones submitted through
+     * this executor.
+     *
+     * @return The metrics
+     */
+    public TaskMetrics metrics() {
+        return this.metrics;
     }
 
     @Override
@@ -0,0 +1,123 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.scheduler;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Execution statistics of the tasks of a single plugin on a
+ * {@link SpongeScheduler}.
+ */
+public final class TaskMetrics {
+
+    private final AtomicInteger queued = new AtomicInteger();
+    private final AtomicInteger active = new AtomicInteger();
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder totalWaitTime = new LongAdder();
+    private final LongAdder totalExecutionTime = new LongAdder();
+    private final AtomicLong maxWaitTime = new AtomicLong();
+
+    /**
+     * Gets the amount of tasks that were handed to the executor
+     * but have not started yet.
+     *
+     * @return The queue depth
+     */
+    public int queued() {
+        return this.queued.get();
+    }
+
+    /**
+     * Gets the amount of tasks that are currently executing.
+     *
+     * @return The active count
+     */
+    public int active() {
+        return this.active.get();
+    }
+
+    /**
+     * Gets the amount of task executions that have completed.
+     *
+     * @return The completed count
+     */
+    public long completed() {
+        return this.completed.sum();
+    }
+
+    /**
+     * Gets the average time tasks waited between becoming due
+     * and starting their execution.
+     *
+     * @return The average latency
+     */
+    public Duration averageLatency() {
+        final long completed = this.completed.sum();
+        return completed == 0 ? Duration.ZERO : Duration.ofNanos(this.totalWaitTime.sum() / completed);
+    }
+
+    /**
+     * Gets the longest time a task waited between becoming due
+     * and starting its execution.
+     *
+     * @return The maximum latency
+     */
+    public Duration maxLatency() {
+        return Duration.ofNanos(this.maxWaitTime.get());
+    }
+
+    /**
+     * Gets the average time a task execution took.
+     *
+     * @return The average execution time
+     */
+    public Duration averageExecutionTime() {
+        final long completed = this.completed.sum();
+        return completed == 0 ? Duration.ZERO : Duration.ofNanos(this.totalExecutionTime.sum() / completed);
+    }
+
+    void onQueued() {
+        this.queued.incrementAndGet();
+    }
+
+    long onStart(final long queuedAt) {
+        final long now = System.nanoTime();
+        final long waitTime = now - queuedAt;
+        this.queued.decrementAndGet();
+        this.active.incrementAndGet();
+        this.totalWaitTime.add(waitTime);
+        this.maxWaitTime.accumulateAndGet(waitTime, Math::max);
+        return now;
+    }
+
+    void onComplete(final long startedAt) {
+        this.totalExecutionTime.add(System.nanoTime() - startedAt);
+        this.active.decrementAndGet();
+        this.completed.increment();
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.scheduler;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.PriorityQueue;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A delay ordered queue of {@link SpongeScheduledTask}s, all measured
+ * against the same clock of the owning {@link SpongeScheduler}.
+ *
+ * <p>Tasks can be offered from any thread, they are handed over to the
+ * internal heap when the scheduler thread calls {@link #drain()}. Only the
+ * scheduler thread may poll from the queue. Cancelled tasks are not removed
+ * eagerly, they are discarded once they are polled or purged when they make
+ * up the majority of the queue.</p>
+ */
+final class TaskQueue {
+
+    private static final int PURGE_THRESHOLD = 64;
+
+    private final Queue<SpongeScheduledTask> incoming = new ConcurrentLinkedQueue<>();
+    private final PriorityQueue<SpongeScheduledTask> queue = new PriorityQueue<>(
+            (first, second) -> Long.signum(first.deadline() - second.deadline()));
+    private final AtomicInteger cancelled = new AtomicInteger();
+
+    /**
+     * Offers the task to this queue, the task will be ordered by its
+     * {@link SpongeScheduledTask#deadline()}.
+     *
+     * @param task The task
+     */
+    void offer(final SpongeScheduledTask task) {
+        task.setQueue(this);
+        this.incoming.add(task);
+    }
+
+    /**
+     * Moves all the tasks that were offered since the last call
+     * into the delay ordered queue, purging cancelled tasks if
+     * they make up the majority of the queue.
+     */
+    void drain() {
+        SpongeScheduledTask task;
+        while ((task = this.incoming.poll()) != null) {
+            this.queue.add(task);
+        }
+        final int cancelled = this.cancelled.get();
+        if (cancelled > TaskQueue.PURGE_THRESHOLD && cancelled > this.queue.size() / 2) {
+            this.queue.removeIf(this::purge);
+        }
+    }
+
+    private boolean purge(final SpongeScheduledTask task) {
+        if (!task.isCancelled()) {
+            return false;
+        }
+        // Only tasks that were cancelled while waiting in this queue were counted
+        if (task.clearQueue() == null) {
+            this.cancelled.decrementAndGet();
+        }
+        return true;
+    }
+
+    /**
+     * Notifies the queue that one of its waiting tasks was cancelled and
+     * may be removed on the next purge. Only called for the queue returned
+     * by {@link SpongeScheduledTask#clearQueue()}, so executing or completed
+     * tasks aren't counted. Safe to call from any thread.
+     */
+    void markCancelled() {
+        this.cancelled.incrementAndGet();
+    }
+
+    /**
+     * Retrieves and removes the next task if its deadline
+     * has passed the given timestamp.
+     *
+     * @param now The current timestamp
+     * @return The due task, if present
+     */
+    @Nullable SpongeScheduledTask poll(final long now) {
+        final @Nullable SpongeScheduledTask task = this.queue.peek();
+        if (task == null || task.deadline() - now > 0) {
+            return null;
+        }
+        this.queue.poll();
+        if (task.clearQueue() == null) {
+            // Cancelled while it was queued, it's no longer pending removal
+            this.cancelled.decrementAndGet();
+        }
+        return task;
+    }
+
+    /**
+     * Gets the deadline of the earliest task in the queue.
+     *
+     * @return The deadline, or {@link Long#MAX_VALUE} if there are no tasks
+     */
+    long nextDeadline() {
+        final @Nullable SpongeScheduledTask task = this.queue.peek();
+        return task == null ? Long.MAX_VALUE : task.deadline();
+    }
+
+    boolean isEmpty() {
+        return this.queue.isEmpty() && this.incoming.isEmpty();
+    }
+}
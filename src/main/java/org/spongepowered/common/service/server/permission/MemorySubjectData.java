@@ -47,6 +47,8 @@
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
 
 /**
  * A subject data implementation storing all contained data in memory.
@@ -59,10 +61,15 @@
  */
 public class MemorySubjectData implements SubjectData {
 
+    // Bumped whenever any subject data changes, as the resolved permissions
+    // of a subject depend on the data of all its parents
+    private static final AtomicLong GENERATION = new AtomicLong();
+
     protected final Subject subject;
     protected final ConcurrentMap<Set<Context>, Map<String, String>> options = new ConcurrentHashMap<>();
     protected final ConcurrentMap<Set<Context>, NodeTree> permissions = new ConcurrentHashMap<>();
     protected final ConcurrentMap<Set<Context>, List<SubjectReference>> parents = new ConcurrentHashMap<>();
+    private volatile ResolvedPermissions resolvedPermissions = new ResolvedPermissions(-1, null);
 
     /**
      * Creates a new subject data instance, using the provided service to
@@ -82,6 +89,51 @@ protected void onUpdate() {
         // Do nothing - users of the class will override.
     }
 
+    private void update() {
+        MemorySubjectData.GENERATION.incrementAndGet();
+        this.onUpdate();
+    }
+
+    /**
+     * Gets a key identifying the current parents of this subject data, the
+     * permissions resolved through them are only reused while the key stays
+     * equal. Override this if the parents can change without going through
+     * the mutator methods.
+     *
+     * @return The parents key
+     */
+    protected @Nullable Object parentsKey() {
+        return null;
+    }
+
+    /**
+     * Gets the permission value resolved from this data and its parents,
+     * which is cached until any subject data or the {@link #parentsKey()}
+     * changes.
+     *
+     * @param permission The permission
+     * @param resolver The function resolving uncached permissions
+     * @return The permission value
+     */
+    Tristate resolvedPermissionValue(final String permission, final Function<String, Tristate> resolver) {
+        // Values are only stored in the map of the generation read before resolving
+        // them, so values resolved from outdated data are never used afterwards
+        final long generation = MemorySubjectData.GENERATION.get();
+        final @Nullable Object parentsKey = this.parentsKey();
+        ResolvedPermissions resolved = this.resolvedPermissions;
+        if (resolved.generation != generation || !Objects.equals(resolved.parentsKey, parentsKey)) {
+            resolved = new ResolvedPermissions(generation, parentsKey);
+            this.resolvedPermissions = resolved;
+        }
+        final @Nullable Tristate cached = resolved.values.get(permission);
+        if (cached != null) {
+            return cached;
+        }
+        final Tristate value = resolver.apply(permission);
+        resolved.values.put(permission, value);
+        return value;
+    }
+
     @Override
     public Subject subject() {
         return this.subject;
@@ -142,7 +194,7 @@ public CompletableFuture<Boolean> setPermission(Set<Context> contexts, final Str
                 }
             }
         }
-        this.onUpdate();
+        this.update();
         return CompletableFuture.completedFuture(true);
     }
 
@@ -176,7 +228,7 @@ public CompletableFuture<Boolean> setPermissions(Set<Context> contexts, final Ma
                     throw new IllegalStateException("Unhandled enum state " + method);
             }
         }
-        this.onUpdate();
+        this.update();
         return CompletableFuture.completedFuture(true);
     }
 
@@ -217,7 +269,7 @@ public CompletableFuture<Boolean> setFallbackPermissionValue(Set<Context> contex
                 }
             }
         }
-        this.onUpdate();
+        this.update();
         return CompletableFuture.completedFuture(true);
     }
 
@@ -237,7 +289,7 @@ public CompletableFuture<Boolean> clearFallbackPermissionValues() {
                 }
             }
         }
-        this.onUpdate();
+        this.update();
         return CompletableFuture.completedFuture(anyUpdated);
     }
 
@@ -246,7 +298,7 @@ public CompletableFuture<Boolean> clearPermissions() {
         final boolean wasEmpty = this.permissions.isEmpty();
         this.permissions.clear();
         if (!wasEmpty) {
-            this.onUpdate();
+            this.update();
         }
         return CompletableFuture.completedFuture(!wasEmpty);
     }
@@ -255,7 +307,7 @@ public CompletableFuture<Boolean> clearPermissions() {
     public CompletableFuture<Boolean> clearPermissions(final Set<Context> context) {
         final boolean changed = this.permissions.remove(Objects.requireNonNull(context, "context")) != null;
         if (changed) {
-            this.onUpdate();
+            this.update();
         }
         return CompletableFuture.completedFuture(changed);
     }
@@ -302,7 +354,7 @@ public CompletableFuture<Boolean> setParents(Set<Context> contexts, final List<?
                     throw new IllegalStateException("Unhandled enum state " + method);
             }
         }
-        this.onUpdate();
+        this.update();
         return CompletableFuture.completedFuture(true);
     }
 
@@ -323,7 +375,7 @@ public CompletableFuture<Boolean> addParent(Set<Context> contexts, final Subject
                     .build();
 
             if (this.updateCollection(this.parents, contexts, oldParents, newParents)) {
-                this.onUpdate();
+                this.update();
                 return CompletableFuture.completedFuture(true);
             }
         }
@@ -354,7 +406,7 @@ public CompletableFuture<Boolean> removeParent(Set<Context> contexts, final Subj
             newParents.remove(parent);
 
             if (this.updateCollection(this.parents, contexts, oldParents, ImmutableList.copyOf(newParents))) {
-                this.onUpdate();
+                this.update();
                 return CompletableFuture.completedFuture(true);
             }
         }
@@ -365,7 +417,7 @@ public CompletableFuture<Boolean> clearParents() {
         final boolean wasEmpty = this.parents.isEmpty();
         this.parents.clear();
         if (!wasEmpty) {
-            this.onUpdate();
+            this.update();
         }
         return CompletableFuture.completedFuture(!wasEmpty);
     }
@@ -374,7 +426,7 @@ public CompletableFuture<Boolean> clearParents() {
     public CompletableFuture<Boolean> clearParents(final Set<Context> contexts) {
         final boolean changed = this.parents.remove(Objects.requireNonNull(contexts, "contexts")) != null;
         if (changed) {
-            this.onUpdate();
+            this.update();
         }
         return CompletableFuture.completedFuture(changed);
     }
@@ -402,7 +454,7 @@ public CompletableFuture<Boolean> setOption(Set<Context> contexts, final String
             }
 
             if ((origMap = this.options.putIfAbsent(contexts, Collections.singletonMap(key.toLowerCase(), value))) == null) {
-                this.onUpdate();
+                this.update();
                 return CompletableFuture.completedFuture(true);
             }
         }
@@ -419,7 +471,7 @@ public CompletableFuture<Boolean> setOption(Set<Context> contexts, final String
             }
             newMap = ImmutableMap.copyOf(newMap);
         } while (!this.options.replace(contexts, origMap, newMap));
-        this.onUpdate();
+        this.update();
         return CompletableFuture.completedFuture(true);
     }
 
@@ -449,7 +501,7 @@ public CompletableFuture<Boolean> setOptions(Set<Context> contexts, final Map<St
                     throw new IllegalStateException("Unhandled enum state " + method);
             }
         }
-        this.onUpdate();
+        this.update();
         return CompletableFuture.completedFuture(true);
     }
 
@@ -458,7 +510,7 @@ public CompletableFuture<Boolean> clearOptions() {
         final boolean wasEmpty = this.options.isEmpty();
         this.options.clear();
         if (!wasEmpty) {
-            this.onUpdate();
+            this.update();
         }
         return CompletableFuture.completedFuture(!wasEmpty);
     }
@@ -467,7 +519,7 @@ public CompletableFuture<Boolean> clearOptions() {
     public CompletableFuture<Boolean> clearOptions(final Set<Context> contexts) {
         final boolean ret = this.options.remove(Objects.requireNonNull(contexts, "contexts")) != null;
         if (ret) {
-            this.onUpdate();
+            this.update();
         }
         return CompletableFuture.completedFuture(ret);
     }
@@ -498,4 +550,16 @@ public CompletableFuture<Boolean> moveFrom(final SubjectData other, final Transf
         return this.copyFrom(other, method).thenCompose(res ->
                 CompletableFuture.allOf(other.clearOptions(), other.clearParents(), other.clearPermissions()).thenApply(x -> res));
     }
+
+    private static final class ResolvedPermissions {
+
+        final long generation;
+        final @Nullable Object parentsKey;
+        final ConcurrentMap<String, Tristate> values = new ConcurrentHashMap<>();
+
+        ResolvedPermissions(final long generation, final @Nullable Object parentsKey) {
+            this.generation = generation;
+            this.parentsKey = parentsKey;
+        }
+    }
 }
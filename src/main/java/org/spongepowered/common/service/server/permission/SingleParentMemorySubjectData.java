@@ -45,6 +45,12 @@ public SingleParentMemorySubjectData(final Subject subject) {
         super(subject);
     }
 
+    @Override
+    protected @Nullable Object parentsKey() {
+        // The parent may be derived from state outside of this data, like the op list
+        return this.parent();
+    }
+
     @Override
     public List<SubjectReference> parents(final Set<Context> contexts) {
         final SubjectReference parent = this.parent();
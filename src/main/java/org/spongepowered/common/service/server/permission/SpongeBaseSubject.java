@@ -81,6 +81,10 @@ public final Tristate permissionValue(final String permission, final Set<Context
     }
 
     protected Tristate dataPermissionValue(final MemorySubjectData subject, final String permission) {
+        return subject.resolvedPermissionValue(permission, node -> this.resolveDataPermissionValue(subject, node));
+    }
+
+    private Tristate resolveDataPermissionValue(final MemorySubjectData subject, final String permission) {
         Tristate res = subject.nodeTree(SubjectData.GLOBAL_CONTEXT).get(permission);
 
         if (res == Tristate.UNDEFINED) {
@@ -24,6 +24,8 @@
  */
 package org.spongepowered.common.service.server.permission;
 
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
 import com.google.common.collect.ImmutableMap;
 import org.spongepowered.api.service.permission.NodeTree;
 import org.spongepowered.api.util.Tristate;
@@ -37,6 +39,11 @@
 public final class SpongeNodeTree implements NodeTree {
 
     private static final Pattern NODE_SPLIT = Pattern.compile("\\.");
+    // Permission checks use a small set of nodes over and over, so keep them
+    // tokenized. The parts are interned so the child lookups mostly compare by identity
+    private static final LoadingCache<String, String[]> NODE_PARTS = Caffeine.newBuilder()
+            .maximumSize(8192)
+            .build(SpongeNodeTree::split);
     private final Node rootNode;
 
     SpongeNodeTree(final Tristate value) {
@@ -48,9 +55,28 @@ public final class SpongeNodeTree implements NodeTree {
         this.rootNode = rootNode;
     }
 
+    private static String[] split(final String node) {
+        final String[] parts = SpongeNodeTree.NODE_SPLIT.split(node.toLowerCase(), -1);
+        for (int i = 0; i < parts.length; i++) {
+            parts[i] = parts[i].intern();
+        }
+        return parts;
+    }
+
+    /**
+     * Gets the lower case parts of the node. The returned array is shared
+     * and must not be modified.
+     *
+     * @param node The node
+     * @return The parts
+     */
+    private static String[] parts(final String node) {
+        return SpongeNodeTree.NODE_PARTS.get(node);
+    }
+
     <T> void populate(final Map<String, T> values, final Function<T, Tristate> converter) {
         for (final Map.Entry<String, T> value : values.entrySet()) {
-            final String[] parts = SpongeNodeTree.NODE_SPLIT.split(value.getKey().toLowerCase(), -1);
+            final String[] parts = SpongeNodeTree.parts(value.getKey());
             Node currentNode = this.rootNode;
             for (final String part : parts) {
                 if (currentNode.children.containsKey(part)) {
@@ -67,14 +93,15 @@ <T> void populate(final Map<String, T> values, final Function<T, Tristate> conve
 
     @Override
     public Tristate get(final String node) {
-        final String[] parts = SpongeNodeTree.NODE_SPLIT.split(node.toLowerCase(), -1);
+        final String[] parts = SpongeNodeTree.parts(node);
         Node currentNode = this.rootNode;
         Tristate lastUndefinedVal = Tristate.UNDEFINED;
-        for (String str : parts) {
-            if (!currentNode.children.containsKey(str)) {
+        for (final String str : parts) {
+            final Node child = currentNode.children.get(str);
+            if (child == null) {
                 break;
             }
-            currentNode = currentNode.children.get(str);
+            currentNode = child;
             if (currentNode.value != Tristate.UNDEFINED) {
                 lastUndefinedVal = currentNode.value;
             }
@@ -116,7 +143,7 @@ private void populateMap(final ImmutableMap.Builder<String, Boolean> values, fin
 
     @Override
     public NodeTree withValue(final String node, final Tristate value) {
-        final String[] parts = SpongeNodeTree.NODE_SPLIT.split(node.toLowerCase(), -1);
+        final String[] parts = SpongeNodeTree.parts(node);
         final Node newRoot = new Node(new HashMap<>(this.rootNode.children));
         Node newPtr = newRoot;
         Node currentPtr = this.rootNode;
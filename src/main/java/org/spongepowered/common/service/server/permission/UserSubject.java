@@ -53,6 +53,12 @@ public SubjectReference parent() {
                 return users.getService().getGroupForOpLevel(UserSubject.this.getOpLevel()).asSubjectReference();
             }
 
+            @Override
+            protected Object parentsKey() {
+                // The parent only depends on the op level, which is cheaper to look up
+                return UserSubject.this.getOpLevel();
+            }
+
             @Override
             public void setParent(final SubjectReference parent) {
                 final int opLevel;
@@ -27,6 +27,8 @@
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.NbtIo;
 import net.minecraft.server.MinecraftServer;
 import net.minecraft.world.level.storage.PlayerDataStorage;
 import org.checkerframework.checker.nullness.qual.NonNull;
@@ -41,20 +43,26 @@
 import org.spongepowered.common.SpongeCommon;
 import org.spongepowered.common.accessor.server.players.PlayerListAccessor;
 import org.spongepowered.common.accessor.world.level.storage.PlayerDataStorageAccessor;
+import org.spongepowered.common.applaunch.config.core.SpongeConfigs;
 import org.spongepowered.common.entity.player.SpongeUserData;
 import org.spongepowered.common.entity.player.SpongeUserView;
 import org.spongepowered.common.profile.SpongeGameProfile;
 
 import java.io.IOException;
+import java.io.OutputStream;
 import java.nio.file.FileSystems;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.nio.file.StandardWatchEventKinds;
 import java.nio.file.WatchEvent;
 import java.nio.file.WatchKey;
 import java.nio.file.WatchService;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
@@ -66,7 +74,9 @@
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Stream;
 
 @DefaultQualifier(NonNull.class)
@@ -76,7 +86,7 @@ public final class SpongeUserManager implements UserManager {
 
     // This is the important set - this tells us if a User file actually exists,
     // it should mirror the filesystem.
-    private final Set<UUID> knownUUIDs = new HashSet<>();
+    private final Set<UUID> knownUUIDs = ConcurrentHashMap.newKeySet();
     private final Cache<UUID, SpongeUserData> userCache = Caffeine.newBuilder()
             .expireAfterAccess(1, TimeUnit.HOURS)
             .build();
@@ -84,16 +94,32 @@ public final class SpongeUserManager implements UserManager {
     private final Map<String, SpongeUserMutableWatchEvent> watcherUpdateMap = new HashMap<>();
 
     private final MinecraftServer server;
-    private final ExecutorService executorService = Executors.newSingleThreadExecutor(new ThreadFactoryBuilder()
+    private final ExecutorService executorService;
+    // Loads that have not completed yet, so concurrent requests for a user share one load
+    private final Map<UUID, CompletableFuture<@Nullable User>> pendingLoads = new ConcurrentHashMap<>();
+
+    // Snapshots of users waiting to be written, a newer snapshot replaces an older one
+    private final Map<UUID, CompoundTag> pendingSaves = new ConcurrentHashMap<>();
+    // Held while writing or deleting a user file, so snapshots are never written out of order
+    private final Object saveLock = new Object();
+    private final AtomicBoolean saveScheduled = new AtomicBoolean();
+    private final ExecutorService saveExecutorService = Executors.newSingleThreadExecutor(new ThreadFactoryBuilder()
             .setDaemon(true)
-            .setNameFormat("Sponge-User-Data-Loader")
+            .setNameFormat("Sponge-User-Data-Writer")
             .build());
+    private final UserDataMetrics metrics = new UserDataMetrics();
 
     private @Nullable WatchService filesystemWatchService = null;
     private @Nullable WatchKey watchKey = null;
 
     public SpongeUserManager(final MinecraftServer server) {
         this.server = server;
+        this.executorService = Executors.newFixedThreadPool(
+                Math.max(1, SpongeConfigs.getCommon().get().world.userDataIoThreads),
+                new ThreadFactoryBuilder()
+                        .setDaemon(true)
+                        .setNameFormat("Sponge-User-Data-Loader-%d")
+                        .build());
     }
 
     public void init() {
@@ -126,18 +152,67 @@ public CompletableFuture<User> loadOrCreate(final UUID uuid) {
         if (currentUser != null) {
             return CompletableFuture.completedFuture(SpongeUserView.create(uuidToUse));
         }
-        return CompletableFuture.supplyAsync(() -> {
-            if (always || this.knownUUIDs.contains(uuidToUse)) {
-                final com.mojang.authlib.@Nullable GameProfile profile = this.server.getProfileCache().get(uuidToUse);
-                try {
-                    this.createUser(profile == null ? new com.mojang.authlib.GameProfile(uuidToUse, null) : profile);
-                } catch (final IOException e) {
-                    throw new CompletionException(e);
-                }
-                return SpongeUserView.create(uuidToUse);
+        final CompletableFuture<@Nullable User> future = new CompletableFuture<>();
+        final @Nullable CompletableFuture<@Nullable User> pending = this.pendingLoads.putIfAbsent(uuidToUse, future);
+        if (pending != null) {
+            if (always) {
+                // The pending load may not create the user
+                return pending.thenCompose(user -> user != null ? CompletableFuture.completedFuture(user) : this.fetchUser(uuidToUse, true));
             }
-            return null;
-        }, this.executorService);
+            return pending;
+        }
+        this.metrics.onLoadQueued();
+        this.executorService.execute(() -> {
+            final @Nullable User user;
+            try {
+                user = this.loadUser(uuidToUse, always);
+            } catch (final Throwable t) {
+                this.metrics.onLoadFailed();
+                this.pendingLoads.remove(uuidToUse, future);
+                future.completeExceptionally(t instanceof IOException ? new CompletionException(t) : t);
+                return;
+            }
+            this.pendingLoads.remove(uuidToUse, future);
+            future.complete(user);
+        });
+        return future;
+    }
+
+    private @Nullable User loadUser(final UUID uniqueId, final boolean always) throws IOException {
+        final long startedAt = System.nanoTime();
+        if (always || this.knownUUIDs.contains(uniqueId)) {
+            final com.mojang.authlib.@Nullable GameProfile profile = this.server.getProfileCache().get(uniqueId);
+            this.createUser(profile == null ? new com.mojang.authlib.GameProfile(uniqueId, null) : profile);
+            this.metrics.onLoaded(startedAt);
+            return SpongeUserView.create(uniqueId);
+        }
+        this.metrics.onLoaded(startedAt);
+        return null;
+    }
+
+    /**
+     * Loads the users with the given unique ids in parallel. Users that
+     * don't exist are left out of the result.
+     *
+     * @param uniqueIds The unique ids of the users to load
+     * @return The loaded users
+     */
+    public CompletableFuture<Collection<User>> loadAll(final Collection<UUID> uniqueIds) {
+        final List<CompletableFuture<@Nullable User>> futures = new ArrayList<>(uniqueIds.size());
+        for (final UUID uniqueId : uniqueIds) {
+            futures.add(this.fetchUser(uniqueId, false));
+        }
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0]))
+                .thenApply(v -> {
+                    final List<User> users = new ArrayList<>(futures.size());
+                    for (final CompletableFuture<@Nullable User> future : futures) {
+                        final @Nullable User user = future.join();
+                        if (user != null) {
+                            users.add(user);
+                        }
+                    }
+                    return users;
+                });
     }
 
     @Override
@@ -183,7 +258,12 @@ public CompletableFuture<Boolean> delete(final UUID uuid) {
             final @Nullable Path dataFile = this.getPlayerDataFile(uuid);
             if (dataFile != null) {
                 try {
-                    if (Files.deleteIfExists(dataFile)) {
+                    final boolean deleted;
+                    synchronized (this.saveLock) {
+                        this.pendingSaves.remove(uuid);
+                        deleted = Files.deleteIfExists(dataFile);
+                    }
+                    if (deleted) {
                         final @Nullable SpongeUserData data = this.userCache.getIfPresent(uuid);
                         if (data != null) {
                             this.dirtyUsers.remove(data);
@@ -242,7 +322,8 @@ public Stream<GameProfile> streamOfMatches(final String lastKnownName) {
         final String nameToCheck = Objects.requireNonNull(lastKnownName, "lastKnownName").toLowerCase(Locale.ROOT);
         return ((Server) this.server).gameProfileManager().cache()
                 .streamOfMatches(nameToCheck)
-                .filter(gameProfile -> this.exists(gameProfile.uuid()));
+                // Used for tab completion, so only check the known files rather than the file system
+                .filter(gameProfile -> this.knownUUIDs.contains(gameProfile.uuid()) || this.userCache.getIfPresent(gameProfile.uuid()) != null);
     }
 
     private UUID ensureNonEmptyUUID(final UUID uuid) {
@@ -265,11 +346,17 @@ public void handlePlayerLogin(final com.mojang.authlib.GameProfile mcProfile) th
             // The views will now point at the player.
             this.userCache.invalidate(currentUser.uniqueId());
         }
+        // The player data will be read right after this, so it can't wait for the writer.
+        this.writePendingSave(mcProfile.getId());
     }
 
     private void createUser(final com.mojang.authlib.GameProfile profile) throws IOException {
         this.pollFilesystemWatcher();
-        final @Nullable SpongeUserData user = SpongeUserData.create(profile);
+        // A save of this user may still be queued, in which case the file is stale or doesn't exist yet.
+        // If writing it fails the queued data is the most recent one, so the user is created from it instead.
+        this.writePendingSave(profile.getId());
+        final @Nullable CompoundTag pending = this.pendingSaves.get(profile.getId());
+        final SpongeUserData user = pending == null ? SpongeUserData.create(profile) : SpongeUserData.fromSnapshot(profile, pending);
         this.userCache.put(profile.getId(), user);
         this.knownUUIDs.add(profile.getId());
     }
@@ -357,15 +444,16 @@ void refreshFilesystemProfiles() {
     }
 
     private void pollFilesystemWatcher() {
-        if (this.watchKey == null || !this.watchKey.isValid()) {
-            // Reboot this if it's somehow failed.
-            this.refreshFilesystemProfiles();
-            this.setupWatchers();
-            return;
-        }
-        // We've already got the UUIDs, so we need to just see if the file system
-        // watcher has found any more (or removed any).
+        // Users are loaded by multiple threads
         synchronized (this.watcherUpdateMap) {
+            if (this.watchKey == null || !this.watchKey.isValid()) {
+                // Reboot this if it's somehow failed.
+                this.refreshFilesystemProfiles();
+                this.setupWatchers();
+                return;
+            }
+            // We've already got the UUIDs, so we need to just see if the file system
+            // watcher has found any more (or removed any).
             this.watcherUpdateMap.clear();
             for (final WatchEvent<?> event : this.watchKey.pollEvents()) {
                 @SuppressWarnings("unchecked") final WatchEvent<Path> ev = (WatchEvent<Path>) event;
@@ -425,19 +513,136 @@ private Path getSaveHandlerDirectory() {
         return ((PlayerDataStorageAccessor) this.getSaveHandler()).accessor$playerDir().toPath();
     }
 
+    /**
+     * Queues the dirty offline users to be written in the background.
+     */
     public void saveDirtyUsers() {
         // If they are online, Minecraft will do the save automatically.
         this.dirtyUsers.removeIf(SpongeUserData::isOnline);
         for (final SpongeUserData user : new HashSet<>(this.dirtyUsers)) {
+            this.dirtyUsers.remove(user);
+            if (this.pendingSaves.put(user.uniqueId(), user.snapshot()) != null) {
+                this.metrics.onSaveCoalesced();
+            }
+        }
+        this.scheduleSave();
+    }
+
+    private void scheduleSave() {
+        if (!this.pendingSaves.isEmpty() && this.saveScheduled.compareAndSet(false, true)) {
             try {
-                user.save();
-            } catch (final IOException ignored) {
-                // There isn't much we can do here. The error has been logged, but
-                // the user is still available at this time so let's continue...
+                this.saveExecutorService.execute(this::writePendingSaves);
+            } catch (final RejectedExecutionException e) {
+                // Shutting down, the remaining saves are written by close
+                this.saveScheduled.set(false);
             }
         }
     }
 
+    private void writePendingSaves() {
+        // Saves queued from now on need another run
+        this.saveScheduled.set(false);
+        final int batchSize = Math.max(1, SpongeConfigs.getCommon().get().world.userDataSaveBatchSize);
+        final List<UUID> batch = new ArrayList<>(batchSize);
+        for (final UUID uniqueId : this.pendingSaves.keySet()) {
+            batch.add(uniqueId);
+            if (batch.size() == batchSize) {
+                break;
+            }
+        }
+        boolean written = false;
+        for (final UUID uniqueId : batch) {
+            written |= this.writePendingSave(uniqueId);
+        }
+        // Failed saves stay queued until the next save, rather than being retried right away
+        if (written && batch.size() == batchSize) {
+            this.scheduleSave();
+        }
+    }
+
+    private boolean writePendingSave(final UUID uniqueId) {
+        synchronized (this.saveLock) {
+            final @Nullable CompoundTag compound = this.pendingSaves.remove(uniqueId);
+            if (compound == null) {
+                return false;
+            }
+            try {
+                this.writeUserFile(uniqueId, compound);
+                return true;
+            } catch (final IOException e) {
+                // The error has been logged, try again with the next save.
+                this.pendingSaves.putIfAbsent(uniqueId, compound);
+                return false;
+            }
+        }
+    }
+
+    /**
+     * Writes the given user data right away, replacing any save of the
+     * user that is still queued.
+     *
+     * @param uniqueId The unique id of the user
+     * @param compound The user data to write
+     * @throws IOException If the file could not be written
+     */
+    public void writeNow(final UUID uniqueId, final CompoundTag compound) throws IOException {
+        synchronized (this.saveLock) {
+            this.pendingSaves.remove(uniqueId);
+            this.writeUserFile(uniqueId, compound);
+        }
+    }
+
+    private void writeUserFile(final UUID uniqueId, final CompoundTag compound) throws IOException {
+        final long startedAt = System.nanoTime();
+        final Path file = this.getSaveHandlerDirectory().resolve(uniqueId + ".dat");
+        // Write to a temporary file first, so a crash can't leave a partially written file behind.
+        final Path tempFile = file.resolveSibling(uniqueId + ".dat.tmp");
+        try {
+            try (final OutputStream out = Files.newOutputStream(tempFile)) {
+                NbtIo.writeCompressed(compound, out);
+            }
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (final IOException e) {
+            // We log the message here because the error may be swallowed by a completable future.
+            SpongeCommon.logger().warn("Failed to save user file [{}]!", file, e);
+            throw e;
+        }
+        this.metrics.onSaved(startedAt);
+    }
+
+    /**
+     * Writes all queued saves and stops the loader and writer threads.
+     */
+    public void close() {
+        this.saveDirtyUsers();
+        this.executorService.shutdown();
+        this.saveExecutorService.shutdown();
+        try {
+            if (!this.saveExecutorService.awaitTermination(30, TimeUnit.SECONDS)) {
+                SpongeCommon.logger().warn("Timed out while waiting for user data to be saved");
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // Anything left over wasn't part of a batch that ran
+        for (final UUID uniqueId : new ArrayList<>(this.pendingSaves.keySet())) {
+            this.writePendingSave(uniqueId);
+        }
+    }
+
+    /**
+     * Gets the amount of user saves that are waiting to be written.
+     *
+     * @return The save queue depth
+     */
+    public int queuedSaves() {
+        return this.pendingSaves.size();
+    }
+
+    public UserDataMetrics metrics() {
+        return this.metrics;
+    }
+
     public void unmarkDirty(final SpongeUserData user) {
         this.dirtyUsers.remove(user);
     }
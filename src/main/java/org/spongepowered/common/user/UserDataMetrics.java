@@ -0,0 +1,123 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.user;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Load and save statistics of the offline user data handled by a
+ * {@link SpongeUserManager}.
+ */
+public final class UserDataMetrics {
+
+    private final AtomicInteger queuedLoads = new AtomicInteger();
+    private final LongAdder loads = new LongAdder();
+    private final LongAdder totalLoadTime = new LongAdder();
+    private final LongAdder saves = new LongAdder();
+    private final LongAdder totalSaveTime = new LongAdder();
+    private final LongAdder coalescedSaves = new LongAdder();
+
+    /**
+     * Gets the amount of user loads that have not completed yet.
+     *
+     * @return The load queue depth
+     */
+    public int queuedLoads() {
+        return this.queuedLoads.get();
+    }
+
+    /**
+     * Gets the amount of user data files that were loaded.
+     *
+     * @return The load count
+     */
+    public long loads() {
+        return this.loads.sum();
+    }
+
+    /**
+     * Gets the average time loading a user took.
+     *
+     * @return The average load time
+     */
+    public Duration averageLoadTime() {
+        final long loads = this.loads.sum();
+        return loads == 0 ? Duration.ZERO : Duration.ofNanos(this.totalLoadTime.sum() / loads);
+    }
+
+    /**
+     * Gets the amount of user data files that were written.
+     *
+     * @return The save count
+     */
+    public long saves() {
+        return this.saves.sum();
+    }
+
+    /**
+     * Gets the average time writing a user data file took.
+     *
+     * @return The average save time
+     */
+    public Duration averageSaveTime() {
+        final long saves = this.saves.sum();
+        return saves == 0 ? Duration.ZERO : Duration.ofNanos(this.totalSaveTime.sum() / saves);
+    }
+
+    /**
+     * Gets the amount of saves that were replaced by a newer save of
+     * the same user before they were written.
+     *
+     * @return The coalesced save count
+     */
+    public long coalescedSaves() {
+        return this.coalescedSaves.sum();
+    }
+
+    void onLoadQueued() {
+        this.queuedLoads.incrementAndGet();
+    }
+
+    void onLoaded(final long startedAt) {
+        this.totalLoadTime.add(System.nanoTime() - startedAt);
+        this.loads.increment();
+        this.queuedLoads.decrementAndGet();
+    }
+
+    void onLoadFailed() {
+        this.queuedLoads.decrementAndGet();
+    }
+
+    void onSaved(final long startedAt) {
+        this.totalSaveTime.add(System.nanoTime() - startedAt);
+        this.saves.increment();
+    }
+
+    void onSaveCoalesced() {
+        this.coalescedSaves.increment();
+    }
+}
@@ -162,10 +162,12 @@ public static final class V3 {
         public static final String SPONGE_ENTITY_CREATOR = "Creator";
         public static final String SPONGE_ENTITY_NOTIFIER = "Notifier";
         public static final String SPONGE_BLOCK_POS_TABLE = "BlockPosTable";
+        public static final String SPONGE_BLOCK_TRACKER_TABLE = "BlockTrackerTable";
 
         @Deprecated
         public static final String LEGACY_SPONGE_PLAYER_UUID_TABLE = "PlayerIdTable";
         public static final String SPONGE_PLAYER_UUID_TABLE = "player-uuid-table";
+        public static final String SPONGE_PLAYER_UUID_INDEX = "player-uuid-index";
 
         // General DataQueries
         public static final DataQuery UNSAFE_NBT = of("UnsafeData");
@@ -26,6 +26,8 @@
 
 import com.google.common.base.Charsets;
 import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import com.google.gson.JsonSyntaxException;
@@ -35,48 +37,88 @@
 import org.spongepowered.common.SpongeCommon;
 
 import java.io.BufferedReader;
+import java.io.BufferedWriter;
 import java.io.IOException;
 import java.lang.reflect.Type;
 import java.nio.charset.Charset;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Queue;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
 
+/**
+ * The last known usernames of players.
+ *
+ * <p>The cache is stored as a json snapshot plus a journal of the changes
+ * made since that snapshot. Saving only appends the pending changes to the
+ * journal, and the snapshot is rewritten once the journal grew large. All
+ * file writes happen in order on a single background thread.</p>
+ */
 public final class UsernameCache {
 
     private static final Charset CHARSET = Charsets.UTF_8;
+    // The journal is compacted once it holds this many entries, or more entries than the cache
+    private static final int MIN_COMPACTION_THRESHOLD = 1024;
 
     private final Map<UUID, String> usernameByUniqueId;
+    // Lowercase usernames to all the players who last used them, the most
+    // recent one last, kept in sync with the map above
+    private final Map<String, List<UUID>> uniqueIdsByUsername;
     private final Gson gson;
     private final Path cacheFile;
-    private boolean dirty = false;
+    private final Path journalFile;
+    private final Queue<Change> pendingChanges = new ConcurrentLinkedQueue<>();
+    private final ExecutorService writer = Executors.newSingleThreadExecutor(new ThreadFactoryBuilder()
+            .setDaemon(true)
+            .setNameFormat("Sponge-Username-Cache-Writer")
+            .build());
+    // Only accessed while writing, or before the writer is used
+    private int journalEntries;
 
     public UsernameCache(final Server server) {
         this.usernameByUniqueId = new ConcurrentHashMap<>();
+        this.uniqueIdsByUsername = new ConcurrentHashMap<>();
         this.gson = new GsonBuilder().setPrettyPrinting().create();
         this.cacheFile = server.game().gameDirectory().resolve("usernamecache.json");
+        this.journalFile = server.game().gameDirectory().resolve("usernamecache.journal");
     }
 
     public void setUsername(final UUID uniqueId, final String username) {
         Preconditions.checkNotNull(uniqueId);
         Preconditions.checkNotNull(username);
 
-        if (username.equals(this.usernameByUniqueId.get(uniqueId))) {
+        final @Nullable String previous = this.usernameByUniqueId.put(uniqueId, username);
+        if (username.equals(previous)) {
             return;
         }
-
-        this.usernameByUniqueId.put(uniqueId, username);
-        this.dirty = true;
+        if (previous != null) {
+            this.unindex(previous, uniqueId);
+        }
+        this.index(username, uniqueId);
+        this.pendingChanges.add(new Change(uniqueId, username));
     }
 
     public boolean removeUsername(final UUID uniqueId) {
         Preconditions.checkNotNull(uniqueId);
 
-        if (this.usernameByUniqueId.remove(uniqueId) != null) {
-            this.dirty = true;
+        final @Nullable String previous = this.usernameByUniqueId.remove(uniqueId);
+        if (previous != null) {
+            this.unindex(previous, uniqueId);
+            this.pendingChanges.add(new Change(uniqueId, null));
             return true;
         }
 
@@ -92,13 +134,33 @@ public boolean removeUsername(final UUID uniqueId) {
     public @Nullable UUID getLastKnownUUID(final String username) {
         Preconditions.checkNotNull(username);
 
-        for (Map.Entry<UUID, String> mapEntry : this.usernameByUniqueId.entrySet()) {
-            if (mapEntry.getValue().equalsIgnoreCase(username)) {
-                return mapEntry.getKey();
+        final @Nullable List<UUID> uniqueIds = this.uniqueIdsByUsername.get(username.toLowerCase(Locale.ROOT));
+        return uniqueIds == null ? null : uniqueIds.get(uniqueIds.size() - 1);
+    }
+
+    private void index(final String username, final UUID uniqueId) {
+        this.uniqueIdsByUsername.compute(username.toLowerCase(Locale.ROOT), (name, uniqueIds) -> {
+            if (uniqueIds == null) {
+                return ImmutableList.of(uniqueId);
             }
-        }
+            final ImmutableList.Builder<UUID> builder = ImmutableList.builder();
+            for (final UUID other : uniqueIds) {
+                if (!other.equals(uniqueId)) {
+                    builder.add(other);
+                }
+            }
+            return builder.add(uniqueId).build();
+        });
+    }
 
-        return null;
+    private void unindex(final String username, final UUID uniqueId) {
+        // Other players may still have this as their last known username
+        this.uniqueIdsByUsername.computeIfPresent(username.toLowerCase(Locale.ROOT), (name, uniqueIds) -> {
+            final ImmutableList<UUID> remaining = uniqueIds.stream()
+                    .filter(other -> !other.equals(uniqueId))
+                    .collect(ImmutableList.toImmutableList());
+            return remaining.isEmpty() ? null : remaining;
+        });
     }
 
     public boolean containsUUID(final UUID uniqueId) {
@@ -113,43 +175,144 @@ public Map<UUID, String> getAll() {
 
     public void load() {
         this.usernameByUniqueId.clear();
+        this.uniqueIdsByUsername.clear();
+        this.pendingChanges.clear();
+        this.journalEntries = 0;
 
-        if (Files.notExists(this.cacheFile)) {
-            return;
+        if (Files.exists(this.cacheFile)) {
+            try (final BufferedReader reader = Files.newBufferedReader(this.cacheFile, UsernameCache.CHARSET)) {
+                final Type type = new TypeToken<Map<UUID, String>>() { private static final long serialVersionUID = 1L; }.getType();
+                final @Nullable Map<UUID, String> snapshot = this.gson.fromJson(reader, type);
+                if (snapshot != null) {
+                    this.usernameByUniqueId.putAll(snapshot);
+                }
+            } catch (final JsonSyntaxException e) {
+                SpongeCommon.logger().error("Could not parse username cache file as valid json, deleting file", e);
+                this.deleteFile(this.cacheFile);
+            } catch (final IOException e) {
+                SpongeCommon.logger().error("Failed to read username cache file from disk, deleting file", e);
+                this.deleteFile(this.cacheFile);
+            }
         }
 
-        try (final BufferedReader reader = Files.newBufferedReader(this.cacheFile, UsernameCache.CHARSET)) {
-            final Type type = new TypeToken<Map<UUID, String>>() { private static final long serialVersionUID = 1L; }.getType();
-            this.usernameByUniqueId.putAll(this.gson.fromJson(reader, type));
-        } catch (final JsonSyntaxException e) {
-            SpongeCommon.logger().error("Could not parse username cache file as valid json, deleting file", e);
-            this.deleteCacheFile();
-        } catch (final IOException e) {
-            SpongeCommon.logger().error("Failed to read username cache file from disk, deleting file", e);
-            this.deleteCacheFile();
+        if (Files.exists(this.journalFile)) {
+            try (final BufferedReader reader = Files.newBufferedReader(this.journalFile, UsernameCache.CHARSET)) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    this.replay(line);
+                    this.journalEntries++;
+                }
+            } catch (final IOException | IllegalArgumentException e) {
+                // Entries are only appended, so everything read up to here is still valid
+                SpongeCommon.logger().error("Failed to read the username cache journal, ignoring the remaining entries", e);
+            }
+        }
+
+        for (final Map.Entry<UUID, String> entry : this.usernameByUniqueId.entrySet()) {
+            this.index(entry.getValue(), entry.getKey());
+        }
+    }
+
+    private void replay(final String line) {
+        if (line.isEmpty()) {
+            return;
+        }
+        final int separator = line.indexOf(' ');
+        final UUID uniqueId = UUID.fromString(separator == -1 ? line.substring(1) : line.substring(1, separator));
+        if (line.charAt(0) == '-') {
+            this.usernameByUniqueId.remove(uniqueId);
+        } else if (line.charAt(0) == '+' && separator != -1) {
+            this.usernameByUniqueId.put(uniqueId, line.substring(separator + 1));
         }
     }
 
-    private void deleteCacheFile() {
+    private void deleteFile(final Path file) {
         try {
-            Files.deleteIfExists(this.cacheFile);
-        } catch (IOException e) {
+            Files.deleteIfExists(file);
+        } catch (final IOException e) {
             SpongeCommon.logger().error("Failed to delete username cache file from disk!", e);
         }
     }
 
+    /**
+     * Writes the changes made since the last save in the background.
+     */
     public void save() {
-        if (!this.dirty) {
+        if (this.pendingChanges.isEmpty()) {
             return;
         }
+        final List<Change> changes = new ArrayList<>();
+        for (Change change; (change = this.pendingChanges.poll()) != null; ) {
+            changes.add(change);
+        }
+        try {
+            this.writer.execute(() -> this.write(changes));
+        } catch (final RejectedExecutionException e) {
+            // Saved after close, there is no writer left to hand the changes to
+            this.write(changes);
+        }
+    }
+
+    /**
+     * Saves the pending changes and waits for all writes to complete.
+     */
+    public void close() {
+        this.save();
+        this.writer.shutdown();
+        try {
+            if (!this.writer.awaitTermination(30, TimeUnit.SECONDS)) {
+                SpongeCommon.logger().warn("Timed out while saving the username cache");
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
 
+    private synchronized void write(final List<Change> changes) {
         try {
-            // Make sure we don't save when another thread is still saving
-            final String serialized = this.gson.toJson(this.usernameByUniqueId);
-            Files.write(this.cacheFile, serialized.getBytes(UsernameCache.CHARSET));
-            this.dirty = false;
+            try (final BufferedWriter writer = Files.newBufferedWriter(this.journalFile, UsernameCache.CHARSET,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+                for (final Change change : changes) {
+                    if (change.username == null) {
+                        writer.write('-');
+                        writer.write(change.uniqueId.toString());
+                    } else {
+                        writer.write('+');
+                        writer.write(change.uniqueId.toString());
+                        writer.write(' ');
+                        writer.write(change.username);
+                    }
+                    writer.newLine();
+                }
+            }
+            this.journalEntries += changes.size();
+            if (this.journalEntries >= Math.max(UsernameCache.MIN_COMPACTION_THRESHOLD, this.usernameByUniqueId.size())) {
+                this.compact();
+            }
         } catch (final IOException e) {
             SpongeCommon.logger().error("Failed to save username cache to file!", e);
         }
     }
+
+    private void compact() throws IOException {
+        // Changes made after this copy are either pending or in the journal
+        // written after the snapshot, replaying them again is harmless.
+        final Map<UUID, String> snapshot = new HashMap<>(this.usernameByUniqueId);
+        final Path tempFile = this.cacheFile.resolveSibling(this.cacheFile.getFileName() + ".tmp");
+        Files.write(tempFile, this.gson.toJson(snapshot).getBytes(UsernameCache.CHARSET));
+        Files.move(tempFile, this.cacheFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        Files.deleteIfExists(this.journalFile);
+        this.journalEntries = 0;
+    }
+
+    private static final class Change {
+
+        final UUID uniqueId;
+        final @Nullable String username;
+
+        Change(final UUID uniqueId, final @Nullable String username) {
+            this.uniqueId = uniqueId;
+            this.username = username;
+        }
+    }
 }
@@ -0,0 +1,155 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.schematic;
+
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.api.registry.Registry;
+import org.spongepowered.api.registry.RegistryHolder;
+import org.spongepowered.api.world.schematic.Palette;
+import org.spongepowered.api.world.schematic.PaletteReference;
+import org.spongepowered.api.world.schematic.PaletteType;
+
+import java.util.AbstractMap;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * The immutable counterpart of {@link MutableArrayPalette}, all references are
+ * resolved up front since the palette can no longer change.
+ */
+public final class ImmutableArrayPalette<T, R> implements Palette.Immutable<T, R> {
+
+    private static final int MISSING_ID = -1;
+
+    private final Object[] values;
+    private final PaletteReference<T, R>[] references;
+    private final Object2IntOpenHashMap<T> ids;
+    private final PaletteType<T, R> paletteType;
+    private final Registry<R> registry;
+    private final int maxId;
+
+    @SuppressWarnings("unchecked")
+    ImmutableArrayPalette(final PaletteType<T, R> paletteType, final Registry<R> registry, final Object[] values) {
+        this.values = values;
+        this.references = new PaletteReference[values.length];
+        this.ids = new Object2IntOpenHashMap<>(values.length);
+        this.ids.defaultReturnValue(ImmutableArrayPalette.MISSING_ID);
+        this.paletteType = paletteType;
+        this.registry = registry;
+        int maxId = 0;
+        for (int id = 0; id < values.length; id++) {
+            final T value = (T) values[id];
+            if (value == null) {
+                continue;
+            }
+            this.ids.put(value, id);
+            this.references[id] = MutableBimapPalette.createPaletteReference(value, paletteType, registry);
+            maxId = id;
+        }
+        this.maxId = maxId;
+    }
+
+    @Override
+    public PaletteType<T, R> type() {
+        return this.paletteType;
+    }
+
+    @Override
+    public int highestId() {
+        return this.maxId;
+    }
+
+    @Override
+    public OptionalInt get(final T state) {
+        final int id = this.ids.getInt(state);
+        if (id == ImmutableArrayPalette.MISSING_ID) {
+            return OptionalInt.empty();
+        }
+        return OptionalInt.of(id);
+    }
+
+    @Override
+    public Optional<PaletteReference<T, R>> get(final int id) {
+        if (id < 0 || id >= this.references.length) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(this.references[id]);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Optional<T> get(final int id, final RegistryHolder holder) {
+        if (id < 0 || id >= this.values.length) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable((T) this.values[id]);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Stream<T> stream() {
+        return Arrays.stream(this.values)
+            .filter(Objects::nonNull)
+            .map(value -> (T) value);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Stream<Map.Entry<T, Integer>> streamWithIds() {
+        return IntStream.range(0, this.values.length)
+            .filter(id -> this.values[id] != null)
+            .mapToObj(id -> new AbstractMap.SimpleEntry<>((T) this.values[id], id));
+    }
+
+    @Override
+    public Mutable<T, R> asMutable(final RegistryHolder holder) {
+        return new MutableArrayPalette<>(this.paletteType, this.registry, this.values);
+    }
+
+    @Override
+    public boolean equals(final @Nullable Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || this.getClass() != o.getClass()) {
+            return false;
+        }
+        final ImmutableArrayPalette<?, ?> that = (ImmutableArrayPalette<?, ?>) o;
+        return this.maxId == that.maxId &&
+               Arrays.equals(this.values, that.values) &&
+               this.paletteType.equals(that.paletteType);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(Arrays.hashCode(this.values), this.paletteType, this.maxId);
+    }
+}
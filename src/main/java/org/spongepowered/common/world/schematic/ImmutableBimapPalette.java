@@ -115,7 +115,7 @@ public Stream<Map.Entry<T, Integer>> streamWithIds() {
 
     @Override
     public Mutable<T, R> asMutable(final RegistryHolder holder) {
-        return new MutableBimapPalette<>(this.paletteType, this.registry);
+        return new MutableBimapPalette<>(this.paletteType, this.registry, this.idsr);
     }
 
     @Override
@@ -0,0 +1,248 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.schematic;
+
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.api.registry.Registry;
+import org.spongepowered.api.registry.RegistryHolder;
+import org.spongepowered.api.world.schematic.Palette;
+import org.spongepowered.api.world.schematic.PaletteReference;
+import org.spongepowered.api.world.schematic.PaletteType;
+
+import java.util.AbstractMap;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * A {@link Palette.Mutable} keeping its values in an array indexed by id and
+ * an unboxed value to id map, avoiding the {@link PaletteReference} round trip
+ * that {@link MutableBimapPalette} takes on every lookup. References are only
+ * created when explicitly requested through {@link #get(int)}.
+ */
+public final class MutableArrayPalette<T, R> implements Palette.Mutable<T, R> {
+
+    private static final int DEFAULT_ALLOCATION_SIZE = 64;
+    private static final int MISSING_ID = -1;
+
+    private final Object2IntOpenHashMap<T> ids;
+    private final BitSet allocation = new BitSet(MutableArrayPalette.DEFAULT_ALLOCATION_SIZE);
+    private final PaletteType<T, R> paletteType;
+    private final Registry<R> registry;
+    private Object[] values;
+    private @Nullable PaletteReference<T, R>[] references;
+    private int maxId = 0;
+
+    public MutableArrayPalette(final PaletteType<T, R> paletteType, final Registry<R> registry) {
+        this(paletteType, registry, MutableArrayPalette.DEFAULT_ALLOCATION_SIZE);
+    }
+
+    public MutableArrayPalette(final PaletteType<T, R> paletteType, final Registry<R> registry, final int expectedSize) {
+        this.paletteType = paletteType;
+        this.registry = registry;
+        this.ids = new Object2IntOpenHashMap<>(expectedSize);
+        this.ids.defaultReturnValue(MutableArrayPalette.MISSING_ID);
+        this.values = new Object[Math.max(expectedSize, 1)];
+    }
+
+    @SuppressWarnings("unchecked")
+    MutableArrayPalette(final PaletteType<T, R> paletteType, final Registry<R> registry, final Object[] values) {
+        this(paletteType, registry, values.length);
+        for (int id = 0; id < values.length; id++) {
+            if (values[id] != null) {
+                this.assign0((T) values[id], id);
+            }
+        }
+    }
+
+    @Override
+    public PaletteType<T, R> type() {
+        return this.paletteType;
+    }
+
+    @Override
+    public int highestId() {
+        return this.maxId;
+    }
+
+    @Override
+    public OptionalInt get(final T state) {
+        final int id = this.ids.getInt(state);
+        if (id == MutableArrayPalette.MISSING_ID) {
+            return OptionalInt.empty();
+        }
+        return OptionalInt.of(id);
+    }
+
+    @Override
+    public int orAssign(final T state) {
+        final int id = this.ids.getInt(state);
+        if (id != MutableArrayPalette.MISSING_ID) {
+            return id;
+        }
+        final int next = this.allocation.nextClearBit(0);
+        this.assign0(state, next);
+        return next;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Optional<PaletteReference<T, R>> get(final int id) {
+        if (id < 0 || id >= this.values.length || this.values[id] == null) {
+            return Optional.empty();
+        }
+        if (this.references == null) {
+            this.references = new PaletteReference[this.values.length];
+        } else if (this.references.length <= id) {
+            this.references = Arrays.copyOf(this.references, this.values.length);
+        }
+        PaletteReference<T, R> ref = this.references[id];
+        if (ref == null) {
+            ref = MutableBimapPalette.createPaletteReference((T) this.values[id], this.paletteType, this.registry);
+            this.references[id] = ref;
+        }
+        return Optional.of(ref);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Optional<T> get(final int id, final RegistryHolder holder) {
+        if (id < 0 || id >= this.values.length) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable((T) this.values[id]);
+    }
+
+    public int assign(final T state, final int id) {
+        final int existing = this.ids.getInt(state);
+        if (existing != MutableArrayPalette.MISSING_ID && existing != id) {
+            this.clear(existing);
+        }
+        this.assign0(state, id);
+        return id;
+    }
+
+    private void assign0(final T state, final int id) {
+        if (id >= this.values.length) {
+            this.values = Arrays.copyOf(this.values, Math.max(id + 1, this.values.length << 1));
+        }
+        final Object previous = this.values[id];
+        if (previous != null && !previous.equals(state)) {
+            this.ids.removeInt(previous);
+        }
+        if (this.references != null && id < this.references.length) {
+            this.references[id] = null;
+        }
+        if (this.maxId < id) {
+            this.maxId = id;
+        }
+        this.allocation.set(id);
+        this.values[id] = state;
+        this.ids.put(state, id);
+    }
+
+    @Override
+    public boolean remove(final T state) {
+        final int id = this.ids.removeInt(state);
+        if (id == MutableArrayPalette.MISSING_ID) {
+            return false;
+        }
+        this.clear(id);
+        return true;
+    }
+
+    private void clear(final int id) {
+        this.values[id] = null;
+        if (this.references != null && id < this.references.length) {
+            this.references[id] = null;
+        }
+        this.allocation.clear(id);
+        if (id == this.maxId) {
+            this.maxId = Math.max(this.allocation.previousSetBit(this.maxId), 0);
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Stream<T> stream() {
+        final Object[] copy = Arrays.copyOf(this.values, this.maxId + 1);
+        return Arrays.stream(copy)
+            .filter(Objects::nonNull)
+            .map(value -> (T) value);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Stream<Map.Entry<T, Integer>> streamWithIds() {
+        final Object[] copy = Arrays.copyOf(this.values, this.maxId + 1);
+        return IntStream.range(0, copy.length)
+            .filter(id -> copy[id] != null)
+            .mapToObj(id -> new AbstractMap.SimpleEntry<>((T) copy[id], id));
+    }
+
+    @Override
+    public Immutable<T, R> asImmutable() {
+        return new ImmutableArrayPalette<>(this.paletteType, this.registry, Arrays.copyOf(this.values, this.maxId + 1));
+    }
+
+    @Override
+    public boolean equals(final @Nullable Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || this.getClass() != o.getClass()) {
+            return false;
+        }
+        final MutableArrayPalette<?, ?> that = (MutableArrayPalette<?, ?>) o;
+        return this.maxId == that.maxId &&
+            this.allocation.equals(that.allocation) &&
+            this.paletteType.equals(that.paletteType) &&
+            this.valuesEqual(that);
+    }
+
+    private boolean valuesEqual(final MutableArrayPalette<?, ?> that) {
+        for (int id = 0; id <= this.maxId; id++) {
+            if (!Objects.equals(this.values[id], that.values[id])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Objects.hash(this.allocation, this.paletteType, this.maxId);
+        for (int id = 0; id <= this.maxId; id++) {
+            result = 31 * result + Objects.hashCode(this.values[id]);
+        }
+        return result;
+    }
+}
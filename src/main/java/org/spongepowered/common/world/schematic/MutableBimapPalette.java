@@ -70,7 +70,13 @@ public MutableBimapPalette(
         this.idsr = this.ids.inverse();
         this.paletteType = paletteType;
         this.registry = registry;
-        reference.forEach((key, id) -> this.getOrAssignInternal(key));
+        reference.forEach((key, id) -> {
+            if (this.maxId < id) {
+                this.maxId = id;
+            }
+            this.allocation.set(id);
+            this.ids.put(id, key);
+        });
     }
 
     public MutableBimapPalette(final PaletteType<T, R> paletteType, final Registry<R> registry, final RegistryType<R> registryType,
@@ -174,13 +180,18 @@ public int assign(final T state, final int id) {
 
     @Override
     public boolean remove(final T state) {
-        final Integer id = this.idsr.get(state);
+        final PaletteReference<T, R> ref = MutableBimapPalette.createPaletteReference(
+            state,
+            this.paletteType,
+            this.registry
+        );
+        final Integer id = this.idsr.get(ref);
         if (id == null) {
             return false;
         }
         this.allocation.clear(id);
         if (id == this.maxId) {
-            this.maxId = this.allocation.previousSetBit(this.maxId);
+            this.maxId = Math.max(this.allocation.previousSetBit(this.maxId), 0);
         }
         this.ids.remove(id);
         return true;
@@ -26,14 +26,20 @@
 
 import com.mojang.datafixers.DataFixer;
 import io.leangen.geantyref.TypeToken;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
 import net.minecraft.SharedConstants;
 import net.minecraft.data.BuiltinRegistries;
 import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.DoubleTag;
+import net.minecraft.nbt.ListTag;
+import net.minecraft.nbt.NbtIo;
 import net.minecraft.nbt.NbtUtils;
+import net.minecraft.nbt.NumericTag;
+import net.minecraft.nbt.StringTag;
 import net.minecraft.util.datafix.DataFixTypes;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
-import org.jetbrains.annotations.NotNull;
 import org.spongepowered.api.ResourceKey;
 import org.spongepowered.api.Sponge;
 import org.spongepowered.api.block.BlockState;
@@ -42,7 +48,6 @@
 import org.spongepowered.api.block.entity.BlockEntityArchetype;
 import org.spongepowered.api.data.persistence.DataContainer;
 import org.spongepowered.api.data.persistence.DataContentUpdater;
-import org.spongepowered.api.data.persistence.DataQuery;
 import org.spongepowered.api.data.persistence.DataTranslator;
 import org.spongepowered.api.data.persistence.DataView;
 import org.spongepowered.api.data.persistence.InvalidDataException;
@@ -50,16 +55,15 @@
 import org.spongepowered.api.entity.EntityType;
 import org.spongepowered.api.registry.Registry;
 import org.spongepowered.api.registry.RegistryTypes;
+import org.spongepowered.api.world.Archetype;
 import org.spongepowered.api.world.biome.Biome;
 import org.spongepowered.api.world.schematic.Palette;
-import org.spongepowered.api.world.schematic.PaletteTypes;
 import org.spongepowered.api.world.schematic.Schematic;
 import org.spongepowered.api.world.volume.archetype.entity.EntityArchetypeEntry;
-import org.spongepowered.api.world.volume.biome.BiomeVolume;
-import org.spongepowered.api.world.volume.block.BlockVolume;
 import org.spongepowered.common.SpongeCommon;
 import org.spongepowered.common.block.BlockStateSerializerDeserializer;
 import org.spongepowered.common.block.entity.SpongeBlockEntityArchetypeBuilder;
+import org.spongepowered.common.data.AbstractArchetype;
 import org.spongepowered.common.data.persistence.NBTTranslator;
 import org.spongepowered.common.data.persistence.schematic.SchematicUpdater1_to_2;
 import org.spongepowered.common.data.persistence.schematic.SchematicUpdater2_to_3;
@@ -71,17 +75,17 @@
 import org.spongepowered.math.vector.Vector3i;
 
 import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataOutput;
 import java.io.IOException;
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashSet;
-import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentSkipListSet;
-import java.util.function.Consumer;
 import java.util.function.Function;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
+import java.util.function.Supplier;
 
 public class SchematicTranslator implements DataTranslator<Schematic> {
 
@@ -93,6 +97,26 @@ public class SchematicTranslator implements DataTranslator<Schematic> {
     private static final DataContentUpdater V1_TO_2 = new SchematicUpdater1_to_2();
     private static final DataContentUpdater V2_TO_3 = new SchematicUpdater2_to_3();
 
+    // The tag names of the current schematic version
+    private static final String SCHEMATIC = Constants.Sponge.Schematic.SCHEMATIC.asString('.');
+    private static final String VERSION = Constants.Sponge.Schematic.VERSION.asString('.');
+    private static final String DATA_VERSION = Constants.Sponge.Schematic.DATA_VERSION.asString('.');
+    private static final String METADATA = Constants.Sponge.Schematic.METADATA.asString('.');
+    private static final String NAME = Constants.Sponge.Schematic.NAME.asString('.');
+    private static final String REQUIRED_MODS = Constants.Sponge.Schematic.REQUIRED_MODS.asString('.');
+    private static final String WIDTH = Constants.Sponge.Schematic.WIDTH.asString('.');
+    private static final String HEIGHT = Constants.Sponge.Schematic.HEIGHT.asString('.');
+    private static final String LENGTH = Constants.Sponge.Schematic.LENGTH.asString('.');
+    private static final String OFFSET = Constants.Sponge.Schematic.OFFSET.asString('.');
+    private static final String BLOCK_CONTAINER = Constants.Sponge.Schematic.BLOCK_CONTAINER.asString('.');
+    private static final String BIOME_CONTAINER = Constants.Sponge.Schematic.BIOME_CONTAINER.asString('.');
+    private static final String PALETTE = Constants.Sponge.Schematic.PALETTE.asString('.');
+    private static final String DATA = Constants.Sponge.Schematic.BLOCK_DATA.asString('.');
+    private static final String BLOCKENTITY_CONTAINER = Constants.Sponge.Schematic.BLOCKENTITY_CONTAINER.asString('.');
+    private static final String ENTITIES = Constants.Sponge.Schematic.ENTITIES.asString('.');
+    private static final String ID = Constants.Sponge.Schematic.ENTITIES_ID.asString('.');
+    private static final String POS = Constants.Sponge.Schematic.ENTITIES_POS.asString('.');
+
     @Nullable private static DataFixer VANILLA_FIXER;
 
     public static SchematicTranslator get() {
@@ -110,74 +134,93 @@ public TypeToken<Schematic> token() {
 
     @Override
     public Schematic translate(final DataView unprocessed) throws InvalidDataException {
+        return this.read(NBTTranslator.INSTANCE.translate(unprocessed));
+    }
+
+    /**
+     * Reads a schematic from uncompressed NBT, such as a
+     * {@link java.io.DataInputStream} wrapping a decompressed schematic file.
+     *
+     * @param input The input to read from
+     * @return The schematic
+     * @throws IOException If the input could not be read
+     * @throws InvalidDataException If the NBT is not a valid schematic
+     */
+    public Schematic read(final DataInput input) throws IOException, InvalidDataException {
+        return this.read(NbtIo.read(input));
+    }
+
+    /**
+     * Reads a schematic straight from its NBT, the block and biome data are
+     * decoded from the tags without copying them into a {@link DataView}.
+     *
+     * @param unprocessed The schematic, or a compound holding it
+     * @return The schematic
+     * @throws InvalidDataException If the NBT is not a valid schematic
+     */
+    public Schematic read(final CompoundTag unprocessed) throws InvalidDataException {
         if (SchematicTranslator.VANILLA_FIXER == null) {
             SchematicTranslator.VANILLA_FIXER = SpongeCommon.server().getFixerUpper();
         }
-        final DataView schematicView = unprocessed.getView(Constants.Sponge.Schematic.SCHEMATIC)
-            .orElse(unprocessed);
-        final int version = schematicView.getInt(Constants.Sponge.Schematic.VERSION).get();
+        CompoundTag schematic = unprocessed.contains(SchematicTranslator.SCHEMATIC, Constants.NBT.TAG_COMPOUND)
+            ? unprocessed.getCompound(SchematicTranslator.SCHEMATIC)
+            : unprocessed;
+        final int version = SchematicTranslator.requireNumber(schematic, SchematicTranslator.VERSION).getAsInt();
 
         if (version > Constants.Sponge.Schematic.CURRENT_VERSION) {
             throw new InvalidDataException(
                 String.format("Unknown schematic version %d (current version is %d)", version,
                     Constants.Sponge.Schematic.CURRENT_VERSION
                 ));
-        } else if (version == 1) {
-            SchematicTranslator.V2_TO_3.update(SchematicTranslator.V1_TO_2.update(schematicView));
-        } else if (version == 2) {
-            SchematicTranslator.V2_TO_3.update(schematicView);
+        } else if (version == 1 || version == 2) {
+            // The content updaters work on DataViews, only outdated schematics take the round trip
+            DataView legacyView = NBTTranslator.INSTANCE.translate(schematic);
+            if (version == 1) {
+                legacyView = SchematicTranslator.V1_TO_2.update(legacyView);
+            }
+            schematic = NBTTranslator.INSTANCE.translate(SchematicTranslator.V2_TO_3.update(legacyView));
         }
-        final int dataVersion = schematicView.getInt(Constants.Sponge.Schematic.DATA_VERSION).get();
+        final int dataVersion = SchematicTranslator.requireNumber(schematic, SchematicTranslator.DATA_VERSION).getAsInt();
         // DataFixer will be able to upgrade entity and tile entity data if and only if we're running a valid server and
         // the data version is outdated.
         final boolean needsFixers = dataVersion < SharedConstants.getCurrentVersion().getWorldVersion() && SchematicTranslator.VANILLA_FIXER != null;
 
-
-        final DataView updatedView;
         if (needsFixers) {
-            final CompoundTag compound = NBTTranslator.INSTANCE.translate(schematicView);
-            final CompoundTag updated = NbtUtils.update(SchematicTranslator.VANILLA_FIXER, DataFixTypes.CHUNK, compound, dataVersion);
-            updatedView = NBTTranslator.INSTANCE.translate(updated);
-        } else {
-            updatedView = schematicView;
+            schematic = NbtUtils.update(SchematicTranslator.VANILLA_FIXER, DataFixTypes.CHUNK, schematic, dataVersion);
         }
 
         final SpongeSchematicBuilder builder = new SpongeSchematicBuilder();
-        final Optional<DataView> metadataView = updatedView.getView(Constants.Sponge.Schematic.METADATA);
-        metadataView.ifPresent(metadata -> {
-            metadata.getView(DataQuery.of(".")).ifPresent(data -> {
-                for (final DataQuery key : data.keys(false)) {
+        if (schematic.contains(SchematicTranslator.METADATA, Constants.NBT.TAG_COMPOUND)) {
+            final CompoundTag metadata = schematic.getCompound(SchematicTranslator.METADATA).copy();
+            if (metadata.contains(".", Constants.NBT.TAG_COMPOUND)) {
+                final CompoundTag data = metadata.getCompound(".");
+                for (final String key : data.getAllKeys()) {
                     if (!metadata.contains(key)) {
-                        metadata.set(key, data.get(key).get());
+                        metadata.put(key, data.get(key));
                     }
                 }
-            });
-            final String schematicName = metadata.getString(Constants.Sponge.Schematic.NAME).orElse("unknown");
-            metadata.getStringList(Constants.Sponge.Schematic.REQUIRED_MODS).ifPresent(mods -> {
-                for (final String modId : mods) {
-                    if (!Sponge.pluginManager().plugin(modId).isPresent()) {
-                        if (SchematicTranslator.MISSING_MOD_IDS.add(modId)) {
-                            SpongeCommon.logger().warn(
-                                "When attempting to load the Schematic: {} there is a missing modid {} some blocks/tiles/entities may not load correctly.",
-                                schematicName, modId
-                            );
-                        }
+            }
+            final String schematicName = metadata.contains(SchematicTranslator.NAME, Constants.NBT.TAG_STRING)
+                ? metadata.getString(SchematicTranslator.NAME)
+                : "unknown";
+            final ListTag mods = metadata.getList(SchematicTranslator.REQUIRED_MODS, Constants.NBT.TAG_STRING);
+            for (int i = 0; i < mods.size(); i++) {
+                final String modId = mods.getString(i);
+                if (!Sponge.pluginManager().plugin(modId).isPresent()) {
+                    if (SchematicTranslator.MISSING_MOD_IDS.add(modId)) {
+                        SpongeCommon.logger().warn(
+                            "When attempting to load the Schematic: {} there is a missing modid {} some blocks/tiles/entities may not load correctly.",
+                            schematicName, modId
+                        );
                     }
                 }
-            });
-            final DataContainer meta = DataContainer.createNew(DataView.SafetyMode.NO_DATA_CLONED);
-            for (final DataQuery key : metadata.keys(false)) {
-                meta.set(key, metadata.get(key).get());
             }
-            builder.metadata(meta);
-        });
+            builder.metadata(NBTTranslator.INSTANCE.translate(metadata));
+        }
 
-        final int width = updatedView.getShort(Constants.Sponge.Schematic.WIDTH)
-            .orElseThrow(() -> new InvalidDataException("Missing value for: " + Constants.Sponge.Schematic.WIDTH));
-        final int height = updatedView.getShort(Constants.Sponge.Schematic.HEIGHT)
-            .orElseThrow(() -> new InvalidDataException("Missing value for: " + Constants.Sponge.Schematic.HEIGHT));
-        final int length = updatedView.getShort(Constants.Sponge.Schematic.LENGTH)
-            .orElseThrow(() -> new InvalidDataException("Missing value for: " + Constants.Sponge.Schematic.LENGTH));
+        final int width = SchematicTranslator.requireNumber(schematic, SchematicTranslator.WIDTH).getAsShort();
+        final int height = SchematicTranslator.requireNumber(schematic, SchematicTranslator.HEIGHT).getAsShort();
+        final int length = SchematicTranslator.requireNumber(schematic, SchematicTranslator.LENGTH).getAsShort();
         if (width <= 0
             || height <= 0
             || length <= 0) {
@@ -187,7 +230,9 @@ public Schematic translate(final DataView unprocessed) throws InvalidDataExcepti
             ));
         }
 
-        final int[] offsetArray = (int[]) updatedView.get(Constants.Sponge.Schematic.OFFSET).orElse(new int[3]);
+        final int[] offsetArray = schematic.contains(SchematicTranslator.OFFSET, Constants.NBT.TAG_INT_ARRAY)
+            ? schematic.getIntArray(SchematicTranslator.OFFSET)
+            : new int[3];
         if (offsetArray.length != 3) {
             throw new InvalidDataException("Schematic offset was not of length 3");
         }
@@ -198,213 +243,263 @@ offset, new Vector3i(width, height, length),
             Sponge.server()
         );
 
-        updatedView.getView(Constants.Sponge.Schematic.BLOCK_CONTAINER)
-            .ifPresent(
-                blocks -> SchematicTranslator.deserializeBlockContainer(blocks, archetypeVolume, width, length,
-                    offset, needsFixers
-                ));
-
-        updatedView.getView(Constants.Sponge.Schematic.BIOME_CONTAINER)
-            .ifPresent(
-                biomes -> SchematicTranslator.deserializeBiomeContainer(biomes, archetypeVolume, width, length,
-                    offset
-                ));
-
+        if (schematic.contains(SchematicTranslator.BLOCK_CONTAINER, Constants.NBT.TAG_COMPOUND)) {
+            SchematicTranslator.deserializeBlockContainer(schematic.getCompound(SchematicTranslator.BLOCK_CONTAINER),
+                archetypeVolume, width, height, length, offset
+            );
+        }
 
+        if (schematic.contains(SchematicTranslator.BIOME_CONTAINER, Constants.NBT.TAG_COMPOUND)) {
+            SchematicTranslator.deserializeBiomeContainer(schematic.getCompound(SchematicTranslator.BIOME_CONTAINER),
+                archetypeVolume, width, height, length
+            );
+        }
 
-        updatedView.getViewList(Constants.Sponge.Schematic.ENTITIES)
-            .map(List::stream)
-            .orElse(Stream.of())
-            .filter(entity -> entity.contains(
-                Constants.Sponge.Schematic.ENTITIES_POS,
-                Constants.Sponge.Schematic.ENTITIES_ID
-            ))
-            .map(SchematicTranslator.deserializeEntityArchetype())
-            .filter(Optional::isPresent)
-            .map(Optional::get)
-            .forEach(archetypeVolume::addEntity);
+        final ListTag entities = schematic.getList(SchematicTranslator.ENTITIES, Constants.NBT.TAG_COMPOUND);
+        for (int i = 0; i < entities.size(); i++) {
+            final CompoundTag entity = entities.getCompound(i);
+            if (entity.contains(SchematicTranslator.POS) && entity.contains(SchematicTranslator.ID)) {
+                SchematicTranslator.deserializeEntityArchetype(entity).ifPresent(archetypeVolume::addEntity);
+            }
+        }
 
         builder.volume(archetypeVolume);
         return builder.build();
     }
 
-    private static Function<DataView, Optional<EntityArchetypeEntry>> deserializeEntityArchetype() {
-        return view -> {
-            final String typeId = view.getString(Constants.Sponge.Schematic.ENTITIES_ID).get();
-            final ResourceKey key = ResourceKey.resolve(typeId);
-            final Optional<EntityType<@NonNull ?>> entityType = Sponge.game().registry(
-                RegistryTypes.ENTITY_TYPE).findValue(key);
-            return entityType.map(type -> {
-                final List<Double> pos = view.getDoubleList(Constants.Sponge.Schematic.ENTITIES_POS)
-                    .orElseThrow(() -> new IllegalStateException(
-                        "Schematic not abiding by format, all Entities must have an x y z pos"));
-                final EntityArchetype.Builder builder = SpongeEntityArchetypeBuilder.pooled()
-                    .type(type);
-                view.getView(Constants.Sponge.Schematic.BLOCKENTITY_DATA).ifPresent(builder::entityData);
-                final Vector3d entityPosition = new Vector3d(pos.get(0), pos.get(1), pos.get(2));
-                return EntityArchetypeEntry.of(builder.build(), entityPosition);
-            });
-        };
+    private static NumericTag requireNumber(final CompoundTag tag, final String key) {
+        if (!tag.contains(key, Constants.NBT.TAG_ANY_NUMERIC)) {
+            throw new InvalidDataException("Missing value for: " + key);
+        }
+        return (NumericTag) tag.get(key);
     }
 
-    @NotNull
-    private static Consumer<DataView> deserializeBlockEntities(
-        final Vector3i offset, final SpongeArchetypeVolume archetypeVolume,
-        final boolean needsFixers
+    private static Optional<EntityArchetypeEntry> deserializeEntityArchetype(final CompoundTag tag) {
+        final ResourceKey key = ResourceKey.resolve(tag.getString(SchematicTranslator.ID));
+        final Optional<EntityType<@NonNull ?>> entityType = Sponge.game().registry(
+            RegistryTypes.ENTITY_TYPE).findValue(key);
+        return entityType.map(type -> {
+            final ListTag pos = tag.getList(SchematicTranslator.POS, Constants.NBT.TAG_DOUBLE);
+            if (pos.size() != 3) {
+                throw new IllegalStateException("Schematic not abiding by format, all Entities must have an x y z pos");
+            }
+            final EntityArchetype.Builder builder = SpongeEntityArchetypeBuilder.pooled()
+                .type(type);
+            if (tag.contains(SchematicTranslator.DATA, Constants.NBT.TAG_COMPOUND)) {
+                builder.entityData(NBTTranslator.INSTANCE.translate(tag.getCompound(SchematicTranslator.DATA)));
+            }
+            final Vector3d entityPosition = new Vector3d(pos.getDouble(0), pos.getDouble(1), pos.getDouble(2));
+            return EntityArchetypeEntry.of(builder.build(), entityPosition);
+        });
+    }
+
+    private static void deserializeBlockEntity(
+        final CompoundTag tag, final Vector3i offset, final SpongeArchetypeVolume archetypeVolume
     ) {
-        return blockEntityData -> {
-            final int[] pos = (int[]) blockEntityData.get(Constants.Sponge.Schematic.BLOCKENTITY_POS)
-                .orElseThrow(() -> new IllegalStateException(
-                    "Schematic not abiding by format, all BlockEntities must have an x y z pos"));
-            blockEntityData.getString(Constants.Sponge.Schematic.BLOCKENTITY_ID)
-                .map(ResourceKey::resolve)
-                .map(key -> Sponge.game().registry(RegistryTypes.BLOCK_ENTITY_TYPE).findValue(key))
-                .filter(Optional::isPresent)
-                .map(Optional::get)
-                .ifPresent(type -> {
-                    final int x = pos[0] - offset.x();
-                    final int y = pos[1] - offset.y();
-                    final int z = pos[2] - offset.z();
-                    final BlockEntityArchetype.Builder builder = SpongeBlockEntityArchetypeBuilder.pooled()
-                        .state(archetypeVolume.block(x, y, z))
-                        .blockEntity(type);
-                    blockEntityData.getView(Constants.Sponge.Schematic.BLOCKENTITY_DATA)
-                        .ifPresent(builder::blockEntityData);
-
-                    archetypeVolume.addBlockEntity(x, y, z, builder.build());
-                });
-        };
+        if (!tag.contains(SchematicTranslator.POS, Constants.NBT.TAG_INT_ARRAY)) {
+            throw new IllegalStateException("Schematic not abiding by format, all BlockEntities must have an x y z pos");
+        }
+        if (!tag.contains(SchematicTranslator.ID, Constants.NBT.TAG_STRING)) {
+            return;
+        }
+        final int[] pos = tag.getIntArray(SchematicTranslator.POS);
+        final ResourceKey key = ResourceKey.resolve(tag.getString(SchematicTranslator.ID));
+        Sponge.game().registry(RegistryTypes.BLOCK_ENTITY_TYPE).findValue(key).ifPresent(type -> {
+            final int x = pos[0] - offset.x();
+            final int y = pos[1] - offset.y();
+            final int z = pos[2] - offset.z();
+            final BlockEntityArchetype.Builder builder = SpongeBlockEntityArchetypeBuilder.pooled()
+                .state(archetypeVolume.block(x, y, z))
+                .blockEntity(type);
+            if (tag.contains(SchematicTranslator.DATA, Constants.NBT.TAG_COMPOUND)) {
+                builder.blockEntityData(NBTTranslator.INSTANCE.translate(tag.getCompound(SchematicTranslator.DATA)));
+            }
+
+            archetypeVolume.addBlockEntity(x, y, z, builder.build());
+        });
     }
 
     private static void deserializeBlockContainer(
-        final DataView view,
+        final CompoundTag tag,
         final SpongeArchetypeVolume archetypeVolume,
         final int width,
+        final int height,
         final int length,
-        final Vector3i offset,
-        final boolean needsFixers
+        final Vector3i offset
     ) {
-        final MutableBimapPalette<BlockState, BlockType> palette;
-        final DataView paletteMap = view.getView(Constants.Sponge.Schematic.BLOCK_PALETTE)
-            .orElseThrow(() -> new InvalidDataException("Missing BlockPalette as required by Schematic Specification"));
-        final Set<DataQuery> paletteKeys = paletteMap.keys(false);
-        // If we had a default palette_max we don't want to allocate all
-        // that space for nothing so we use a sensible default instead
-        palette = new MutableBimapPalette<>(
-            PaletteTypes.BLOCK_STATE_PALETTE.get(),
-            Sponge.game().registry(RegistryTypes.BLOCK_TYPE),
-            RegistryTypes.BLOCK_TYPE,
-            paletteKeys.size()
-        );
-        for (final DataQuery key : paletteKeys) {
-            final BlockState state = BlockStateSerializerDeserializer.deserialize(key.parts().get(0))
+        if (!tag.contains(SchematicTranslator.PALETTE, Constants.NBT.TAG_COMPOUND)) {
+            throw new InvalidDataException("Missing BlockPalette as required by Schematic Specification");
+        }
+        final CompoundTag paletteMap = tag.getCompound(SchematicTranslator.PALETTE);
+        final Set<String> paletteKeys = paletteMap.getAllKeys();
+        // Resolve every palette entry once, the data only refers to them by id
+        final Int2ObjectMap<BlockState> statesById = new Int2ObjectOpenHashMap<>(paletteKeys.size());
+        for (final String key : paletteKeys) {
+            final BlockState state = BlockStateSerializerDeserializer.deserialize(key)
                 .orElseGet(() -> BlockTypes.BEDROCK.get().defaultState());
-            palette.assign(state, paletteMap.getInt(key)
-                .orElseThrow(() -> new IllegalStateException("Somehow got a missing biome in the palette map for schematic"))
-            );
+            if (!paletteMap.contains(key, Constants.NBT.TAG_ANY_NUMERIC)) {
+                throw new IllegalStateException("Somehow got a missing biome in the palette map for schematic");
+            }
+            statesById.put(paletteMap.getInt(key), state);
         }
+        final BlockState[] states = SchematicTranslator.toArray(statesById, new BlockState[0]);
 
-        final byte[] blockData = (byte[]) view.get(Constants.Sponge.Schematic.BLOCK_DATA)
-            .orElseThrow(() -> new InvalidDataException("Missing BlockData for Schematic"));
-        SchematicTranslator.readByteArrayData(
-            width, (width * length), offset, palette, blockData, archetypeVolume,
-            BlockVolume.Modifiable::setBlock
-        );
-        view.getViewList(Constants.Sponge.Schematic.BLOCKENTITY_CONTAINER)
-            .ifPresent(tileData ->
-                tileData.forEach(
-                    SchematicTranslator.deserializeBlockEntities(offset, archetypeVolume, needsFixers))
-            );
+        if (!tag.contains(SchematicTranslator.DATA, Constants.NBT.TAG_BYTE_ARRAY)) {
+            throw new InvalidDataException("Missing BlockData for Schematic");
+        }
+        final byte[] blockData = tag.getByteArray(SchematicTranslator.DATA);
+        final int[] ids = new int[width * height * length];
+        final int count = SchematicTranslator.readVarInts(blockData, ids, states.length);
+        archetypeVolume.setBlocks(states, ids, count);
+
+        final ListTag blockEntities = tag.getList(SchematicTranslator.BLOCKENTITY_CONTAINER, Constants.NBT.TAG_COMPOUND);
+        for (int i = 0; i < blockEntities.size(); i++) {
+            SchematicTranslator.deserializeBlockEntity(blockEntities.getCompound(i), offset, archetypeVolume);
+        }
     }
 
     private static void deserializeBiomeContainer(
-        final DataView view,
+        final CompoundTag tag,
         final SpongeArchetypeVolume archetypeVolume,
         final int width,
-        final int length,
-        final Vector3i offset
+        final int height,
+        final int length
     ) {
-        final MutableBimapPalette<Biome, Biome> biomePalette;
-        final DataView biomeMap = view.getView(Constants.Sponge.Schematic.BIOME_PALETTE)
-            .orElseThrow(() -> new InvalidDataException("Missing BiomePalette as required by the schematic spec"));
+        if (!tag.contains(SchematicTranslator.PALETTE, Constants.NBT.TAG_COMPOUND)) {
+            throw new InvalidDataException("Missing BiomePalette as required by the schematic spec");
+        }
+        final CompoundTag biomeMap = tag.getCompound(SchematicTranslator.PALETTE);
 
-        final Set<DataQuery> biomeKeys = biomeMap.keys(false);
+        final Set<String> biomeKeys = biomeMap.getAllKeys();
         final Registry<Biome> biomeRegistry = VolumeStreamUtils.nativeToSpongeRegistry(BuiltinRegistries.BIOME);
-        biomePalette = new MutableBimapPalette<>(
-            PaletteTypes.BIOME_PALETTE.get(),
-            biomeRegistry,
-            RegistryTypes.BIOME,
-            biomeKeys.size()
-        );
-
-        for (final DataQuery biomeKey : biomeKeys) {
-            final ResourceKey key = ResourceKey.resolve(biomeKey.parts().get(0));
+        final Int2ObjectMap<Biome> biomesById = new Int2ObjectOpenHashMap<>(biomeKeys.size());
+        for (final String biomeKey : biomeKeys) {
+            final ResourceKey key = ResourceKey.resolve(biomeKey);
             final Biome biome = biomeRegistry.findValue(key).get();
-            biomePalette.assign(biome, biomeMap.getInt(biomeKey).get());
+            biomesById.put(biomeMap.getInt(biomeKey), biome);
         }
-        final byte[] biomeData = (byte[]) view.get(Constants.Sponge.Schematic.BIOME_DATA)
-            .orElseThrow(() -> new InvalidDataException("Missing BlockData for Schematic"));
-        SchematicTranslator.readByteArrayData(
-            width, (width * length), offset, biomePalette, biomeData, archetypeVolume,
-            BiomeVolume.Modifiable::setBiome
-        );
-    }
+        final Biome[] biomes = SchematicTranslator.toArray(biomesById, new Biome[0]);
 
+        if (!tag.contains(SchematicTranslator.DATA, Constants.NBT.TAG_BYTE_ARRAY)) {
+            throw new InvalidDataException("Missing BlockData for Schematic");
+        }
+        final byte[] biomeData = tag.getByteArray(SchematicTranslator.DATA);
+        final int[] ids = new int[width * height * length];
+        final int count = SchematicTranslator.readVarInts(biomeData, ids, biomes.length);
+        archetypeVolume.setBiomes(biomes, ids, count);
+    }
 
-    static interface PostSetter<V, T> {
-
-        void apply(V volume, int x, int y, int z, T type);
+    private static <T> T[] toArray(final Int2ObjectMap<T> byId, final T[] empty) {
+        int maxId = -1;
+        for (final int id : byId.keySet()) {
+            if (id < 0) {
+                throw new InvalidDataException("Negative palette id " + id);
+            }
+            maxId = Math.max(maxId, id);
+        }
+        final T[] array = Arrays.copyOf(empty, maxId + 1);
+        for (final Int2ObjectMap.Entry<T> entry : byId.int2ObjectEntrySet()) {
+            array[entry.getIntKey()] = entry.getValue();
+        }
+        return array;
     }
 
-    private static <Buffer, Type, ParentType> void readByteArrayData(
-        final int width,
-        final int i1,
-        final Vector3i offset,
-        final Palette<Type, ParentType> palette,
-        final byte[] data,
-        final Buffer buffer,
-        final PostSetter<Buffer, Type> setter
-    ) {
+    /**
+     * Decodes the VarInt encoded palette ids of a schematic.
+     *
+     * @param data The encoded ids
+     * @param ids The array to decode into
+     * @param paletteSize The amount of ids in the palette
+     * @return The amount of ids that were decoded
+     */
+    static int readVarInts(final byte[] data, final int[] ids, final int paletteSize) {
         int index = 0;
         int i = 0;
-        int value = 0;
-        int varint_length = 0;
         while (i < data.length) {
-            value = 0;
-            varint_length = 0;
-
+            int value = 0;
+            int varintLength = 0;
             while (true) {
-                value |= (data[i] & 127) << (varint_length++ * 7);
-                if (varint_length > 5) {
-                    throw new RuntimeException("VarInt too big (probably corrupted data)");
+                final byte b = data[i++];
+                value |= (b & 127) << (varintLength++ * 7);
+                if (varintLength > 5) {
+                    throw new InvalidDataException("VarInt too big (probably corrupted data)");
                 }
-                if ((data[i] & 128) != 128) {
-                    i++;
+                if ((b & 128) != 128) {
                     break;
                 }
-                i++;
+                if (i == data.length) {
+                    throw new InvalidDataException("Truncated VarInt (probably corrupted data)");
+                }
+            }
+            if (index == ids.length) {
+                throw new InvalidDataException("Schematic data contains more entries than the schematic size allows");
+            }
+            if (value < 0 || value >= paletteSize) {
+                throw new InvalidDataException("Schematic data refers to palette id " + value + " which is not in the palette");
             }
-            // index = (y * length + z) * width + x
-            final int y = index / i1;
-            final int z = (index % i1) / width;
-            final int x = (index % i1) % width;
-            final Type state = palette.get(value, Sponge.game()).get();
-            setter.apply(buffer, x + offset.x(), y + offset.y(), z + offset.z(), state);
+            ids[index++] = value;
+        }
+        return index;
+    }
 
-            index++;
+    /**
+     * Encodes palette ids as VarInts, sizing the result up front.
+     *
+     * @param ids The ids
+     * @return The encoded ids
+     */
+    static byte[] writeVarInts(final int[] ids) {
+        int size = 0;
+        for (final int id : ids) {
+            size += (31 - Integer.numberOfLeadingZeros(id | 1)) / 7 + 1;
+        }
+        final byte[] data = new byte[size];
+        int i = 0;
+        for (int id : ids) {
+            while ((id & -128) != 0) {
+                data[i++] = (byte) (id & 127 | 128);
+                id >>>= 7;
+            }
+            data[i++] = (byte) id;
         }
+        return data;
     }
 
     @Override
     public DataContainer translate(final Schematic schematic) throws InvalidDataException {
-        final DataContainer data = DataContainer.createNew(DataView.SafetyMode.NO_DATA_CLONED);
-        final DataView view = data.createView(Constants.Sponge.Schematic.SCHEMATIC);
-        this.addTo(schematic, view);
-        return data;
+        return NBTTranslator.INSTANCE.translate(this.write(schematic));
     }
 
     @Override
     public DataView addTo(final Schematic schematic, final DataView data) {
+        return NBTTranslator.INSTANCE.addTo(SchematicTranslator.writeSchematic(schematic), data);
+    }
+
+    /**
+     * Writes a schematic as uncompressed NBT, without building a
+     * {@link DataContainer} first.
+     *
+     * @param schematic The schematic
+     * @param output The output to write to
+     * @throws IOException If the output could not be written to
+     */
+    public void write(final Schematic schematic, final DataOutput output) throws IOException {
+        NbtIo.write(this.write(schematic), output);
+    }
+
+    /**
+     * Writes a schematic to the root compound of a schematic file.
+     *
+     * @param schematic The schematic
+     * @return The root compound, holding the schematic
+     */
+    public CompoundTag write(final Schematic schematic) {
+        final CompoundTag root = new CompoundTag();
+        root.put(SchematicTranslator.SCHEMATIC, SchematicTranslator.writeSchematic(schematic));
+        return root;
+    }
+
+    private static CompoundTag writeSchematic(final Schematic schematic) {
         final int xMin = schematic.min().x();
         final int yMin = schematic.min().y();
         final int zMin = schematic.min().z();
@@ -417,146 +512,173 @@ public DataView addTo(final Schematic schematic, final DataView data) {
                 height, length, Constants.Sponge.Schematic.MAX_SIZE
             ));
         }
-        data.set(Constants.Sponge.Schematic.WIDTH, (short) width);
-        data.set(Constants.Sponge.Schematic.HEIGHT, (short) height);
-        data.set(Constants.Sponge.Schematic.LENGTH, (short) length);
-
-        data.set(Constants.Sponge.Schematic.VERSION, Constants.Sponge.Schematic.CURRENT_VERSION);
-        data.set(Constants.Sponge.Schematic.DATA_VERSION, SharedConstants.getCurrentVersion().getWorldVersion());
-        for (final DataQuery metaKey : schematic.metadata().keys(false)) {
-            data.set(Constants.Sponge.Schematic.METADATA.then(metaKey), schematic.metadata().get(metaKey).get());
-        }
+        final CompoundTag data = new CompoundTag();
+        data.putShort(SchematicTranslator.WIDTH, (short) width);
+        data.putShort(SchematicTranslator.HEIGHT, (short) height);
+        data.putShort(SchematicTranslator.LENGTH, (short) length);
+
+        data.putInt(SchematicTranslator.VERSION, Constants.Sponge.Schematic.CURRENT_VERSION);
+        data.putInt(SchematicTranslator.DATA_VERSION, SharedConstants.getCurrentVersion().getWorldVersion());
+        final CompoundTag metadata = NBTTranslator.INSTANCE.translate(schematic.metadata());
         final Set<String> requiredMods = new HashSet<>();
 
-        final int[] offset = new int[]{xMin, yMin, zMin};
-        data.set(Constants.Sponge.Schematic.OFFSET, offset);
+        data.putIntArray(SchematicTranslator.OFFSET, new int[]{xMin, yMin, zMin});
+
+        final @Nullable SpongeArchetypeVolume volume = SchematicTranslator.backingVolume(schematic);
 
         // Check if we have blocks to store
         if (schematic.blockPalette().highestId() != 0) {
-            final DataView blockData = data.createView(Constants.Sponge.Schematic.BLOCK_CONTAINER);
-            final Palette.Mutable<BlockState, BlockType> palette = schematic.blockPalette().asMutable(
-                Sponge.server());
-            try (final ByteArrayOutputStream buffer = new ByteArrayOutputStream(width * height * length)) {
+            final CompoundTag blockData = new CompoundTag();
+            final Palette<BlockState, BlockType> palette;
+            final int[] ids;
+            if (volume != null) {
+                // Use the ids the volume already has rather than looking up every block
+                palette = volume.getBlockPalette();
+                ids = volume.blockIds();
+            } else {
+                final Palette.Mutable<BlockState, BlockType> mutablePalette = schematic.blockPalette().asMutable(Sponge.server());
+                palette = mutablePalette;
+                ids = new int[width * height * length];
+                int index = 0;
                 for (int y = 0; y < height; y++) {
                     final int y0 = yMin + y;
                     for (int z = 0; z < length; z++) {
                         final int z0 = zMin + z;
                         for (int x = 0; x < width; x++) {
                             final int x0 = xMin + x;
-                            final BlockState state = schematic.block(x0, y0, z0);
-                            SchematicTranslator.writeIdToBuffer(buffer, palette.orAssign(state));
+                            ids[index++] = mutablePalette.orAssign(schematic.block(x0, y0, z0));
                         }
                     }
                 }
-
-                blockData.set(Constants.Sponge.Schematic.BLOCK_DATA, buffer.toByteArray());
-            } catch (final IOException e) {
-                // should never reach here
             }
+            blockData.putByteArray(SchematicTranslator.DATA, SchematicTranslator.writeVarInts(ids));
 
             final Registry<BlockType> blockRegistry = VolumeStreamUtils.nativeToSpongeRegistry(
                 net.minecraft.core.Registry.BLOCK);
 
-            SchematicTranslator.writePaletteToView(
-                blockData, palette, blockRegistry, Constants.Sponge.Schematic.BLOCK_PALETTE, BlockState::type,
-                requiredMods
-            );
+            blockData.put(SchematicTranslator.PALETTE, SchematicTranslator.writePalette(
+                palette, blockRegistry, BlockState::type, requiredMods
+            ));
 
-            final List<DataView> blockEntities = schematic.blockEntityArchetypes().entrySet().stream().map(entry -> {
-                final DataContainer container = DataContainer.createNew(DataView.SafetyMode.NO_DATA_CLONED);
+            final ListTag blockEntities = new ListTag();
+            for (final Map.Entry<Vector3i, BlockEntityArchetype> entry : schematic.blockEntityArchetypes().entrySet()) {
+                final CompoundTag blockEntity = new CompoundTag();
                 final Vector3i pos = entry.getKey();
                 final BlockEntityArchetype archetype = entry.getValue();
-                final DataContainer entityData = archetype.blockEntityData();
-                final int[] apos = new int[]{pos.x() - xMin, pos.y() - yMin, pos.z() - zMin};
-                container.set(Constants.Sponge.Schematic.BLOCKENTITY_POS, apos);
-                container.set(Constants.Sponge.Schematic.BLOCKENTITY_DATA, entityData);
+                blockEntity.putIntArray(SchematicTranslator.POS, new int[]{pos.x() - xMin, pos.y() - yMin, pos.z() - zMin});
+                blockEntity.put(SchematicTranslator.DATA, SchematicTranslator.archetypeData(archetype, archetype::blockEntityData));
                 final ResourceKey key = archetype.blockEntityType().key(RegistryTypes.BLOCK_ENTITY_TYPE);
-                container.set(Constants.Sponge.Schematic.ENTITIES_ID, key.asString());
+                blockEntity.putString(SchematicTranslator.ID, key.asString());
                 final String namespace = key.namespace();
                 if (!ResourceKey.MINECRAFT_NAMESPACE.equals(namespace)) {
                     requiredMods.add(namespace);
                 }
-                return container;
-            }).collect(Collectors.toList());
-
-            blockData.set(Constants.Sponge.Schematic.BLOCKENTITY_CONTAINER, blockEntities);
+                blockEntities.add(blockEntity);
+            }
 
+            blockData.put(SchematicTranslator.BLOCKENTITY_CONTAINER, blockEntities);
+            data.put(SchematicTranslator.BLOCK_CONTAINER, blockData);
         }
 
         if (schematic.biomePalette().highestId() != 0) {
-            final DataView biomeContainer = data.createView(Constants.Sponge.Schematic.BIOME_CONTAINER);
-            final Palette.Mutable<Biome, Biome> biomePalette = schematic.biomePalette().asMutable(
-                Sponge.game());
-
-            try (final ByteArrayOutputStream buffer = new ByteArrayOutputStream(width * height * length)) {
+            final CompoundTag biomeContainer = new CompoundTag();
+            final Palette<Biome, Biome> biomePalette;
+            final int[] ids;
+            if (volume != null) {
+                biomePalette = volume.getBiomePalette();
+                ids = volume.biomeIds();
+            } else {
+                final Palette.Mutable<Biome, Biome> mutablePalette = schematic.biomePalette().asMutable(Sponge.game());
+                biomePalette = mutablePalette;
+                ids = new int[width * height * length];
+                int index = 0;
                 for (int y = 0; y < height; y++) {
                     final int y0 = yMin + y;
                     for (int z = 0; z < length; z++) {
                         final int z0 = zMin + z;
                         for (int x = 0; x < width; x++) {
                             final int x0 = xMin + x;
-                            final Biome state = schematic.biome(x0, y0, z0);
-                            SchematicTranslator.writeIdToBuffer(buffer, biomePalette.orAssign(state));
+                            ids[index++] = mutablePalette.orAssign(schematic.biome(x0, y0, z0));
                         }
-
                     }
                 }
-
-                biomeContainer.set(Constants.Sponge.Schematic.BIOME_DATA, buffer.toByteArray());
-            } catch (final IOException e) {
-                // Should never reach here.
             }
+            biomeContainer.putByteArray(SchematicTranslator.DATA, SchematicTranslator.writeVarInts(ids));
 
             final Registry<Biome> biomeRegistry = VolumeStreamUtils.nativeToSpongeRegistry(BuiltinRegistries.BIOME);
 
-            SchematicTranslator.writePaletteToView(
-                biomeContainer, biomePalette, biomeRegistry, Constants.Sponge.Schematic.BIOME_PALETTE,
-                Function.identity(), requiredMods
-            );
+            biomeContainer.put(SchematicTranslator.PALETTE, SchematicTranslator.writePalette(
+                biomePalette, biomeRegistry, Function.identity(), requiredMods
+            ));
+            data.put(SchematicTranslator.BIOME_CONTAINER, biomeContainer);
         }
 
-        final List<DataView> entities = schematic.entityArchetypesByPosition().stream().map(entry -> {
-            final DataContainer container = DataContainer.createNew(DataView.SafetyMode.NO_DATA_CLONED);
+        final ListTag entities = new ListTag();
+        for (final EntityArchetypeEntry entry : schematic.entityArchetypesByPosition()) {
+            final CompoundTag entity = new CompoundTag();
 
-            final List<Double> entityPosition = new ArrayList<>();
-            entityPosition.add(entry.position().x());
-            entityPosition.add(entry.position().y());
-            entityPosition.add(entry.position().z());
-            container.set(Constants.Sponge.Schematic.ENTITIES_POS, entityPosition);
+            final ListTag entityPosition = new ListTag();
+            entityPosition.add(DoubleTag.valueOf(entry.position().x()));
+            entityPosition.add(DoubleTag.valueOf(entry.position().y()));
+            entityPosition.add(DoubleTag.valueOf(entry.position().z()));
+            entity.put(SchematicTranslator.POS, entityPosition);
             final ResourceKey key = entry.archetype().type().key(RegistryTypes.ENTITY_TYPE);
             if (!ResourceKey.MINECRAFT_NAMESPACE.equals(key.namespace())) {
                 requiredMods.add(key.namespace());
             }
-            container.set(Constants.Sponge.Schematic.ENTITIES_ID, key.toString());
-            final DataContainer entityData = entry.archetype().entityData();
-            container.set(Constants.Sponge.Schematic.BLOCKENTITY_DATA, entityData);
-            return container;
-        }).collect(Collectors.toList());
+            entity.putString(SchematicTranslator.ID, key.toString());
+            entity.put(SchematicTranslator.DATA, SchematicTranslator.archetypeData(entry.archetype(), entry.archetype()::entityData));
+            entities.add(entity);
+        }
 
-        data.set(Constants.Sponge.Schematic.ENTITIES, entities);
+        data.put(SchematicTranslator.ENTITIES, entities);
 
         if (!requiredMods.isEmpty()) {
-            data.set(Constants.Sponge.Schematic.METADATA.then(Constants.Sponge.Schematic.REQUIRED_MODS), requiredMods);
+            final ListTag mods = new ListTag();
+            for (final String modId : requiredMods) {
+                mods.add(StringTag.valueOf(modId));
+            }
+            metadata.put(SchematicTranslator.REQUIRED_MODS, mods);
+        }
+        if (!metadata.isEmpty()) {
+            data.put(SchematicTranslator.METADATA, metadata);
         }
 
         return data;
     }
 
-    private static <T, P> void writePaletteToView(
-        final DataView view,
-        final Palette.Mutable<T, P> palette,
+    private static CompoundTag archetypeData(final Archetype<?, ?> archetype, final Supplier<DataContainer> data) {
+        // Our archetypes already hold their data as NBT
+        if (archetype instanceof AbstractArchetype) {
+            return ((AbstractArchetype<?, ?, ?>) archetype).getCompound().copy();
+        }
+        return NBTTranslator.INSTANCE.translate(data.get());
+    }
+
+    private static @Nullable SpongeArchetypeVolume backingVolume(final Schematic schematic) {
+        if (schematic instanceof SpongeSchematic) {
+            final SpongeArchetypeVolume volume = ((SpongeSchematic) schematic).volume();
+            if (volume.min().equals(schematic.min()) && volume.size().equals(schematic.size())) {
+                return volume;
+            }
+        }
+        return null;
+    }
+
+    private static <T, P> CompoundTag writePalette(
+        final Palette<T, P> palette,
         final Registry<P> parentRegistryType,
-        final DataQuery paletteQuery,
         final Function<T, P> parentGetter,
         final Set<String> requiredMods
     ) {
+        final CompoundTag paletteTag = new CompoundTag();
         palette.streamWithIds().forEach(entry -> {
             // getOrAssign to skip the optional, it will never assign
             final String stringified = palette.type().stringifier().apply(
                 parentRegistryType,
                 entry.getKey()
             );
-            view.set(paletteQuery.then(stringified), entry.getValue());
+            paletteTag.putInt(stringified, entry.getValue());
             final ResourceKey blockKey = parentRegistryType
                 .findValueKey(parentGetter.apply(entry.getKey()))
                 .orElseThrow(() -> new IllegalStateException(
@@ -565,6 +687,7 @@ private static <T, P> void writePaletteToView(
                 requiredMods.add(blockKey.namespace());
             }
         });
+        return paletteTag;
     }
 
     public static void writeIdToBuffer(final ByteArrayOutputStream buffer, final int orAssign) {
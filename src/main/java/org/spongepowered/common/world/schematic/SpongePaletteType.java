@@ -46,7 +46,7 @@ public SpongePaletteType(
 
     @Override
     public Palette<T, R> create(final Registry<R> registryType) {
-        return new MutableBimapPalette<>(this, registryType);
+        return new MutableArrayPalette<>(this, registryType);
     }
 
     @Override
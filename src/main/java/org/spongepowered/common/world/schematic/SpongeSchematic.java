@@ -74,6 +74,10 @@ public SpongeSchematic(final Vector3i start, final Vector3i size,
         this.metadata = metadata;
     }
 
+    SpongeArchetypeVolume volume() {
+        return this.volume;
+    }
+
     @Override
     public Palette<BlockState, BlockType> blockPalette() {
         return this.volume.getBlockPalette();
@@ -25,6 +25,7 @@
 package org.spongepowered.common.world.server;
 
 import com.google.common.collect.ImmutableList;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParser;
@@ -74,6 +75,7 @@
 import net.minecraft.world.level.storage.PrimaryLevelData;
 import net.minecraft.world.level.storage.WorldData;
 import org.apache.commons.io.FilenameUtils;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.api.ResourceKey;
 import org.spongepowered.api.Server;
 import org.spongepowered.api.Sponge;
@@ -93,11 +95,13 @@
 import org.spongepowered.common.accessor.world.gen.DimensionGeneratorSettingsAccessor;
 import org.spongepowered.common.accessor.world.level.storage.LevelStorageSource_LevelStorageAccessAccessor;
 import org.spongepowered.common.accessor.world.level.storage.PrimaryLevelDataAccessor;
+import org.spongepowered.common.applaunch.config.core.SpongeConfigs;
 import org.spongepowered.common.bridge.ResourceKeyBridge;
 import org.spongepowered.common.bridge.server.level.ServerLevelBridge;
 import org.spongepowered.common.bridge.world.level.dimension.LevelStemBridge;
 import org.spongepowered.common.bridge.world.level.levelgen.WorldGenSettingsBridge;
 import org.spongepowered.common.bridge.world.level.storage.PrimaryLevelDataBridge;
+import org.spongepowered.common.bridge.world.server.ChunkMapBridge;
 import org.spongepowered.common.config.SpongeGameConfigs;
 import org.spongepowered.common.config.inheritable.InheritableConfigHandle;
 import org.spongepowered.common.config.inheritable.WorldConfig;
@@ -108,6 +112,7 @@
 import org.spongepowered.common.user.SpongeUserManager;
 import org.spongepowered.common.util.Constants;
 import org.spongepowered.common.util.FutureUtil;
+import org.spongepowered.common.world.storage.RegionFileLinks;
 
 import java.io.BufferedWriter;
 import java.io.File;
@@ -124,6 +129,7 @@
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -131,7 +137,11 @@
 import java.util.OptionalInt;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -141,6 +151,13 @@ public abstract class SpongeWorldManager implements WorldManager {
     private final MinecraftServer server;
     private final Path dimensionsDataPackDirectory, defaultWorldDirectory, customWorldsDirectory;
     private final Map<net.minecraft.resources.ResourceKey<Level>, ServerLevel> worlds;
+    private final Map<net.minecraft.resources.ResourceKey<Level>, CompletableFuture<org.spongepowered.api.world.server.ServerWorld>> pendingLoads =
+            new ConcurrentHashMap<>();
+    // Runs all file operations in submission order, so a world is never loaded while it is still being copied
+    private final ExecutorService ioExecutor = Executors.newSingleThreadExecutor(new ThreadFactoryBuilder()
+            .setDaemon(true)
+            .setNameFormat("Sponge-World-IO")
+            .build());
 
     private static final TicketType<ResourceLocation> SPAWN_CHUNKS = TicketType.create("spawn_chunks", (i, o) -> i.compareTo(o));
 
@@ -341,7 +358,16 @@ public CompletableFuture<org.spongepowered.api.world.server.ServerWorld> loadWor
             return CompletableFuture.completedFuture((org.spongepowered.api.world.server.ServerWorld) world);
         }
 
-        return this.loadTemplate(key).thenCompose(r -> {
+        // Registered right away, so the progress of reading the template is reported as well
+        final WorldOperationFuture<org.spongepowered.api.world.server.ServerWorld> operation = new WorldOperationFuture<>();
+        final CompletableFuture<org.spongepowered.api.world.server.ServerWorld> pending = this.pendingLoads.putIfAbsent(registryKey, operation);
+        if (pending != null) {
+            return pending;
+        }
+        operation.whenComplete((w, t) -> this.pendingLoads.remove(registryKey, operation));
+        operation.stage(WorldOperationFuture.Stage.READING);
+
+        return operation.completeWith(this.loadTemplate(key).thenComposeAsync(r -> {
             WorldTemplate loadedTemplate = r.orElse(null);
             if (loadedTemplate == null) {
                 final LevelStem scratch = BootstrapProperties.worldGenSettings.dimensions().get(net.minecraft.resources.ResourceKey.create(
@@ -358,12 +384,38 @@ public CompletableFuture<org.spongepowered.api.world.server.ServerWorld> loadWor
                 this.saveTemplate(loadedTemplate);
             }
 
-            return this.loadWorld0(registryKey, ((SpongeWorldTemplate) loadedTemplate).asDimension(), ((WorldGenSettings) loadedTemplate.generationConfig()));
-        });
+            return this.loadWorld0(registryKey, ((SpongeWorldTemplate) loadedTemplate).asDimension(), ((WorldGenSettings) loadedTemplate.generationConfig()),
+                    operation);
+        }, this.server));
     }
 
+    /**
+     * Loads a world, reading its level data on the world I/O thread. Must be
+     * called on the server thread.
+     */
     private CompletableFuture<org.spongepowered.api.world.server.ServerWorld> loadWorld0(final net.minecraft.resources.ResourceKey<Level> registryKey,
             final LevelStem template, final WorldGenSettings generatorSettings) {
+        return this.loadWorld0(registryKey, template, generatorSettings, new WorldOperationFuture<>());
+    }
+
+    /**
+     * Loads a world, reporting its progress to the given operation which is
+     * also returned. Must be called on the server thread.
+     */
+    private CompletableFuture<org.spongepowered.api.world.server.ServerWorld> loadWorld0(final net.minecraft.resources.ResourceKey<Level> registryKey,
+            final LevelStem template, final WorldGenSettings generatorSettings,
+            final WorldOperationFuture<org.spongepowered.api.world.server.ServerWorld> operation) {
+        // The world may have been loaded while the template was read
+        final ServerLevel loadedWorld = this.worlds.get(registryKey);
+        if (loadedWorld != null) {
+            operation.complete((org.spongepowered.api.world.server.ServerWorld) loadedWorld);
+            return operation;
+        }
+        final CompletableFuture<org.spongepowered.api.world.server.ServerWorld> pending = this.pendingLoads.get(registryKey);
+        if (pending != null && pending != operation) {
+            return operation.completeWith(pending);
+        }
+
         final PrimaryLevelData defaultLevelData = (PrimaryLevelData) this.server.getWorldData();
         final LevelSettings defaultLevelSettings = ((PrimaryLevelDataAccessor) defaultLevelData).accessor$settings();
         final LevelStemBridge templateBridge = (LevelStemBridge) (Object) template;
@@ -375,60 +427,72 @@ private CompletableFuture<org.spongepowered.api.world.server.ServerWorld> loadWo
         MinecraftServerAccessor.accessor$LOGGER().info("Loading world '{}' ({})", worldKey, worldTypeKey);
         final String directoryName = this.getDirectoryName(worldKey);
         final boolean isVanillaSubLevel = this.isVanillaSubWorld(directoryName);
-        final LevelStorageSource.LevelStorageAccess storageSource;
 
-        try {
-            if (isVanillaSubLevel) {
-                storageSource = LevelStorageSource.createDefault(this.defaultWorldDirectory).createAccess(directoryName);
-            } else {
-                storageSource = LevelStorageSource.createDefault(this.customWorldsDirectory).createAccess(worldKey.namespace() + File.separator + worldKey.value());
+        final CompletableFuture<org.spongepowered.api.world.server.ServerWorld> future = CompletableFuture.supplyAsync(() -> {
+            operation.stage(WorldOperationFuture.Stage.READING);
+            final LevelStorageSource.LevelStorageAccess storageSource;
+            try {
+                if (isVanillaSubLevel) {
+                    storageSource = LevelStorageSource.createDefault(this.defaultWorldDirectory).createAccess(directoryName);
+                } else {
+                    storageSource = LevelStorageSource.createDefault(this.customWorldsDirectory).createAccess(worldKey.namespace() + File.separator + worldKey.value());
+                }
+            } catch (final IOException e) {
+                e.printStackTrace();
+                throw new CompletionException(new RuntimeException(String.format("Failed to create level data for world '%s'!", worldKey), e));
             }
-        } catch (final IOException e) {
-            e.printStackTrace();
-            return FutureUtil.completedWithException(new RuntimeException(String.format("Failed to create level data for world '%s'!", worldKey), e));
-        }
-
-        PrimaryLevelData levelData;
 
-        levelData = (PrimaryLevelData) storageSource.getDataTag((DynamicOps<Tag>) BootstrapProperties.worldSettingsAdapter, defaultLevelSettings.getDataPackConfig());
-        if (levelData == null) {
-            final LevelSettings levelSettings;
-            final WorldGenSettings generationSettings;
+            final @Nullable PrimaryLevelData levelData = (PrimaryLevelData) storageSource.getDataTag((DynamicOps<Tag>) BootstrapProperties.worldSettingsAdapter,
+                    defaultLevelSettings.getDataPackConfig());
+            return Pair.of(storageSource, levelData);
+        }, this.ioExecutor).thenComposeAsync(loaded -> {
+            operation.stage(WorldOperationFuture.Stage.LOADING);
+            final LevelStorageSource.LevelStorageAccess storageSource = loaded.getFirst();
+            PrimaryLevelData levelData = loaded.getSecond();
+            if (levelData == null) {
+                final LevelSettings levelSettings;
+                final WorldGenSettings generationSettings;
+
+                if (this.server.isDemo()) {
+                    levelSettings = MinecraftServer.DEMO_SETTINGS;
+                    generationSettings = WorldGenSettings.demoSettings(BootstrapProperties.registries);
+                } else {
+                    levelSettings = new LevelSettings(directoryName, (GameType) (Object) BootstrapProperties.gameMode.get(Sponge.game()),
+                            templateBridge.bridge$hardcore().orElse(BootstrapProperties.hardcore), (Difficulty) (Object) BootstrapProperties.difficulty
+                            .get(Sponge.game()), templateBridge.bridge$commands().orElse(BootstrapProperties.commands), new GameRules(),
+                        defaultLevelData.getDataPackConfig());
+                    generationSettings = generatorSettings;
+                }
 
-            if (this.server.isDemo()) {
-                levelSettings = MinecraftServer.DEMO_SETTINGS;
-                generationSettings = WorldGenSettings.demoSettings(BootstrapProperties.registries);
-            } else {
-                levelSettings = new LevelSettings(directoryName, (GameType) (Object) BootstrapProperties.gameMode.get(Sponge.game()),
-                        templateBridge.bridge$hardcore().orElse(BootstrapProperties.hardcore), (Difficulty) (Object) BootstrapProperties.difficulty
-                        .get(Sponge.game()), templateBridge.bridge$commands().orElse(BootstrapProperties.commands), new GameRules(),
-                    defaultLevelData.getDataPackConfig());
-                generationSettings = generatorSettings;
+                levelData = new PrimaryLevelData(levelSettings, generationSettings, Lifecycle.stable());
             }
 
-            levelData = new PrimaryLevelData(levelSettings, generationSettings, Lifecycle.stable());
-        }
-
-        ((PrimaryLevelDataBridge) levelData).bridge$populateFromDimension(template);
+            ((PrimaryLevelDataBridge) levelData).bridge$populateFromDimension(template);
 
-        final InheritableConfigHandle<WorldConfig> configAdapter = SpongeGameConfigs.createWorld(worldTypeKey, worldKey);
-        ((PrimaryLevelDataBridge) levelData).bridge$configAdapter(configAdapter);
+            final InheritableConfigHandle<WorldConfig> configAdapter = SpongeGameConfigs.createWorld(worldTypeKey, worldKey);
+            ((PrimaryLevelDataBridge) levelData).bridge$configAdapter(configAdapter);
 
-        levelData.setModdedInfo(this.server.getServerModName(), this.server.getModdedStatus().isPresent());
-        final boolean isDebugGeneration = levelData.worldGenSettings().isDebug();
-        final long seed = BiomeManager.obfuscateSeed(levelData.worldGenSettings().seed());
+            levelData.setModdedInfo(this.server.getServerModName(), this.server.getModdedStatus().isPresent());
+            final boolean isDebugGeneration = levelData.worldGenSettings().isDebug();
+            final long seed = BiomeManager.obfuscateSeed(levelData.worldGenSettings().seed());
 
-        final ChunkProgressListener chunkStatusListener = ((MinecraftServerAccessor) this.server).accessor$progressListenerFactory().create(11);
+            final ChunkProgressListener chunkStatusListener = ((MinecraftServerAccessor) this.server).accessor$progressListenerFactory().create(11);
 
-        final ServerLevel world = new ServerLevel(this.server, ((MinecraftServerAccessor) this.server).accessor$executor(), storageSource, levelData,
-                registryKey, (DimensionType) worldType, chunkStatusListener, template.generator(), isDebugGeneration, seed, ImmutableList.of(), true);
-        this.worlds.put(registryKey, world);
+            final ServerLevel world = new ServerLevel(this.server, ((MinecraftServerAccessor) this.server).accessor$executor(), storageSource, levelData,
+                    registryKey, (DimensionType) worldType, chunkStatusListener, template.generator(), isDebugGeneration, seed, ImmutableList.of(), true);
+            this.worlds.put(registryKey, world);
 
-        return SpongeCommon.asyncScheduler().submit(() -> this.prepareWorld(world, isDebugGeneration)).thenApply(w -> {
-            ((MinecraftServerAccessor) this.server).invoker$forceDifficulty();
-            return w;
-        }).thenCompose(w -> this.postWorldLoad(w, false))
-          .thenApply(w -> (org.spongepowered.api.world.server.ServerWorld) w);
+            return SpongeCommon.asyncScheduler().submit(() -> this.prepareWorld(world, isDebugGeneration)).thenApply(w -> {
+                ((MinecraftServerAccessor) this.server).invoker$forceDifficulty();
+                return w;
+            }).thenCompose(w -> this.postWorldLoad(w, false))
+              .thenApply(w -> (org.spongepowered.api.world.server.ServerWorld) w);
+        }, this.server);
+
+        operation.completeWith(future);
+        this.pendingLoads.put(registryKey, operation);
+        operation.whenComplete((w, t) -> this.pendingLoads.remove(registryKey, operation));
+        return operation;
     }
 
     @Override
@@ -455,6 +519,11 @@ public CompletableFuture<Boolean> unloadWorld(final org.spongepowered.api.world.
             return CompletableFuture.completedFuture(false);
         }
 
+        if (!this.server.isSameThread()) {
+            // Worlds can only be saved and closed by the server thread
+            return CompletableFuture.supplyAsync(() -> this.unloadWorld(world), this.server).thenCompose(f -> f);
+        }
+
         if (world != this.worlds.get(registryKey)) {
             return CompletableFuture.completedFuture(false);
         }
@@ -476,32 +545,41 @@ public boolean templateExists(final ResourceKey key) {
     @Override
     public CompletableFuture<Optional<WorldTemplate>> loadTemplate(final ResourceKey key) {
         final Path dataPackFile = this.getDataPackFile(Objects.requireNonNull(key, "key"));
-        if (Files.exists(dataPackFile)) {
-            try {
-                final LevelStem template = this.loadTemplate0(SpongeWorldManager.createRegistryKey(key), dataPackFile);
-                ((ResourceKeyBridge) (Object) template).bridge$setKey(key);
-                return CompletableFuture.completedFuture(Optional.of(((LevelStemBridge) (Object) template).bridge$asTemplate()));
-            } catch (final IOException e) {
-                e.printStackTrace();
+        return CompletableFuture.supplyAsync(() -> {
+            if (Files.exists(dataPackFile)) {
+                try {
+                    final LevelStem template = this.loadTemplate0(SpongeWorldManager.createRegistryKey(key), dataPackFile);
+                    ((ResourceKeyBridge) (Object) template).bridge$setKey(key);
+                    return Optional.of(((LevelStemBridge) (Object) template).bridge$asTemplate());
+                } catch (final IOException e) {
+                    e.printStackTrace();
+                }
             }
-        }
 
-        return CompletableFuture.completedFuture(Optional.empty());
+            return Optional.empty();
+        }, this.ioExecutor);
     }
 
     @Override
     public CompletableFuture<Boolean> saveTemplate(final WorldTemplate template) {
         final LevelStem scratch = ((SpongeWorldTemplate) Objects.requireNonNull(template, "template")).asDimension();
+        final JsonElement element;
         try {
-            final JsonElement element = SpongeWorldTemplate.DIRECT_CODEC.encodeStart(RegistryWriteOps.create(JsonOps.INSTANCE, BootstrapProperties.registries), scratch).getOrThrow(true, s -> { });
-            final Path dataPackFile = this.getDataPackFile(template.key());
-            Files.createDirectories(dataPackFile.getParent());
-            DataPackSerializer.writeFile(dataPackFile, element);
-            DataPackSerializer.writePackMetadata("World", this.dimensionsDataPackDirectory.getParent());
+            element = SpongeWorldTemplate.DIRECT_CODEC.encodeStart(RegistryWriteOps.create(JsonOps.INSTANCE, BootstrapProperties.registries), scratch).getOrThrow(true, s -> { });
         } catch (final Exception ex) {
-            FutureUtil.completedWithException(ex);
+            return FutureUtil.completedWithException(ex);
         }
-        return CompletableFuture.completedFuture(true);
+        final Path dataPackFile = this.getDataPackFile(template.key());
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                Files.createDirectories(dataPackFile.getParent());
+                DataPackSerializer.writeFile(dataPackFile, element);
+                DataPackSerializer.writePackMetadata("World", this.dimensionsDataPackDirectory.getParent());
+            } catch (final IOException ex) {
+                throw new CompletionException(ex);
+            }
+            return true;
+        }, this.ioExecutor);
     }
 
     @Override
@@ -516,47 +594,24 @@ public CompletableFuture<Optional<ServerWorldProperties>> loadProperties(final R
             return CompletableFuture.completedFuture(Optional.empty());
         }
 
-        final boolean isVanillaWorld = this.isVanillaWorld(key);
-        final String directoryName = this.getDirectoryName(key);
-        final LevelStorageSource.LevelStorageAccess storageSource;
-
-        try {
-            if (isVanillaWorld) {
-                storageSource = LevelStorageSource.createDefault(this.defaultWorldDirectory).createAccess(directoryName);
-            } else {
-                storageSource = LevelStorageSource.createDefault(this.customWorldsDirectory).createAccess(key.namespace() + File.separator +
-                        key.value());
-            }
-        } catch (final IOException e) {
-            return FutureUtil.completedWithException(e);
-        }
-
-        final WorldData levelData;
-        try {
-            final PrimaryLevelData defaultLevelData = (PrimaryLevelData) this.server.getWorldData();
-            final LevelSettings defaultLevelSettings = ((PrimaryLevelDataAccessor) defaultLevelData).accessor$settings();
+        final PrimaryLevelData defaultLevelData = (PrimaryLevelData) this.server.getWorldData();
+        final LevelSettings defaultLevelSettings = ((PrimaryLevelDataAccessor) defaultLevelData).accessor$settings();
 
+        return CompletableFuture.supplyAsync(() -> {
+            final LevelStorageSource.LevelStorageAccess storageSource = this.createStorageAccess(key);
             try {
-                levelData = storageSource.getDataTag((DynamicOps<Tag>) BootstrapProperties.worldSettingsAdapter, defaultLevelSettings.getDataPackConfig());
-            } catch (final Exception ex) {
-                return FutureUtil.completedWithException(ex);
-            }
-        } finally {
-            try {
-                storageSource.close();
-            } catch (final IOException ex) {
-                return FutureUtil.completedWithException(ex);
+                return storageSource.getDataTag((DynamicOps<Tag>) BootstrapProperties.worldSettingsAdapter, defaultLevelSettings.getDataPackConfig());
+            } finally {
+                this.closeStorageAccess(storageSource);
             }
-        }
-
-        return this.loadTemplate(key).thenCompose(r -> {
+        }, this.ioExecutor).thenCompose(levelData -> this.loadTemplate(key).thenApply(r -> {
             r.ifPresent(template -> {
                 final LevelStem scratch = ((SpongeWorldTemplate) template).asDimension();
                 ((PrimaryLevelDataBridge) levelData).bridge$populateFromDimension(scratch);
             });
 
-            return CompletableFuture.completedFuture(Optional.of((ServerWorldProperties) levelData));
-        });
+            return Optional.of((ServerWorldProperties) levelData);
+        }));
     }
 
     @Override
@@ -569,37 +624,15 @@ public CompletableFuture<Boolean> saveProperties(final ServerWorldProperties pro
 
         final ResourceKey key = properties.key();
 
-        final boolean isVanillaWorld = this.isVanillaWorld(key);
-        final String directoryName = this.getDirectoryName(key);
-        final LevelStorageSource.LevelStorageAccess storageSource;
-
-        try {
-            if (isVanillaWorld) {
-                storageSource = LevelStorageSource.createDefault(this.defaultWorldDirectory).createAccess(directoryName);
-            } else {
-                storageSource = LevelStorageSource.createDefault(this.customWorldsDirectory).createAccess(key.namespace() + File.separator +
-                        key.value());
-            }
-        } catch (final IOException e) {
-            return FutureUtil.completedWithException(e);
-        }
-
-        try {
+        return CompletableFuture.runAsync(() -> {
+            final LevelStorageSource.LevelStorageAccess storageSource = this.createStorageAccess(key);
             try {
                 storageSource.saveDataTag(BootstrapProperties.registries, (WorldData) properties, null);
-            } catch (final Exception ex) {
-                return FutureUtil.completedWithException(ex);
+            } finally {
+                this.closeStorageAccess(storageSource);
             }
-        } finally {
-            try {
-                storageSource.close();
-            } catch (final IOException ex) {
-                return FutureUtil.completedWithException(ex);
-            }
-        }
-
-        // Properties doesn't have everything we need...namely the generator, load the template and set values we actually got
-        return this.loadTemplate(key).thenCompose(r -> {
+        }, this.ioExecutor).thenCompose(v -> this.loadTemplate(key)).thenCompose(r -> {
+            // Properties doesn't have everything we need...namely the generator, load the template and set values we actually got
             final WorldTemplate template = r.orElse(null);
             if (template != null) {
                 final LevelStem scratch = ((SpongeWorldTemplate) template).asDimension();
@@ -612,6 +645,25 @@ public CompletableFuture<Boolean> saveProperties(final ServerWorldProperties pro
         });
     }
 
+    private LevelStorageSource.LevelStorageAccess createStorageAccess(final ResourceKey key) {
+        try {
+            if (this.isVanillaWorld(key)) {
+                return LevelStorageSource.createDefault(this.defaultWorldDirectory).createAccess(this.getDirectoryName(key));
+            }
+            return LevelStorageSource.createDefault(this.customWorldsDirectory).createAccess(key.namespace() + File.separator + key.value());
+        } catch (final IOException e) {
+            throw new CompletionException(e);
+        }
+    }
+
+    private void closeStorageAccess(final LevelStorageSource.LevelStorageAccess storageSource) {
+        try {
+            storageSource.close();
+        } catch (final IOException e) {
+            throw new CompletionException(e);
+        }
+    }
+
     @Override
     public CompletableFuture<Boolean> copyWorld(final ResourceKey key, final ResourceKey copyKey) {
         final net.minecraft.resources.ResourceKey<Level> registryKey = SpongeWorldManager.createRegistryKey(Objects.requireNonNull(key, "key"));
@@ -629,13 +681,38 @@ public CompletableFuture<Boolean> copyWorld(final ResourceKey key, final Resourc
             return CompletableFuture.completedFuture(false);
         }
 
+        final WorldOperationFuture<Boolean> operation = new WorldOperationFuture<>();
+        return operation.completeWith(this.copyWorld0(registryKey, key, copyKey, operation));
+    }
+
+    private CompletableFuture<Boolean> copyWorld0(final net.minecraft.resources.ResourceKey<Level> registryKey, final ResourceKey key,
+            final ResourceKey copyKey, final WorldOperationFuture<Boolean> operation) {
+        final @Nullable CompletableFuture<org.spongepowered.api.world.server.ServerWorld> pendingLoad = this.pendingLoads.get(registryKey);
+        if (pendingLoad != null) {
+            // A world that is being loaded opens its region files at any point, wait until it is either
+            // loaded or not so the copy can tell whether its files may be linked. Loads started after this
+            // point read their level data on the I/O thread and can't create the world before the copy is done.
+            operation.stage(WorldOperationFuture.Stage.READING);
+            return pendingLoad.handle((w, t) -> null)
+                    .thenComposeAsync(v -> this.copyWorld0(registryKey, key, copyKey, operation), this.server);
+        }
+
+        if (this.worldExists(copyKey)) {
+            return CompletableFuture.completedFuture(false);
+        }
+
         final ServerLevel loadedWorld = this.worlds.get(registryKey);
-        boolean disableLevelSaving = false;
+        final boolean disableLevelSaving;
 
         if (loadedWorld != null) {
             disableLevelSaving = loadedWorld.noSave;
             loadedWorld.save(null, true, loadedWorld.noSave);
+            // Keep the world from writing to the files while they are copied. Disabling saving only
+            // stops level saves, chunks that unload would still be written so they stay loaded instead.
             loadedWorld.noSave = true;
+            ((ChunkMapBridge) loadedWorld.getChunkSource().chunkMap).bridge$pauseWrites();
+        } else {
+            disableLevelSaving = false;
         }
 
         final boolean isDefaultWorld = this.isDefaultWorld(key);
@@ -651,89 +728,111 @@ public CompletableFuture<Boolean> copyWorld(final ResourceKey key, final Resourc
         final Path copyDirectory = isVanillaCopyWorld ? this.defaultWorldDirectory
                 .resolve(copyDirectoryName) : this.customWorldsDirectory.resolve(copyKey.namespace()).resolve(copyKey.value());
 
-        try {
-            Files.walkFileTree(originalDirectory, new SimpleFileVisitor<Path>() {
-                @Override
-                public FileVisitResult preVisitDirectory(final Path dir, final BasicFileAttributes attrs) throws IOException {
-                    // Silly recursion if the default world is being copied
-                    if (dir.getFileName().toString().equals(Constants.Sponge.World.DIMENSIONS_DIRECTORY)) {
-                        return FileVisitResult.SKIP_SUBTREE;
-                    }
+        final Path dimensionTemplate = this.getDataPackFile(key);
+        final Path copiedDimensionTemplate = this.getDataPackFile(copyKey);
 
-                    // Silly copying of vanilla sub worlds if the default world is being copied
-                    if (isDefaultWorld && SpongeWorldManager.this.isVanillaSubWorld(dir.getFileName().toString())) {
-                        return FileVisitResult.SKIP_SUBTREE;
-                    }
+        return CompletableFuture.runAsync(() -> {
+            try {
+                this.copyDirectory(originalDirectory, copyDirectory, isDefaultWorld, loadedWorld != null, operation);
+            } catch (final IOException e) {
+                // Bail the whole deal if we hit IO problems!
+                try {
+                    Files.deleteIfExists(copyDirectory);
+                } catch (final IOException ignore) {
+                }
 
-                    final Path relativize = originalDirectory.relativize(dir);
-                    final Path directory = copyDirectory.resolve(relativize);
-                    Files.createDirectories(directory);
+                throw new CompletionException(e);
+            }
+        }, this.ioExecutor).whenCompleteAsync((v, t) -> {
+            if (loadedWorld != null) {
+                loadedWorld.noSave = disableLevelSaving;
+                ((ChunkMapBridge) loadedWorld.getChunkSource().chunkMap).bridge$resumeWrites();
+            }
+        }, this.server).thenApplyAsync(v -> {
+            try {
+                Files.createDirectories(copiedDimensionTemplate.getParent());
+                Files.copy(dimensionTemplate, copiedDimensionTemplate);
 
-                    return FileVisitResult.CONTINUE;
+                final JsonObject root;
+                try (final InputStream stream = Files.newInputStream(copiedDimensionTemplate); final InputStreamReader reader = new InputStreamReader(stream)) {
+                    final JsonParser parser = new JsonParser();
+                    root = parser.parse(reader).getAsJsonObject();
                 }
+                final JsonObject spongeData = root.getAsJsonObject("#sponge");
+                spongeData.remove("unique_id");
 
-                @Override
-                public FileVisitResult visitFile(final Path file, final BasicFileAttributes attrs) throws IOException {
-                    final String fileName = file.getFileName().toString();
-                    // Do not copy backups (not relevant anymore)
-                    if (fileName.equals(Constants.Sponge.World.LEVEL_SPONGE_DAT_OLD)) {
-                        return FileVisitResult.CONTINUE;
-                    }
-                    if (fileName.equals(Constants.World.LEVEL_DAT_OLD)) {
-                        return FileVisitResult.CONTINUE;
-                    }
-                    Files.copy(file, copyDirectory.resolve(originalDirectory.relativize(file)), StandardCopyOption.COPY_ATTRIBUTES,
-                            StandardCopyOption.REPLACE_EXISTING);
-
-                    return FileVisitResult.CONTINUE;
+                try (final BufferedWriter writer = Files.newBufferedWriter(copiedDimensionTemplate)) {
+                    writer.write(root.toString());
                 }
-            });
-        } catch (final IOException e) {
-            // Bail the whole deal if we hit IO problems!
-            try {
-                Files.deleteIfExists(copyDirectory);
-            } catch (final IOException ignore) {
+            } catch (final IOException e) {
+                throw new CompletionException(e);
             }
+            return true;
+        }, this.ioExecutor);
+    }
 
-            return FutureUtil.completedWithException(e);
-        }
+    /**
+     * Copies the files of a world directory, skipping the directories of
+     * other worlds and level data backups. Region files of a world that is
+     * loaded are always copied, its open region files are written in place
+     * once saving is enabled again and would change the copy along with it.
+     */
+    private void copyDirectory(final Path originalDirectory, final Path copyDirectory, final boolean isDefaultWorld,
+            final boolean isLoaded, final WorldOperationFuture<?> operation) throws IOException {
+        operation.stage(WorldOperationFuture.Stage.READING);
+        final Map<Path, Long> files = new LinkedHashMap<>();
+        Files.walkFileTree(originalDirectory, new SimpleFileVisitor<Path>() {
+            @Override
+            public FileVisitResult preVisitDirectory(final Path dir, final BasicFileAttributes attrs) throws IOException {
+                // Silly recursion if the default world is being copied
+                if (dir.getFileName().toString().equals(Constants.Sponge.World.DIMENSIONS_DIRECTORY)) {
+                    return FileVisitResult.SKIP_SUBTREE;
+                }
 
-        if (loadedWorld != null) {
-            loadedWorld.noSave = disableLevelSaving;
-        }
+                // Silly copying of vanilla sub worlds if the default world is being copied
+                if (isDefaultWorld && SpongeWorldManager.this.isVanillaSubWorld(dir.getFileName().toString())) {
+                    return FileVisitResult.SKIP_SUBTREE;
+                }
 
-        final Path dimensionTemplate = this.getDataPackFile(key);
-        final Path copiedDimensionTemplate = this.getDataPackFile(copyKey);
+                final Path relativize = originalDirectory.relativize(dir);
+                final Path directory = copyDirectory.resolve(relativize);
+                Files.createDirectories(directory);
 
-        try {
-            Files.createDirectories(copiedDimensionTemplate.getParent());
-            Files.copy(dimensionTemplate, copiedDimensionTemplate);
-        } catch (final IOException e) {
-            FutureUtil.completedWithException(e);
-        }
+                return FileVisitResult.CONTINUE;
+            }
 
-        final JsonObject fixedObject;
-        try (final InputStream stream = Files.newInputStream(copiedDimensionTemplate); final InputStreamReader reader = new InputStreamReader(stream)) {
-            final JsonParser parser = new JsonParser();
-            final JsonElement element = parser.parse(reader);
+            @Override
+            public FileVisitResult visitFile(final Path file, final BasicFileAttributes attrs) {
+                final String fileName = file.getFileName().toString();
+                // Do not copy backups (not relevant anymore)
+                if (fileName.equals(Constants.Sponge.World.LEVEL_SPONGE_DAT_OLD)) {
+                    return FileVisitResult.CONTINUE;
+                }
+                if (fileName.equals(Constants.World.LEVEL_DAT_OLD)) {
+                    return FileVisitResult.CONTINUE;
+                }
+                files.put(file, attrs.size());
+                operation.addTotal(attrs.size());
 
-            final JsonObject root = element.getAsJsonObject();
-            final JsonObject spongeData = root.getAsJsonObject("#sponge");
-            spongeData.remove("unique_id");
-            fixedObject = root;
-        } catch (final IOException e) {
-            return FutureUtil.completedWithException(e);
-        }
+                return FileVisitResult.CONTINUE;
+            }
+        });
 
-        if (fixedObject != null) {
-            try (final BufferedWriter writer = Files.newBufferedWriter(copiedDimensionTemplate)) {
-                writer.write(fixedObject.toString());
-            } catch (final IOException e) {
-                FutureUtil.completedWithException(e);
+        // Region files make up most of a world, they are only copied once they are loaded by the copy.
+        final boolean linkRegionFiles = !isLoaded && SpongeConfigs.getCommon().get().world.linkCopiedRegionFiles
+                && RegionFileLinks.isSupported(copyDirectory);
+
+        operation.stage(WorldOperationFuture.Stage.WRITING);
+        for (final Map.Entry<Path, Long> entry : files.entrySet()) {
+            final Path file = entry.getKey();
+            final Path copy = copyDirectory.resolve(originalDirectory.relativize(file));
+            if (linkRegionFiles && RegionFileLinks.isRegionFile(file)) {
+                RegionFileLinks.link(file, copy);
+            } else {
+                Files.copy(file, copy, StandardCopyOption.COPY_ATTRIBUTES, StandardCopyOption.REPLACE_EXISTING);
             }
+            operation.addProcessed(entry.getValue());
         }
-
-        return CompletableFuture.completedFuture(true);
     }
 
     @Override
@@ -771,14 +870,7 @@ public CompletableFuture<Boolean> moveWorld(final ResourceKey key, final Resourc
         final String moveDirectoryName = this.getDirectoryName(movedKey);
 
         final Path moveDirectory = isVanillaMoveWorld ? this.defaultWorldDirectory
-                .resolve(moveDirectoryName) : this.customWorldsDirectory.resolve(key.namespace()).resolve(key.value());
-
-        try {
-            Files.createDirectories(moveDirectory);
-            Files.move(originalDirectory, moveDirectory, StandardCopyOption.REPLACE_EXISTING);
-        } catch (final IOException e) {
-            return FutureUtil.completedWithException(e);
-        }
+                .resolve(moveDirectoryName) : this.customWorldsDirectory.resolve(movedKey.namespace()).resolve(movedKey.value());
 
         final Path configFile = SpongeCommon.spongeConfigDirectory().resolve(Launch.instance().id()).resolve("worlds").resolve(key
                 .namespace()).resolve(key.value() + ".conf");
@@ -786,24 +878,32 @@ public CompletableFuture<Boolean> moveWorld(final ResourceKey key, final Resourc
         final Path copiedConfigFile = SpongeCommon.spongeConfigDirectory().resolve(Launch.instance().id()).resolve("worlds")
                 .resolve(movedKey.namespace()).resolve(movedKey.value() + ".conf");
 
-        try {
-            Files.createDirectories(copiedConfigFile.getParent());
-            Files.move(configFile, copiedConfigFile, StandardCopyOption.REPLACE_EXISTING);
-        } catch (final IOException e) {
-            return FutureUtil.completedWithException(e);
-        }
-
         final Path dimensionTemplate = this.getDataPackFile(key);
         final Path copiedDimensionTemplate = this.getDataPackFile(movedKey);
 
-        try {
-            Files.createDirectories(copiedDimensionTemplate.getParent());
-            Files.move(dimensionTemplate, copiedDimensionTemplate, StandardCopyOption.REPLACE_EXISTING);
-        } catch (final IOException e) {
-            FutureUtil.completedWithException(e);
-        }
+        final WorldOperationFuture<Boolean> operation = new WorldOperationFuture<>();
+        return operation.completeWith(CompletableFuture.supplyAsync(() -> {
+            operation.stage(WorldOperationFuture.Stage.WRITING);
+            try {
+                Files.createDirectories(moveDirectory);
+                Files.move(originalDirectory, moveDirectory, StandardCopyOption.REPLACE_EXISTING);
 
-        return CompletableFuture.completedFuture(true);
+                Files.createDirectories(copiedConfigFile.getParent());
+                Files.move(configFile, copiedConfigFile, StandardCopyOption.REPLACE_EXISTING);
+            } catch (final IOException e) {
+                throw new CompletionException(e);
+            }
+
+            try {
+                Files.createDirectories(copiedDimensionTemplate.getParent());
+                Files.move(dimensionTemplate, copiedDimensionTemplate, StandardCopyOption.REPLACE_EXISTING);
+            } catch (final IOException e) {
+                // The world itself is done, a stale template does not fail the operation
+                SpongeCommon.logger().warn("Failed to update the template of world '{}'", key, e);
+            }
+
+            return true;
+        }, this.ioExecutor));
     }
 
     @Override
@@ -835,34 +935,35 @@ public CompletableFuture<Boolean> deleteWorld(final ResourceKey key) {
 
         final Path directory = isVanillaWorld ? this.defaultWorldDirectory.resolve(directoryName) : this.customWorldsDirectory.resolve(key.namespace()).resolve(key.value());
 
-        if (Files.exists(directory)) {
-            try {
-                for (final Path path : Files.walk(directory).sorted(Comparator.reverseOrder()).collect(Collectors.toList())) {
-                    Files.deleteIfExists(path);
-                }
-            } catch (final IOException e) {
-                return FutureUtil.completedWithException(e);
-            }
-        }
-
         final Path configFile = SpongeCommon.spongeConfigDirectory().resolve(Launch.instance().id()).resolve("worlds").resolve(key.namespace())
             .resolve(key.value() + ".conf");
 
-        try {
-            Files.deleteIfExists(configFile);
-        } catch (final IOException e) {
-            return FutureUtil.completedWithException(e);
-        }
-
         final Path dimensionTemplate = this.getDataPackFile(key);
 
-        try {
-            Files.deleteIfExists(dimensionTemplate);
-        } catch (final IOException e) {
-            FutureUtil.completedWithException(e);
-        }
+        final WorldOperationFuture<Boolean> operation = new WorldOperationFuture<>();
+        return operation.completeWith(CompletableFuture.supplyAsync(() -> {
+            operation.stage(WorldOperationFuture.Stage.WRITING);
+            try {
+                if (Files.exists(directory)) {
+                    for (final Path path : Files.walk(directory).sorted(Comparator.reverseOrder()).collect(Collectors.toList())) {
+                        Files.deleteIfExists(path);
+                    }
+                }
 
-        return CompletableFuture.completedFuture(true);
+                Files.deleteIfExists(configFile);
+            } catch (final IOException e) {
+                throw new CompletionException(e);
+            }
+
+            try {
+                Files.deleteIfExists(dimensionTemplate);
+            } catch (final IOException e) {
+                // The world itself is done, a stale template does not fail the operation
+                SpongeCommon.logger().warn("Failed to delete the template of world '{}'", key, e);
+            }
+
+            return true;
+        }, this.ioExecutor));
     }
 
     private void unloadWorld0(final ServerLevel world) throws IOException {
@@ -0,0 +1,108 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.server;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The result of a world operation performed by the {@link SpongeWorldManager},
+ * which reports how far the operation has progressed.
+ *
+ * @param <T> The result type
+ */
+public final class WorldOperationFuture<T> extends CompletableFuture<T> {
+
+    private final AtomicLong processed = new AtomicLong();
+    private final AtomicLong total = new AtomicLong();
+    private volatile Stage stage = Stage.QUEUED;
+
+    /**
+     * Gets the stage the operation is currently in.
+     *
+     * @return The stage
+     */
+    public Stage stage() {
+        return this.isDone() ? Stage.DONE : this.stage;
+    }
+
+    /**
+     * Gets the fraction of the bytes that have been processed by the
+     * operation, between 0 and 1.
+     *
+     * @return The progress
+     */
+    public double progress() {
+        if (this.isDone()) {
+            return 1;
+        }
+        final long total = this.total.get();
+        return total == 0 ? 0 : Math.min(1, (double) this.processed.get() / total);
+    }
+
+    void stage(final Stage stage) {
+        this.stage = stage;
+    }
+
+    void addTotal(final long bytes) {
+        this.total.addAndGet(bytes);
+    }
+
+    void addProcessed(final long bytes) {
+        this.processed.addAndGet(bytes);
+    }
+
+    WorldOperationFuture<T> completeWith(final CompletableFuture<T> future) {
+        future.whenComplete((result, throwable) -> {
+            if (throwable == null) {
+                this.complete(result);
+            } else {
+                this.completeExceptionally(throwable instanceof CompletionException && throwable.getCause() != null ? throwable.getCause() : throwable);
+            }
+        });
+        return this;
+    }
+
+    public enum Stage {
+        /**
+         * The operation waits for other world operations to finish.
+         */
+        QUEUED,
+        /**
+         * Files are being read.
+         */
+        READING,
+        /**
+         * Files are being copied, moved or deleted.
+         */
+        WRITING,
+        /**
+         * The world is being constructed on the server thread.
+         */
+        LOADING,
+        DONE
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * Shares region files between copies of a world through hard links.
+ *
+ * <p>A linked region file is only copied once it is opened by the server,
+ * since region files are written in place. Regions that are never loaded
+ * in a copy keep sharing their data with the original world.</p>
+ */
+public final class RegionFileLinks {
+
+    private static final String REGION_FILE_EXTENSION = ".mca";
+
+    /**
+     * Gets whether region files within the given directory can be linked,
+     * which requires the number of links of a file to be known.
+     *
+     * @param directory The directory
+     * @return True if linking is supported
+     */
+    public static boolean isSupported(final Path directory) {
+        try {
+            return Files.getFileStore(directory).supportsFileAttributeView("unix");
+        } catch (final IOException e) {
+            return false;
+        }
+    }
+
+    public static boolean isRegionFile(final Path file) {
+        return file.getFileName().toString().endsWith(RegionFileLinks.REGION_FILE_EXTENSION);
+    }
+
+    /**
+     * Links the target to the source file, copying it if the link can't
+     * be created.
+     *
+     * @param source The file to link to
+     * @param target The link to create
+     * @throws IOException If neither a link nor a copy could be created
+     */
+    public static void link(final Path source, final Path target) throws IOException {
+        try {
+            Files.deleteIfExists(target);
+            Files.createLink(target, source);
+        } catch (final IOException | UnsupportedOperationException e) {
+            Files.copy(source, target, StandardCopyOption.COPY_ATTRIBUTES, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Replaces the given file with a copy of its own if it is shared with
+     * another world, so writing to it leaves the other world untouched.
+     *
+     * @param file The region file
+     * @throws IOException If the file could not be copied
+     */
+    public static void unlink(final Path file) throws IOException {
+        final int links;
+        try {
+            links = (int) Files.getAttribute(file, "unix:nlink");
+        } catch (final IOException | UnsupportedOperationException | IllegalArgumentException e) {
+            // Either it doesn't exist yet, or it can't have been linked by us
+            return;
+        }
+        if (links <= 1) {
+            return;
+        }
+        final Path tempFile = file.resolveSibling(file.getFileName() + ".tmp");
+        Files.copy(file, tempFile, StandardCopyOption.COPY_ATTRIBUTES, StandardCopyOption.REPLACE_EXISTING);
+        Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private RegionFileLinks() {
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.volume;
+
+import net.minecraft.util.CrudeIncrementalIntIdentityHashBiMap;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.ChunkAccess;
+import net.minecraft.world.level.chunk.HashMapPalette;
+import net.minecraft.world.level.chunk.LevelChunkSection;
+import net.minecraft.world.level.chunk.LinearPalette;
+import net.minecraft.world.level.chunk.Palette;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.common.accessor.world.level.chunk.HashMapPaletteAccessor;
+import org.spongepowered.common.accessor.world.level.chunk.LevelChunkSectionAccessor;
+import org.spongepowered.common.accessor.world.level.chunk.LinearPaletteAccessor;
+import org.spongepowered.common.accessor.world.level.chunk.PalettedContainerAccessor;
+
+/**
+ * A detached copy of the block sections of a chunk, safe to read from any
+ * thread while the chunk itself keeps changing on the server thread.
+ */
+final class ChunkSectionSnapshot {
+
+    final ChunkPos pos;
+    final @Nullable LevelChunkSection[] sections;
+
+    private ChunkSectionSnapshot(final ChunkPos pos, final @Nullable LevelChunkSection[] sections) {
+        this.pos = pos;
+        this.sections = sections;
+    }
+
+    /**
+     * Copies the present sections of the chunk with a bottom between
+     * {@code minSectionY} and {@code maxSectionY}, inclusive. Must be called
+     * on the thread owning the chunk.
+     *
+     * @param chunk The chunk
+     * @param minSectionY The bottom block y of the lowest section to copy
+     * @param maxSectionY The bottom block y of the highest section to copy
+     * @return The snapshot
+     */
+    static ChunkSectionSnapshot of(final ChunkAccess chunk, final int minSectionY, final int maxSectionY) {
+        final LevelChunkSection[] sections = chunk.getSections();
+        final @Nullable LevelChunkSection[] copies = new LevelChunkSection[sections.length];
+        for (int i = 0; i < sections.length; i++) {
+            final @Nullable LevelChunkSection section = sections[i];
+            if (section == null) {
+                continue;
+            }
+            final int sectionY = section.bottomBlockY();
+            if (sectionY >= minSectionY && sectionY <= maxSectionY) {
+                copies[i] = ChunkSectionSnapshot.copy(section);
+            }
+        }
+        return new ChunkSectionSnapshot(chunk.getPos(), copies);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static LevelChunkSection copy(final LevelChunkSection section) {
+        final LevelChunkSectionAccessor counts = (LevelChunkSectionAccessor) section;
+        final LevelChunkSection copy = new LevelChunkSection(section.bottomBlockY(),
+            counts.accessor$nonEmptyBlockCount(), counts.accessor$tickingBlockCount(), counts.accessor$tickingFluidCount());
+        final PalettedContainerAccessor<BlockState> source = (PalettedContainerAccessor<BlockState>) section.getStates();
+        final PalettedContainerAccessor<BlockState> target = (PalettedContainerAccessor<BlockState>) copy.getStates();
+
+        // Use the same bits and palette ids as the source so the packed longs can be
+        // copied as they are, without reading or writing any individual block
+        target.invoker$setBits(source.accessor$bits());
+        final Palette<BlockState> palette = source.accessor$palette();
+        if (palette instanceof LinearPalette) {
+            final LinearPaletteAccessor<BlockState> from = (LinearPaletteAccessor<BlockState>) palette;
+            final LinearPaletteAccessor<BlockState> to = (LinearPaletteAccessor<BlockState>) target.accessor$palette();
+            System.arraycopy(from.accessor$values(), 0, to.accessor$values(), 0, from.accessor$size());
+            to.accessor$size(from.accessor$size());
+        } else if (palette instanceof HashMapPalette) {
+            final CrudeIncrementalIntIdentityHashBiMap<BlockState> to = ((HashMapPaletteAccessor<BlockState>) target.accessor$palette()).accessor$values();
+            to.clear();
+            for (int id = 0, size = ((HashMapPalette<BlockState>) palette).getSize(); id < size; id++) {
+                to.addMapping(palette.valueFor(id), id);
+            }
+        }
+        final long[] longs = source.accessor$storage().getRaw();
+        System.arraycopy(longs, 0, target.accessor$storage().getRaw(), 0, longs.length);
+        return copy;
+    }
+
+}
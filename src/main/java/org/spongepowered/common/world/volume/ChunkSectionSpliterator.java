@@ -0,0 +1,147 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.volume;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.level.chunk.ChunkAccess;
+import net.minecraft.world.level.chunk.LevelChunkSection;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.AbstractMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+
+/**
+ * A lazy walk over the positions of a chunk within the bounds of the min and
+ * max cursors, visiting them in the same order as
+ * the cursors of {@link VolumeStreamUtils}. Elements are only read from the
+ * chunk sections as the stream consuming this spliterator asks for them.
+ *
+ * @param <T> The element type
+ */
+final class ChunkSectionSpliterator<T> extends Spliterators.AbstractSpliterator<Map.Entry<BlockPos, T>> {
+
+    private final ChunkAccess chunk;
+    private final @Nullable LevelChunkSection[] sections;
+    private final ChunkCursor minCursor;
+    private final ChunkCursor maxCursor;
+    private final VolumeStreamUtils.TriFunction<ChunkAccess, LevelChunkSection, BlockPos, T> elementAccessor;
+    private final BlockPos.MutableBlockPos cursor = new BlockPos.MutableBlockPos();
+    private final int xStart;
+    private final int xEnd;
+    private final int zStart;
+    private final int zEnd;
+    private final int chunkMinX;
+    private final int chunkMinZ;
+
+    private int sectionIndex = -1;
+    private @Nullable LevelChunkSection section;
+    private int sectionY;
+    private int yStart;
+    private int yEnd;
+    private int x;
+    private int y;
+    private int z;
+
+    ChunkSectionSpliterator(
+        final ChunkAccess chunk, final ChunkCursor minCursor, final ChunkCursor maxCursor,
+        final VolumeStreamUtils.TriFunction<ChunkAccess, LevelChunkSection, BlockPos, T> elementAccessor
+    ) {
+        super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.NONNULL);
+        this.chunk = chunk;
+        this.sections = chunk.getSections();
+        this.minCursor = minCursor;
+        this.maxCursor = maxCursor;
+        this.elementAccessor = elementAccessor;
+
+        final int chunkX = chunk.getPos().x;
+        final int chunkZ = chunk.getPos().z;
+        this.xStart = chunkX == minCursor.chunkX ? minCursor.xOffset : 0;
+        this.xEnd = chunkX == maxCursor.chunkX ? maxCursor.xOffset + 1 : 16; // 16 because the upper bound is exclusive
+        this.zStart = chunkZ == minCursor.chunkZ ? minCursor.zOffset : 0;
+        this.zEnd = chunkZ == maxCursor.chunkZ ? maxCursor.zOffset + 1 : 16; // 16 because the upper bound is exclusive
+        this.chunkMinX = chunkX << 4;
+        this.chunkMinZ = chunkZ << 4;
+    }
+
+    @Override
+    public boolean tryAdvance(final Consumer<? super Map.Entry<BlockPos, T>> action) {
+        final @Nullable LevelChunkSection chunkSection = this.section == null ? this.nextSection() : this.section;
+        if (chunkSection == null) {
+            return false;
+        }
+        final int adjustedX = this.x + this.chunkMinX;
+        final int adjustedY = this.y + this.sectionY;
+        final int adjustedZ = this.z + this.chunkMinZ;
+        this.cursor.set(adjustedX, adjustedY, adjustedZ);
+        final T element = Objects.requireNonNull(this.elementAccessor.apply(this.chunk, chunkSection, this.cursor), "Element cannot be null");
+        this.advance();
+        action.accept(new AbstractMap.SimpleEntry<>(new BlockPos(adjustedX, adjustedY, adjustedZ), element));
+        return true;
+    }
+
+    private void advance() {
+        if (++this.y < this.yEnd) {
+            return;
+        }
+        this.y = this.yStart;
+        if (++this.x < this.xEnd) {
+            return;
+        }
+        this.x = this.xStart;
+        if (++this.z < this.zEnd) {
+            return;
+        }
+        this.section = null;
+    }
+
+    private @Nullable LevelChunkSection nextSection() {
+        if (this.xStart >= this.xEnd || this.zStart >= this.zEnd) {
+            return null;
+        }
+        while (++this.sectionIndex < this.sections.length) {
+            final @Nullable LevelChunkSection chunkSection = this.sections[this.sectionIndex];
+            if (chunkSection == null) {
+                continue;
+            }
+            final int sectionY = chunkSection.bottomBlockY();
+            if (sectionY < this.minCursor.ySection || sectionY > this.maxCursor.ySection) {
+                continue;
+            }
+            this.sectionY = sectionY;
+            this.yStart = sectionY == this.minCursor.ySection ? this.minCursor.yOffset : 0;
+            this.yEnd = sectionY == this.maxCursor.ySection ? this.maxCursor.yOffset + 1 : 16; // plus 1 because the upper bound is exclusive
+            this.x = this.xStart;
+            this.y = this.yStart;
+            this.z = this.zStart;
+            this.section = chunkSection;
+            return chunkSection;
+        }
+        return null;
+    }
+}
@@ -24,9 +24,12 @@
  */
 package org.spongepowered.common.world.volume;
 
+import com.google.common.collect.Iterators;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.api.event.EventContextKeys;
+import org.spongepowered.api.scheduler.Task;
+import org.spongepowered.api.util.Ticks;
 import org.spongepowered.api.world.volume.MutableVolume;
 import org.spongepowered.api.world.volume.Volume;
 import org.spongepowered.api.world.volume.stream.VolumeCollector;
@@ -37,28 +40,60 @@
 import org.spongepowered.api.world.volume.stream.VolumePositionTranslator;
 import org.spongepowered.api.world.volume.stream.VolumePredicate;
 import org.spongepowered.api.world.volume.stream.VolumeStream;
+import org.spongepowered.common.SpongeCommon;
+import org.spongepowered.common.applaunch.config.core.SpongeConfigs;
 import org.spongepowered.common.event.tracking.PhaseContext;
 import org.spongepowered.common.event.tracking.PhaseTracker;
 import org.spongepowered.common.event.tracking.phase.plugin.PluginPhase;
+import org.spongepowered.common.launch.Launch;
+import org.spongepowered.math.vector.Vector3d;
 
+import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 public class SpongeVolumeStream<V extends Volume, T> implements VolumeStream<V, T> {
 
     private final Supplier<? extends V> volumeSupplier;
     private final Stream<VolumeElement<V, T>> stream;
+    private final @Nullable VolumeCursor<T> cursor;
 
     public SpongeVolumeStream(final Stream<VolumeElement<V, T>> elementStream,
         final Supplier<? extends V> volumeSupplier
+    ) {
+        this(elementStream, volumeSupplier, null);
+    }
+
+    private SpongeVolumeStream(final Stream<VolumeElement<V, T>> elementStream,
+        final Supplier<? extends V> volumeSupplier, final @Nullable VolumeCursor<T> cursor
     ) {
         this.stream = elementStream;
         this.volumeSupplier = volumeSupplier;
+        this.cursor = cursor;
+    }
+
+    /**
+     * Creates a copy of this stream whose terminal {@code apply} and
+     * {@code forEach} operations walk the given cursor instead of the element
+     * stream. The cursor must visit exactly the elements of this stream.
+     * Intermediate operations drop the cursor, as the elements they produce
+     * can no longer be read from the volume directly.
+     *
+     * @param cursor The cursor
+     * @return The new stream
+     */
+    public SpongeVolumeStream<V, T> withCursor(final VolumeCursor<T> cursor) {
+        return new SpongeVolumeStream<>(this.stream, this.volumeSupplier, cursor);
     }
 
     @Override
@@ -206,17 +241,27 @@ public Stream<VolumeElement<V, T>> toStream() {
 
     @Override
     public <W extends MutableVolume> void apply(final VolumeCollector<W, T, ?> collector) {
-        final PhaseTracker instance = PhaseTracker.getInstance();
-        try (final @Nullable PhaseContext<@NonNull ?> context = instance.getPhaseContext().isApplyingStreams()
-            ? null
-            : PluginPhase.State.VOLUME_STREAM_APPLICATION
-                .createPhaseContext(instance)
-                .setVolumeStream(this)
-                .spawnType(() -> PhaseTracker.getCauseStackManager().context(EventContextKeys.SPAWN_TYPE).orElse(null))
-        ) {
+        if (this.stream.isParallel() || (this.cursor != null && this.cursor.parallel())) {
+            this.applyInBatches(collector);
+            return;
+        }
+        try (final @Nullable PhaseContext<@NonNull ?> context = this.createApplicationContext()) {
             if (context != null) {
                 context.buildAndSwitch();
             }
+            if (this.cursor != null) {
+                this.cursor.forEach((x, y, z, element) -> {
+                    final W targetVolume = collector.target().get();
+                    final VolumeElement<W, T> transformed = collector.positionTransform().apply(VolumeElement.of(
+                        collector.target(),
+                        () -> element,
+                        new Vector3d(x, y, z)
+                    ));
+                    collector.applicator()
+                        .apply(targetVolume, transformed);
+                });
+                return;
+            }
             this.stream.forEach(element -> {
                 final W targetVolume = collector.target().get();
                 final VolumeElement<W, T> transformed = collector.positionTransform().apply(VolumeElement.of(
@@ -230,25 +275,141 @@ public <W extends MutableVolume> void apply(final VolumeCollector<W, T, ?> colle
         }
     }
 
+    /**
+     * Applies the elements of this stream to the target on the server thread
+     * over the following ticks, at most {@code volume-stream-writes-per-tick}
+     * elements per tick so large parallel operations don't stall a single
+     * tick. Parallel streams are applied this way by
+     * {@link #apply(VolumeCollector)} and
+     * {@link #applyUntil(VolumeCollector, Predicate)}.
+     *
+     * <p>The elements are produced off the server thread, a cursor being
+     * transformed one group of chunks at a time in parallel on the common
+     * fork join pool and a stream being pulled one tick's worth at a time.
+     * The next group is requested as soon as the writes of the previous one
+     * start, so it is transformed while those writes are drained, and the
+     * pending writes never exceed two groups rather than growing with the
+     * size of the stream.</p>
+     *
+     * @param collector The collector
+     * @param <W> The target volume type
+     * @return A future completed once every element has been applied,
+     *     completed exceptionally if producing or applying an element failed.
+     *     Cancelling it stops the application
+     */
+    public <W extends MutableVolume> CompletableFuture<Void> applyInBatches(final VolumeCollector<W, T, ?> collector) {
+        return this.applyInBatches(collector, result -> true);
+    }
+
+    private <W extends MutableVolume, R> CompletableFuture<Void> applyInBatches(final VolumeCollector<W, T, R> collector,
+        final Predicate<R> predicate
+    ) {
+        final int writesPerTick = Math.max(1, SpongeConfigs.getCommon().get().world.volumeStreamWritesPerTick);
+        final Iterator<List<VolumeElement<W, T>>> batches;
+        if (this.cursor != null) {
+            batches = Iterators.transform(
+                Iterators.partition(this.cursor.chunks().iterator(), ForkJoinPool.getCommonPoolParallelism()),
+                chunks -> chunks.parallelStream()
+                    .flatMap(chunk -> SpongeVolumeStream.transform(chunk, collector).stream())
+                    .collect(Collectors.toList())
+            );
+        } else {
+            final Iterator<VolumeElement<W, T>> elements = Iterators.transform(this.stream.iterator(),
+                element -> collector.positionTransform().apply(VolumeElement.of(
+                    collector.target(),
+                    element::type,
+                    element.position()
+                )));
+            batches = Iterators.partition(elements, writesPerTick);
+        }
+        final VolumeWriteBatches<VolumeElement<W, T>> writes = new VolumeWriteBatches<>(batches, ForkJoinPool.commonPool());
+        final CompletableFuture<Void> completion = new CompletableFuture<>();
+        SpongeCommon.serverScheduler().submit(Task.builder()
+            .plugin(Launch.instance().commonPlugin())
+            .interval(Ticks.single())
+            .execute(task -> {
+                if (completion.isDone()) {
+                    task.cancel();
+                    return;
+                }
+                final boolean done;
+                try (final @Nullable PhaseContext<@NonNull ?> context = this.createApplicationContext()) {
+                    if (context != null) {
+                        context.buildAndSwitch();
+                    }
+                    done = writes.drain(writesPerTick, element -> predicate.test(collector.applicator()
+                        .apply(collector.target().get(), element)));
+                } catch (final Throwable t) {
+                    task.cancel();
+                    final Throwable cause = t instanceof CompletionException && t.getCause() != null ? t.getCause() : t;
+                    SpongeCommon.logger().error("Failed to apply the elements of a volume stream", cause);
+                    completion.completeExceptionally(cause);
+                    return;
+                }
+                if (done) {
+                    task.cancel();
+                    completion.complete(null);
+                }
+            })
+            .build());
+        return completion;
+    }
+
+    private static <W extends MutableVolume, T> List<VolumeElement<W, T>> transform(final VolumeCursor<T> cursor,
+        final VolumeCollector<W, T, ?> collector
+    ) {
+        final List<VolumeElement<W, T>> elements = new ArrayList<>();
+        cursor.forEach((x, y, z, element) -> elements.add(collector.positionTransform().apply(VolumeElement.of(
+            collector.target(),
+            () -> element,
+            new Vector3d(x, y, z)
+        ))));
+        return elements;
+    }
+
+    private @Nullable PhaseContext<@NonNull ?> createApplicationContext() {
+        final PhaseTracker instance = PhaseTracker.getInstance();
+        return instance.getPhaseContext().isApplyingStreams()
+            ? null
+            : PluginPhase.State.VOLUME_STREAM_APPLICATION
+                .createPhaseContext(instance)
+                .setVolumeStream(this)
+                .spawnType(() -> PhaseTracker.getCauseStackManager().context(EventContextKeys.SPAWN_TYPE).orElse(null));
+    }
+
     @Override
     public <W extends MutableVolume, R> void applyUntil(final VolumeCollector<W, T, R> collector, final Predicate<R> predicate) {
-        boolean doWork = true;
-        for (final Iterator<VolumeElement<V, T>> iterator = this.stream.iterator(); doWork && iterator.hasNext(); ) {
-            final W targetVolume = collector.target().get();
-            final VolumeElement<V, T> element = iterator.next();
-            final VolumeElement<W, T> transformed = collector.positionTransform().apply(VolumeElement.of(
-                collector.target(),
-                element::type,
-                element.position()
-            ));
-            final R apply = collector.applicator()
-                .apply(targetVolume, transformed);
-            doWork = predicate.test(apply);
+        if (this.stream.isParallel() || (this.cursor != null && this.cursor.parallel())) {
+            this.applyInBatches(collector, predicate);
+            return;
+        }
+        try (final @Nullable PhaseContext<@NonNull ?> context = this.createApplicationContext()) {
+            if (context != null) {
+                context.buildAndSwitch();
+            }
+            boolean doWork = true;
+            for (final Iterator<VolumeElement<V, T>> iterator = this.stream.iterator(); doWork && iterator.hasNext(); ) {
+                final W targetVolume = collector.target().get();
+                final VolumeElement<V, T> element = iterator.next();
+                final VolumeElement<W, T> transformed = collector.positionTransform().apply(VolumeElement.of(
+                    collector.target(),
+                    element::type,
+                    element.position()
+                ));
+                final R apply = collector.applicator()
+                    .apply(targetVolume, transformed);
+                doWork = predicate.test(apply);
+            }
         }
     }
 
     @Override
     public void forEach(final VolumeConsumer<V, T> visitor) {
+        if (this.cursor != null) {
+            final V volume = this.volume();
+            this.cursor.forEach((x, y, z, element) -> visitor.consume(volume, element, x, y, z));
+            return;
+        }
         this.stream.forEach(element -> visitor.consume(
             element.volume(),
             element.type(),
@@ -260,6 +421,14 @@ public void forEach(final VolumeConsumer<V, T> visitor) {
 
     @Override
     public void forEach(final Consumer<VolumeElement<V, T>> consumer) {
+        if (this.cursor != null) {
+            this.cursor.forEach((x, y, z, element) -> consumer.accept(VolumeElement.of(
+                this::volume,
+                () -> element,
+                new Vector3d(x, y, z)
+            )));
+            return;
+        }
         this.stream.forEach(consumer);
     }
 
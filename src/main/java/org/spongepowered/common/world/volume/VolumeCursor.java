@@ -0,0 +1,77 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.volume;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A push based walk over the elements of a volume. Each element is handed to
+ * a {@link Visitor} along with its primitive coordinates, so unlike the
+ * element streams no position, entry or {@code VolumeElement} is allocated
+ * per visited element.
+ *
+ * @param <T> The element type
+ */
+@FunctionalInterface
+public interface VolumeCursor<T> {
+
+    /**
+     * Visits every element covered by this cursor, in the same order the
+     * backing stream would provide them unless this cursor is
+     * {@link #parallel()}.
+     *
+     * @param visitor The visitor
+     */
+    void forEach(Visitor<? super T> visitor);
+
+    /**
+     * Gets whether this cursor may visit elements concurrently and in no
+     * particular order.
+     *
+     * @return True if this cursor is parallel
+     */
+    default boolean parallel() {
+        return false;
+    }
+
+    /**
+     * Splits this cursor into cursors covering at most a single chunk each,
+     * which together visit exactly the elements of this cursor.
+     *
+     * @return The chunk cursors
+     */
+    default List<VolumeCursor<T>> chunks() {
+        return Collections.singletonList(this);
+    }
+
+    @FunctionalInterface
+    interface Visitor<T> {
+
+        void visit(int x, int y, int z, T element);
+
+    }
+
+}
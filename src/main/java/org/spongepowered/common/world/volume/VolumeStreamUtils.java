@@ -62,14 +62,17 @@
 import org.spongepowered.common.world.volume.buffer.block.ArrayMutableBlockBuffer;
 import org.spongepowered.common.world.volume.buffer.blockentity.ObjectArrayMutableBlockEntityBuffer;
 import org.spongepowered.common.world.volume.buffer.entity.ObjectArrayMutableEntityBuffer;
+import org.spongepowered.common.world.volume.stream.SpongeStreamOptions;
 import org.spongepowered.math.vector.Vector3d;
 import org.spongepowered.math.vector.Vector3i;
 
 import java.lang.ref.WeakReference;
 import java.util.AbstractMap;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
@@ -81,6 +84,7 @@
 import java.util.function.Supplier;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 public final class VolumeStreamUtils {
 
@@ -373,52 +377,184 @@ private static <T> Function<ChunkAccess, Stream<Map.Entry<BlockPos, T>>> getElem
         final ChunkCursor minCursor = new ChunkCursor(min);
         final ChunkCursor maxCursor = new ChunkCursor(max);
 
-        return chunk -> {
-            final ChunkPos pos = chunk.getPos();
-
-            final int xStart = pos.x == minCursor.chunkX ? minCursor.xOffset : 0;
-            final int xEnd = pos.x == maxCursor.chunkX ? maxCursor.xOffset + 1 : 16; // 16 because IntStream.range is upper range exclusive
-            final int zStart = pos.z == minCursor.chunkZ ? minCursor.zOffset : 0;
-            final int zEnd = pos.z == maxCursor.chunkZ ? maxCursor.zOffset + 1 : 16; // 16 because IntStream.range is upper range exclusive
-
-            final int chunkMinX = pos.x << 4;
-            final int chunkMinZ = pos.z << 4;
-
-            return Arrays.stream(chunk.getSections())
-                .filter(Objects::nonNull)
-                .filter(chunkSection -> chunkSection.bottomBlockY() >= minCursor.ySection && chunkSection.bottomBlockY() <= maxCursor.ySection)
-                .flatMap(
-                chunkSection -> IntStream.range(zStart, zEnd)
-                    .mapToObj(z -> IntStream.range(xStart, xEnd)
-                        .mapToObj(x -> {
-                            final int sectionY = chunkSection.bottomBlockY();
-                            final int yStart = sectionY == minCursor.ySection ? minCursor.yOffset : 0;
-                            final int yEnd = sectionY == maxCursor.ySection ? maxCursor.yOffset + 1 : 16; // plus 1 because of IntStream range exclusive
-                            return IntStream.range(yStart, yEnd)
-                                .mapToObj(y ->
-                                    {
-                                        final int adjustedX = x + chunkMinX;
-                                        final int adjustedY = y + sectionY;
-                                        final int adjustedZ = z + chunkMinZ;
-
-                                        final BlockPos blockPos = new BlockPos(adjustedX, adjustedY, adjustedZ);
-                                        final T apply = Objects.requireNonNull(elementAccessor.apply(chunk, chunkSection, blockPos), "Element cannot be null");
-                                        return new AbstractMap.SimpleEntry<>(blockPos, apply);
-                                    }
-                                );
-                        }))
-                    .flatMap(Function.identity())
-                    .flatMap(Function.identity())
-            );
+        return chunk -> StreamSupport.stream(new ChunkSectionSpliterator<>(chunk, minCursor, maxCursor, elementAccessor), false);
+    }
+
+    /**
+     * Walks every position of the given chunk within the bounds of the min
+     * and max cursors, section by section, reusing a single mutable position
+     * for the element accessor. Empty sections are skipped entirely.
+     *
+     * @param chunk The chunk to walk
+     * @param minCursor The minimum bound
+     * @param maxCursor The maximum bound
+     * @param elementAccessor The accessor reading the element at a position
+     * @param visitor The visitor
+     * @param <T> The element type
+     */
+    private static <T> void forEachInChunk(
+        final ChunkAccess chunk, final ChunkCursor minCursor, final ChunkCursor maxCursor,
+        final TriFunction<ChunkAccess, LevelChunkSection, BlockPos, T> elementAccessor, final VolumeCursor.Visitor<? super T> visitor
+    ) {
+        VolumeStreamUtils.forEachInSections(chunk.getPos(), chunk.getSections(), minCursor, maxCursor,
+            (chunkSection, pos) -> elementAccessor.apply(chunk, chunkSection, pos), visitor);
+    }
+
+    private static <T> void forEachInSections(
+        final ChunkPos pos, final @Nullable LevelChunkSection[] sections, final ChunkCursor minCursor, final ChunkCursor maxCursor,
+        final BiFunction<LevelChunkSection, BlockPos, T> elementAccessor, final VolumeCursor.Visitor<? super T> visitor
+    ) {
+        final int xStart = pos.x == minCursor.chunkX ? minCursor.xOffset : 0;
+        final int xEnd = pos.x == maxCursor.chunkX ? maxCursor.xOffset + 1 : 16; // 16 because the upper bound is exclusive
+        final int zStart = pos.z == minCursor.chunkZ ? minCursor.zOffset : 0;
+        final int zEnd = pos.z == maxCursor.chunkZ ? maxCursor.zOffset + 1 : 16; // 16 because the upper bound is exclusive
+
+        final int chunkMinX = pos.x << 4;
+        final int chunkMinZ = pos.z << 4;
+
+        final BlockPos.MutableBlockPos cursor = new BlockPos.MutableBlockPos();
+        for (final @Nullable LevelChunkSection chunkSection : sections) {
+            if (chunkSection == null) {
+                continue;
+            }
+            final int sectionY = chunkSection.bottomBlockY();
+            if (sectionY < minCursor.ySection || sectionY > maxCursor.ySection) {
+                continue;
+            }
+            final int yStart = sectionY == minCursor.ySection ? minCursor.yOffset : 0;
+            final int yEnd = sectionY == maxCursor.ySection ? maxCursor.yOffset + 1 : 16; // plus 1 because the upper bound is exclusive
+            for (int z = zStart; z < zEnd; z++) {
+                for (int x = xStart; x < xEnd; x++) {
+                    for (int y = yStart; y < yEnd; y++) {
+                        final int adjustedX = x + chunkMinX;
+                        final int adjustedY = y + sectionY;
+                        final int adjustedZ = z + chunkMinZ;
+                        cursor.set(adjustedX, adjustedY, adjustedZ);
+                        final T element = Objects.requireNonNull(elementAccessor.apply(chunkSection, cursor), "Element cannot be null");
+                        visitor.visit(adjustedX, adjustedY, adjustedZ, element);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Creates a {@link VolumeCursor} reading block states straight out of the
+     * chunk sections between {@code min} and {@code max}, visiting them in the
+     * same order as {@link #getBlockStatesForSections(Vector3i, Vector3i)}.
+     * Chunks are resolved through the chunk accessor every time the cursor is
+     * walked.
+     *
+     * @param min The minimum position
+     * @param max The maximum position
+     * @param volume The volume supplier passed to the chunk accessor
+     * @param chunkAccessor The chunk accessor
+     * @param <R> The volume type
+     * @return The cursor
+     */
+    public static <R extends Volume> VolumeCursor<org.spongepowered.api.block.BlockState> getBlockStateCursor(
+        final Vector3i min, final Vector3i max, final Supplier<R> volume,
+        final BiFunction<R, ChunkPos, @Nullable ChunkAccess> chunkAccessor
+    ) {
+        final ChunkCursor minCursor = new ChunkCursor(min);
+        final ChunkCursor maxCursor = new ChunkCursor(max);
+        final TriFunction<ChunkAccess, LevelChunkSection, BlockPos, BlockState> elementAccessor = VolumeStreamUtils.chunkSectionBlockStateGetter();
+        return visitor -> {
+            final R ref = volume.get();
+            for (int chunkX = minCursor.chunkX; chunkX <= maxCursor.chunkX; chunkX++) {
+                for (int chunkZ = minCursor.chunkZ; chunkZ <= maxCursor.chunkZ; chunkZ++) {
+                    final @Nullable ChunkAccess chunk = chunkAccessor.apply(ref, new ChunkPos(chunkX, chunkZ));
+                    if (chunk == null) {
+                        continue;
+                    }
+                    VolumeStreamUtils.forEachInChunk(chunk, minCursor, maxCursor, elementAccessor,
+                        (x, y, z, state) -> visitor.visit(x, y, z, (org.spongepowered.api.block.BlockState) state));
+                }
+            }
         };
     }
 
+    /**
+     * Creates a block state stream reading from snapshots of the chunk
+     * sections between {@code min} and {@code max}, taken immediately on the
+     * calling thread. Both the element stream and the terminal operations of
+     * the returned stream process the snapshots chunk parallel on the common
+     * fork join pool, and as the snapshots are detached from the volume
+     * itself they also serve as a carbon copy.
+     *
+     * @param min The minimum position
+     * @param max The maximum position
+     * @param ref The volume
+     * @param chunkAccessor The chunk accessor, only called on the calling thread
+     * @param <R> The volume type
+     * @return The stream
+     */
+    public static <R extends Volume> SpongeVolumeStream<R, org.spongepowered.api.block.BlockState> generateParallelBlockStream(
+        final Vector3i min, final Vector3i max, final R ref, final BiFunction<R, ChunkPos, @Nullable ChunkAccess> chunkAccessor
+    ) {
+        final Supplier<R> volumeSupplier = VolumeStreamUtils.createWeaklyReferencedSupplier(ref, "Volume");
+        final ChunkCursor minCursor = new ChunkCursor(min);
+        final ChunkCursor maxCursor = new ChunkCursor(max);
+        final List<ChunkSectionSnapshot> snapshots = new ArrayList<>();
+        for (int chunkX = minCursor.chunkX; chunkX <= maxCursor.chunkX; chunkX++) {
+            for (int chunkZ = minCursor.chunkZ; chunkZ <= maxCursor.chunkZ; chunkZ++) {
+                final @Nullable ChunkAccess chunk = chunkAccessor.apply(ref, new ChunkPos(chunkX, chunkZ));
+                if (chunk != null) {
+                    snapshots.add(ChunkSectionSnapshot.of(chunk, minCursor.ySection, maxCursor.ySection));
+                }
+            }
+        }
+        final BiFunction<LevelChunkSection, BlockPos, BlockState> elementAccessor =
+            (chunkSection, pos) -> chunkSection.getBlockState(pos.getX() & 15, pos.getY() & 15, pos.getZ() & 15);
+
+        final Stream<VolumeElement<R, org.spongepowered.api.block.BlockState>> elements = snapshots.parallelStream()
+            .flatMap(snapshot -> {
+                final Stream.Builder<VolumeElement<R, org.spongepowered.api.block.BlockState>> builder = Stream.builder();
+                VolumeStreamUtils.forEachInSections(snapshot.pos, snapshot.sections, minCursor, maxCursor, elementAccessor,
+                    (x, y, z, state) -> builder.add(VolumeElement.of(
+                        volumeSupplier,
+                        () -> (org.spongepowered.api.block.BlockState) state,
+                        new Vector3d(x, y, z)
+                    )));
+                return builder.build();
+            });
+        final VolumeCursor<org.spongepowered.api.block.BlockState> cursor = new VolumeCursor<org.spongepowered.api.block.BlockState>() {
+            @Override
+            public void forEach(final Visitor<? super org.spongepowered.api.block.BlockState> visitor) {
+                snapshots.parallelStream().forEach(snapshot -> VolumeStreamUtils.forEachInSections(snapshot.pos, snapshot.sections,
+                    minCursor, maxCursor, elementAccessor,
+                    (x, y, z, state) -> visitor.visit(x, y, z, (org.spongepowered.api.block.BlockState) state)));
+            }
+
+            @Override
+            public boolean parallel() {
+                return true;
+            }
+
+            @Override
+            public List<VolumeCursor<org.spongepowered.api.block.BlockState>> chunks() {
+                final List<VolumeCursor<org.spongepowered.api.block.BlockState>> chunks = new ArrayList<>(snapshots.size());
+                for (final ChunkSectionSnapshot snapshot : snapshots) {
+                    chunks.add(visitor -> VolumeStreamUtils.forEachInSections(snapshot.pos, snapshot.sections, minCursor, maxCursor,
+                        elementAccessor, (x, y, z, state) -> visitor.visit(x, y, z, (org.spongepowered.api.block.BlockState) state)));
+                }
+                return chunks;
+            }
+        };
+        return new SpongeVolumeStream<>(elements, volumeSupplier).withCursor(cursor);
+    }
+
     public static <W extends Region<W>> VolumeStream<W, org.spongepowered.api.block.BlockState> generateBlockStream(
         final LevelReader reader, final Vector3i min, final Vector3i max, final StreamOptions options
     ) {
         VolumeStreamUtils.validateStreamArgs(Objects.requireNonNull(min, "min"), Objects.requireNonNull(max, "max"),
             Objects.requireNonNull(options, "options"));
 
+        final BiFunction<W, ChunkPos, @Nullable ChunkAccess> chunkAccessor = VolumeStreamUtils.getChunkAccessorByStatus(reader,
+            options.loadingStyle().generateArea());
+        if (SpongeStreamOptions.isParallel(options)) {
+            return VolumeStreamUtils.generateParallelBlockStream(min, max, (W) reader, chunkAccessor);
+        }
         final boolean shouldCarbonCopy = options.carbonCopy();
         final Vector3i size = max.sub(min).add(1, 1 ,1);
         final @MonotonicNonNull ArrayMutableBlockBuffer backingVolume;
@@ -427,7 +563,7 @@ public static <W extends Region<W>> VolumeStream<W, org.spongepowered.api.block.
         } else {
             backingVolume = null;
         }
-        return VolumeStreamUtils.<W, org.spongepowered.api.block.BlockState, net.minecraft.world.level.block.state.BlockState, ChunkAccess, BlockPos>generateStream(
+        final SpongeVolumeStream<W, org.spongepowered.api.block.BlockState> stream = VolumeStreamUtils.<W, org.spongepowered.api.block.BlockState, net.minecraft.world.level.block.state.BlockState, ChunkAccess, BlockPos>generateStream(
             min,
             max,
             options,
@@ -436,7 +572,7 @@ public static <W extends Region<W>> VolumeStream<W, org.spongepowered.api.block.
             // IdentityFunction
             VolumeStreamUtils.getOrCopyBlockState(shouldCarbonCopy, backingVolume),
             // ChunkAccessor
-            VolumeStreamUtils.getChunkAccessorByStatus(reader, options.loadingStyle().generateArea()),
+            chunkAccessor,
             // Biome by block position
             (key, biome) -> key,
             // Entity Accessor
@@ -444,6 +580,11 @@ public static <W extends Region<W>> VolumeStream<W, org.spongepowered.api.block.
             // Filtered Position Entity Accessor
             VolumeStreamUtils.getBlockStateFromThisOrCopiedVolume(shouldCarbonCopy, backingVolume)
         );
+        if (shouldCarbonCopy) {
+            return stream;
+        }
+        // Terminal operations can read the sections directly instead of going through the element stream
+        return stream.withCursor(VolumeStreamUtils.getBlockStateCursor(min, max, stream::volume, chunkAccessor));
     }
 
     public static <R extends Region<R>> VolumeStream<R, BlockEntity> getBlockEntityStream(final LevelReader reader, final Vector3i min, final Vector3i max, final StreamOptions options) {
@@ -534,7 +675,7 @@ public static <R extends Region<R>> VolumeStream<R, org.spongepowered.api.world.
         );
     }
 
-    public static <R extends Volume, API, MC, Section, KeyReference> VolumeStream<R, API> generateStream(
+    public static <R extends Volume, API, MC, Section, KeyReference> SpongeVolumeStream<R, API> generateStream(
         final Vector3i min,
         final Vector3i max,
         final StreamOptions options,
@@ -568,7 +709,7 @@ public static <R extends Volume, API, MC, Section, KeyReference> VolumeStream<R,
     }
 
 
-    public static <R extends Volume, API, MC, Section, KeyReference> VolumeStream<R, API> generateStream(
+    public static <R extends Volume, API, MC, Section, KeyReference> SpongeVolumeStream<R, API> generateStream(
         final StreamOptions options,
         final R ref,
         final Section section,
@@ -0,0 +1,126 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.volume;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Predicate;
+
+/**
+ * The pending writes of a batched volume stream application. Batches are
+ * produced on the given executor one ahead of the writes: the next batch is
+ * requested as soon as the previous one is taken, so it is usually ready by
+ * the time the writes of the current batch have been drained. At most the
+ * batch being written and the one being produced are held in memory,
+ * regardless of the size of the stream.
+ *
+ * <p>The source iterator is only ever used by one batch request at a time.</p>
+ *
+ * @param <E> The element type
+ */
+final class VolumeWriteBatches<E> {
+
+    private final Iterator<? extends Collection<? extends E>> batches;
+    private final Executor executor;
+    private final Queue<E> pending = new ArrayDeque<>();
+    private @Nullable CompletableFuture<? extends @Nullable Collection<? extends E>> next;
+    private boolean exhausted;
+
+    VolumeWriteBatches(final Iterator<? extends Collection<? extends E>> batches, final Executor executor) {
+        this.batches = batches;
+        this.executor = executor;
+        this.request();
+    }
+
+    private void request() {
+        this.next = CompletableFuture.supplyAsync(() -> this.batches.hasNext() ? this.batches.next() : null, this.executor);
+    }
+
+    /**
+     * Moves the requested batch to the pending writes if it has been
+     * produced, and requests the one after it.
+     *
+     * @return True if a batch was taken
+     */
+    private boolean take() {
+        if (this.exhausted || this.next == null || !this.next.isDone()) {
+            return false;
+        }
+        // Rethrows the failure of the batch, if any
+        final @Nullable Collection<? extends E> batch = this.next.join();
+        if (batch == null) {
+            this.exhausted = true;
+            this.next = null;
+            return false;
+        }
+        this.pending.addAll(batch);
+        this.request();
+        return true;
+    }
+
+    /**
+     * Hands at most {@code limit} elements to the writer. When the pending
+     * elements run out the next batch is taken if it is ready, otherwise the
+     * remaining writes are left for the next call.
+     *
+     * @param limit The maximum amount of elements to hand off
+     * @param writer The writer, returning {@code false} to stop the application
+     * @return True if every element has been written or the writer stopped
+     */
+    boolean drain(final int limit, final Predicate<? super E> writer) {
+        for (int i = 0; i < limit; i++) {
+            @Nullable E element = this.pending.poll();
+            while (element == null) {
+                if (!this.take()) {
+                    return this.exhausted;
+                }
+                element = this.pending.poll();
+            }
+            if (!writer.test(element)) {
+                this.pending.clear();
+                this.exhausted = true;
+                this.next = null;
+                return true;
+            }
+        }
+        if (this.pending.isEmpty() && this.next != null && this.next.isDone() && this.next.join() == null) {
+            // Notice the end of the source without waiting for another call
+            this.exhausted = true;
+            this.next = null;
+        }
+        return this.exhausted && this.pending.isEmpty();
+    }
+
+    int pending() {
+        return this.pending.size();
+    }
+
+}
@@ -25,6 +25,7 @@
 package org.spongepowered.common.world.volume.buffer.archetype;
 
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.api.Sponge;
 import org.spongepowered.api.block.BlockState;
 import org.spongepowered.api.block.BlockType;
@@ -225,6 +226,30 @@ public Palette<Biome, Biome> getBiomePalette() {
         return this.biomes.getPalette();
     }
 
+    /**
+     * Replaces all blocks of this volume, see
+     * {@link ArrayMutableBlockBuffer#setBlocks(BlockState[], int[], int)}.
+     */
+    public void setBlocks(final @Nullable BlockState[] states, final int[] ids, final int count) {
+        this.blocks.setBlocks(states, ids, count);
+    }
+
+    public int[] blockIds() {
+        return this.blocks.blockIds();
+    }
+
+    /**
+     * Replaces all biomes of this volume, see
+     * {@link ByteArrayMutableBiomeBuffer#setBiomes(Biome[], int[], int)}.
+     */
+    public void setBiomes(final @Nullable Biome[] biomes, final int[] ids, final int count) {
+        this.biomes.setBiomes(biomes, ids, count);
+    }
+
+    public int[] biomeIds() {
+        return this.biomes.biomeIds();
+    }
+
     @Override
     public void addEntity(final EntityArchetypeEntry entry) {
         this.entities.addEntity(entry);
@@ -138,4 +138,58 @@ public VolumeStream<BiomeVolume.Mutable, Biome> biomeStream(
     public Palette.Mutable<Biome, Biome> getPalette() {
         return this.palette;
     }
+
+    /**
+     * Replaces all biomes of this buffer.
+     *
+     * @param biomes The biomes by their id within {@code ids}, missing
+     *     biomes leave the current biome in place
+     * @param ids The biome ids, ordered by y, then z, then x
+     * @param count The amount of ids to use
+     */
+    public void setBiomes(final @Nullable Biome[] biomes, final int[] ids, final int count) {
+        if (count > this.biomes.length || count > ids.length) {
+            throw new IllegalArgumentException(String.format("Expected at most %d biome ids but got %d", this.biomes.length, count));
+        }
+        final int[] paletteIds = new int[biomes.length];
+        for (int i = 0; i < biomes.length; i++) {
+            final @Nullable Biome biome = biomes[i];
+            paletteIds[i] = biome == null ? -1 : this.palette.orAssign(biome);
+        }
+        final int width = this.size.x();
+        final int height = this.size.y();
+        final int length = this.size.z();
+        int index = 0;
+        for (int y = 0; y < height && index < count; y++) {
+            for (int z = 0; z < length && index < count; z++) {
+                for (int x = 0; x < width && index < count; x++) {
+                    final int id = paletteIds[ids[index++]];
+                    if (id != -1) {
+                        this.biomes[(x * length + z) * height + y] = (byte) id;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Gets the palette ids of all biomes of this buffer.
+     *
+     * @return The biome ids, ordered by y, then z, then x
+     */
+    public int[] biomeIds() {
+        final int width = this.size.x();
+        final int height = this.size.y();
+        final int length = this.size.z();
+        final int[] ids = new int[this.biomes.length];
+        int index = 0;
+        for (int y = 0; y < height; y++) {
+            for (int z = 0; z < length; z++) {
+                for (int x = 0; x < width; x++) {
+                    ids[index++] = this.biomes[(x * length + z) * height + y] & 255;
+                }
+            }
+        }
+        return ids;
+    }
 }
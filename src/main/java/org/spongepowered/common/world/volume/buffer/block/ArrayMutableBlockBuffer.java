@@ -40,7 +40,7 @@
 import org.spongepowered.api.world.volume.stream.StreamOptions;
 import org.spongepowered.api.world.volume.stream.VolumeElement;
 import org.spongepowered.api.world.volume.stream.VolumeStream;
-import org.spongepowered.common.world.schematic.MutableBimapPalette;
+import org.spongepowered.common.world.schematic.MutableArrayPalette;
 import org.spongepowered.common.world.volume.SpongeVolumeStream;
 import org.spongepowered.common.world.volume.VolumeStreamUtils;
 import org.spongepowered.math.vector.Vector3d;
@@ -62,7 +62,7 @@ public class ArrayMutableBlockBuffer extends AbstractBlockBuffer implements Bloc
 
     public ArrayMutableBlockBuffer(final Vector3i start, final Vector3i size) {
         this(
-            new MutableBimapPalette<>(
+            new MutableArrayPalette<>(
                 PaletteTypes.BLOCK_STATE_PALETTE.get(),
                 Sponge.game().registry(RegistryTypes.BLOCK_TYPE)
             ),
@@ -224,4 +224,65 @@ public ArrayMutableBlockBuffer copy() {
     public BlockBackingData getCopiedBackingData() {
         return this.data.copyOf();
     }
+
+    /**
+     * Replaces all blocks of this buffer. The backing data is allocated once
+     * for the final palette, rather than growing while blocks are set.
+     *
+     * @param states The block states by their id within {@code ids}, missing
+     *     states are replaced by air
+     * @param ids The block ids, ordered by y, then z, then x
+     * @param count The amount of ids to use, the remaining blocks are set
+     *     to air
+     */
+    public void setBlocks(final @Nullable BlockState[] states, final int[] ids, final int count) {
+        final int area = this.area();
+        if (count > area || count > ids.length) {
+            throw new IllegalArgumentException(String.format("Expected at most %d block ids but got %d", area, count));
+        }
+        final int[] paletteIds = new int[states.length];
+        for (int i = 0; i < states.length; i++) {
+            final @Nullable BlockState state = states[i];
+            paletteIds[i] = this.palette.orAssign(state == null ? ArrayMutableBlockBuffer.AIR : state);
+        }
+        final int airId = this.palette.orAssign(ArrayMutableBlockBuffer.AIR);
+        final BlockBackingData data = new BlockBackingData.PackedBackingData(area, this.palette.highestId());
+        final int width = this.size.x();
+        final int height = this.size.y();
+        final int length = this.size.z();
+        int index = 0;
+        for (int y = 0; y < height; y++) {
+            for (int z = 0; z < length; z++) {
+                for (int x = 0; x < width; x++) {
+                    final int id = index < count ? paletteIds[ids[index]] : airId;
+                    if (id != 0) {
+                        data.set((x * length + z) * height + y, id);
+                    }
+                    index++;
+                }
+            }
+        }
+        this.data = data;
+    }
+
+    /**
+     * Gets the palette ids of all blocks of this buffer.
+     *
+     * @return The block ids, ordered by y, then z, then x
+     */
+    public int[] blockIds() {
+        final int width = this.size.x();
+        final int height = this.size.y();
+        final int length = this.size.z();
+        final int[] ids = new int[this.area()];
+        int index = 0;
+        for (int y = 0; y < height; y++) {
+            for (int z = 0; z < length; z++) {
+                for (int x = 0; x < width; x++) {
+                    ids[index++] = this.data.get((x * length + z) * height + y);
+                }
+            }
+        }
+        return ids;
+    }
 }
@@ -32,6 +32,7 @@ public class SpongeStreamOptionsBuilder implements StreamOptions.Builder {
 
     boolean copies = false;
     StreamOptions.LoadingStyle loadingStyle = StreamOptions.LoadingStyle.LAZILY_UNGENERATED;
+    boolean parallel = false;
 
     @Override
     public StreamOptions.Builder setCarbonCopy(final boolean copies) {
@@ -45,9 +46,27 @@ public StreamOptions.Builder setLoadingStyle(final StreamOptions.LoadingStyle st
         return this;
     }
 
+    /**
+     * Sets whether block streams should run in parallel. A parallel stream
+     * snapshots the chunk sections it covers when it is created and reads
+     * from those snapshots on a fork join pool, so visitors passed to
+     * {@code forEach} may be called concurrently. Elements collected by
+     * {@code apply} are queued and written back on the server thread over
+     * the following ticks, in batches bounded by the
+     * {@code volume-stream-writes-per-tick} setting.
+     *
+     * @param parallel Whether streams should run in parallel
+     * @return This builder, for chaining
+     */
+    public SpongeStreamOptionsBuilder setParallel(final boolean parallel) {
+        this.parallel = parallel;
+        return this;
+    }
+
     @Override
     public StreamOptions.Builder reset() {
         this.copies = false;
+        this.parallel = false;
         this.loadingStyle = StreamOptions.LoadingStyle.LAZILY_UNGENERATED;
         return this;
     }
@@ -46,6 +46,7 @@
 import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
 
@@ -55,7 +56,8 @@
 public abstract class GameProfileCacheMixin_API implements GameProfileCache {
 
     // @formatter:off
-    @Shadow @Final @Mutable private final Map<String, GameProfileCache_GameProfileInfoAccessor> profilesByName = new ConcurrentHashMap<>();
+    // Sorted, so the lowercase names can be searched by prefix
+    @Shadow @Final @Mutable private final Map<String, GameProfileCache_GameProfileInfoAccessor> profilesByName = new ConcurrentSkipListMap<>();
     @Shadow @Final @Mutable private final Map<UUID, GameProfileCache_GameProfileInfoAccessor> profilesByUUID = new ConcurrentHashMap<>();
 
     @Nullable @Shadow public abstract com.mojang.authlib.GameProfile shadow$get(UUID uniqueId);
@@ -172,9 +174,9 @@ public Collection<GameProfile> all() {
     @Override
     public Stream<GameProfile> streamOfMatches(final String name) {
         final String search = Objects.requireNonNull(name, "name").toLowerCase(Locale.ROOT);
-        return this.profilesByName.values().stream()
-                .filter(profile -> profile.invoker$getProfile().getName() != null)
-                .filter(profile -> profile.invoker$getProfile().getName().toLowerCase(Locale.ROOT).startsWith(search))
+        // All names starting with the search sort between it and the search followed by the highest char
+        return ((ConcurrentSkipListMap<String, GameProfileCache_GameProfileInfoAccessor>) this.profilesByName)
+                .subMap(search, true, search + Character.MAX_VALUE, true).values().stream()
                 .map(this::api$updateLastAccess);
     }
 
@@ -69,11 +69,13 @@
 import org.spongepowered.common.util.SpongeTicks;
 import org.spongepowered.common.util.VecHelper;
 import org.spongepowered.common.world.storage.SpongeChunkLayout;
+import org.spongepowered.common.world.volume.SpongeVolumeStream;
 import org.spongepowered.common.world.volume.VolumeStreamUtils;
 import org.spongepowered.common.world.volume.buffer.biome.ObjectArrayMutableBiomeBuffer;
 import org.spongepowered.common.world.volume.buffer.block.ArrayMutableBlockBuffer;
 import org.spongepowered.common.world.volume.buffer.blockentity.ObjectArrayMutableBlockEntityBuffer;
 import org.spongepowered.common.world.volume.buffer.entity.ObjectArrayMutableEntityBuffer;
+import org.spongepowered.common.world.volume.stream.SpongeStreamOptions;
 import org.spongepowered.math.vector.Vector3d;
 import org.spongepowered.math.vector.Vector3i;
 
@@ -203,6 +205,12 @@ public VolumeStream<WorldChunk, BlockState> blockStateStream(
         VolumeStreamUtils.validateStreamArgs(Objects.requireNonNull(min, "min"), Objects.requireNonNull(max, "max"),
             Objects.requireNonNull(options, "options"));
 
+        if (SpongeStreamOptions.isParallel(options)) {
+            return VolumeStreamUtils.generateParallelBlockStream(min, max, (WorldChunk) this, (chunk, pos) -> {
+                final LevelChunk levelChunk = (LevelChunk) (Object) chunk;
+                return levelChunk.getPos().equals(pos) ? levelChunk : null;
+            });
+        }
         final boolean shouldCarbonCopy = options.carbonCopy();
         final Vector3i size = max.sub(min).add(1, 1 ,1);
         final @MonotonicNonNull ArrayMutableBlockBuffer backingVolume;
@@ -212,7 +220,7 @@ public VolumeStream<WorldChunk, BlockState> blockStateStream(
             backingVolume = null;
         }
 
-        return VolumeStreamUtils.<WorldChunk, BlockState, net.minecraft.world.level.block.state.BlockState, ChunkAccess, BlockPos>generateStream(
+        final SpongeVolumeStream<WorldChunk, BlockState> stream = VolumeStreamUtils.<WorldChunk, BlockState, net.minecraft.world.level.block.state.BlockState, ChunkAccess, BlockPos>generateStream(
             options,
             // Ref
             (WorldChunk) this,
@@ -235,6 +243,13 @@ public VolumeStream<WorldChunk, BlockState> blockStateStream(
                 return new Tuple<>(blockPos, tileEntity);
             }
         );
+        if (shouldCarbonCopy) {
+            return stream;
+        }
+        return stream.withCursor(VolumeStreamUtils.getBlockStateCursor(min, max, stream::volume, (chunk, pos) -> {
+            final LevelChunk levelChunk = (LevelChunk) (Object) chunk;
+            return levelChunk.getPos().equals(pos) ? levelChunk : null;
+        }));
     }
 
     @Override
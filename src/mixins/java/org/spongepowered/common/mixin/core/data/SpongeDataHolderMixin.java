@@ -27,10 +27,12 @@
 import com.google.common.collect.HashMultimap;
 import com.google.common.collect.ImmutableMultimap;
 import com.google.common.collect.Multimap;
+import net.minecraft.nbt.CompoundTag;
 import net.minecraft.world.entity.Entity;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.level.block.entity.BlockEntity;
 import net.minecraft.world.level.saveddata.maps.MapItemSavedData;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.api.data.DataHolder;
 import org.spongepowered.api.data.DataManipulator;
 import org.spongepowered.api.data.DataProvider;
@@ -43,10 +45,13 @@
 import org.spongepowered.common.data.DataUtil;
 import org.spongepowered.common.data.SpongeDataManager;
 import org.spongepowered.common.data.holder.SimpleNBTDataHolder;
+import org.spongepowered.common.data.manipulator.MutableDataManipulatorFactory;
 import org.spongepowered.common.entity.SpongeEntityArchetype;
 import org.spongepowered.common.entity.SpongeEntitySnapshot;
 import org.spongepowered.common.entity.player.SpongeUserData;
 
+import java.util.OptionalInt;
+
 @Mixin({BlockEntity.class, Entity.class, SpongeUserData.class, ItemStack.class,
         SpongeEntityArchetype.class,
         SpongeEntitySnapshot.class,
@@ -57,6 +62,9 @@ public abstract class SpongeDataHolderMixin implements SpongeDataHolderBridge {
 
     private DataManipulator.Mutable impl$manipulator;
     private Multimap<DataQuery, DataView> impl$failedData;
+    private @Nullable CompoundTag impl$serializedCompound;
+    private DataManipulator.@Nullable Mutable impl$serializedManipulator;
+    private int impl$serializedModifications;
 
     @Override
     public DataManipulator.Mutable bridge$getManipulator() {
@@ -89,6 +97,7 @@ public abstract class SpongeDataHolderMixin implements SpongeDataHolderBridge {
     public void bridge$clear() {
         this.impl$manipulator = null;
         this.impl$failedData = HashMultimap.create();
+        this.impl$serializedCompound = null;
     }
 
     @Override
@@ -102,6 +111,7 @@ public abstract class SpongeDataHolderMixin implements SpongeDataHolderBridge {
     @Override
     public void bridge$invalidateFailedData() {
         this.impl$failedData = null;
+        this.impl$serializedCompound = null;
     }
 
     @Override
@@ -110,5 +120,25 @@ public abstract class SpongeDataHolderMixin implements SpongeDataHolderBridge {
             this.impl$failedData  = HashMultimap.create();
         }
         this.impl$failedData.put(nameSpace, keyedData);
+        this.impl$serializedCompound = null;
+    }
+
+    @Override
+    public boolean bridge$isSerializedDataCurrent(final CompoundTag compound) {
+        if (this.impl$serializedCompound != compound || this.impl$manipulator != this.impl$serializedManipulator
+            || this.impl$manipulator == null) {
+            return false;
+        }
+        final OptionalInt modifications = MutableDataManipulatorFactory.modifications(this.impl$manipulator);
+        return modifications.isPresent() && modifications.getAsInt() == this.impl$serializedModifications;
+    }
+
+    @Override
+    public void bridge$markDataSerialized(final @Nullable CompoundTag compound) {
+        this.impl$serializedCompound = compound;
+        this.impl$serializedManipulator = this.impl$manipulator;
+        this.impl$serializedModifications = this.impl$manipulator == null
+            ? 0
+            : MutableDataManipulatorFactory.modifications(this.impl$manipulator).orElse(0);
     }
 }
@@ -189,6 +189,9 @@ public Subject subject() {
                 MinecraftServerMixin.LOGGER.error("Failed to unlock level {}", levelSave.getLevelId(), e);
             }
         }
+
+        this.userManager().close();
+        this.getUsernameCache().close();
     }
 
     /**
@@ -299,6 +302,7 @@ public boolean saveAllChunks(final boolean suppressLog, final boolean flush, fin
             ((GameProfileCacheBridge) this.profileCache).bridge$setCanSave(true);
             this.profileCache.save();
             ((GameProfileCacheBridge) this.profileCache).bridge$setCanSave(false);
+            this.getUsernameCache().save();
         }
         return true;
     }
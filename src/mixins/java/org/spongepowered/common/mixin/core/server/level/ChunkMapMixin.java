@@ -52,6 +52,7 @@
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.Redirect;
 import org.spongepowered.asm.mixin.injection.Slice;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
 import org.spongepowered.common.SpongeCommon;
 import org.spongepowered.common.accessor.server.level.ServerChunkCacheAccessor;
@@ -68,6 +69,7 @@
 
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.BooleanSupplier;
 import java.util.function.Function;
 
 @Mixin(ChunkMap.class)
@@ -77,12 +79,42 @@ public abstract class ChunkMapMixin implements ChunkMapBridge {
     @Shadow @Final private ServerLevel level;
     // @formatter:on
 
+    private int impl$writePauses;
+
     public DistanceManagerBridge bridge$distanceManager() {
         // The ticket manager on this object is a package-private class and isn't accessible from here
         // - @Shadow doesn't work because it seems to need the exact type.
         return (DistanceManagerBridge) ((ServerChunkCacheAccessor) this.level.getChunkSource()).accessor$distanceManager();
     }
 
+    @Override
+    public void bridge$pauseWrites() {
+        this.impl$writePauses++;
+    }
+
+    @Override
+    public void bridge$resumeWrites() {
+        if (this.impl$writePauses > 0) {
+            this.impl$writePauses--;
+        }
+    }
+
+    @Inject(method = "processUnloads", at = @At("HEAD"), cancellable = true)
+    private void impl$keepChunksWhileWritesArePaused(final BooleanSupplier hasMoreTime, final CallbackInfo ci) {
+        // Unloading saves the chunk, it stays loaded until writes resume instead
+        if (this.impl$writePauses > 0) {
+            ci.cancel();
+        }
+    }
+
+    @Redirect(method = "tick(Ljava/util/function/BooleanSupplier;)V",
+            at = @At(value = "INVOKE", target = "Lnet/minecraft/world/entity/ai/village/poi/PoiManager;tick(Ljava/util/function/BooleanSupplier;)V"))
+    private void impl$keepPointsOfInterestWhileWritesArePaused(final PoiManager poiManager, final BooleanSupplier hasMoreTime) {
+        if (this.impl$writePauses == 0) {
+            poiManager.tick(hasMoreTime);
+        }
+    }
+
     @Redirect(method = "save",
             at = @At(value = "INVOKE", target = "Lnet/minecraft/world/entity/ai/village/poi/PoiManager;flush(Lnet/minecraft/world/level/ChunkPos;)V"))
     private void impl$useSerializationBehaviorForPOI(final PoiManager pointOfInterestManager, final ChunkPos p_219112_1_) {
@@ -55,6 +55,7 @@
 import org.spongepowered.common.bridge.world.level.chunk.LevelChunkBridge;
 import org.spongepowered.common.bridge.world.level.storage.PrimaryLevelDataBridge;
 import org.spongepowered.common.entity.PlayerTracker;
+import org.spongepowered.common.entity.PlayerTrackerTable;
 import org.spongepowered.common.event.tracking.PhaseTracker;
 import org.spongepowered.common.util.Constants;
 import org.spongepowered.common.util.DirectionUtil;
@@ -62,15 +63,12 @@
 import javax.annotation.Nullable;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
-import java.util.function.BiConsumer;
 import java.util.function.Consumer;
-import java.util.function.Function;
 
 @Mixin(net.minecraft.world.level.chunk.LevelChunk.class)
 public abstract class LevelChunkMixin implements LevelChunkBridge, CacheKeyBridge {
@@ -93,8 +91,7 @@ public abstract class LevelChunkMixin implements LevelChunkBridge, CacheKeyBridg
     private boolean impl$isSpawning = false;
     private final net.minecraft.world.level.chunk.LevelChunk[] impl$neighbors = new net.minecraft.world.level.chunk.LevelChunk[4];
     private long impl$cacheKey;
-    private Map<Integer, PlayerTracker> impl$trackedIntBlockPositions = new HashMap<>();
-    private Map<Short, PlayerTracker> impl$trackedShortBlockPositions = new HashMap<>();
+    private PlayerTrackerTable impl$trackedBlockPositions = new PlayerTrackerTable();
 
     @Inject(method = "<init>(Lnet/minecraft/world/level/Level;Lnet/minecraft/world/level/ChunkPos;Lnet/minecraft/world/level/chunk/ChunkBiomeContainer;Lnet/minecraft/world/level/chunk/UpgradeData;Lnet/minecraft/world/level/TickList;Lnet/minecraft/world/level/TickList;J[Lnet/minecraft/world/level/chunk/LevelChunkSection;Ljava/util/function/Consumer;)V",
             at = @At("RETURN"))
@@ -138,23 +135,13 @@ public abstract class LevelChunkMixin implements LevelChunkBridge, CacheKeyBridg
     // These methods are enabled in ChunkMixin_CreatorTracked as a Mixin plugin
 
     @Override
-    public Map<Integer, PlayerTracker> bridge$getTrackedIntPlayerPositions() {
-        return this.impl$trackedIntBlockPositions;
+    public PlayerTrackerTable bridge$getTrackedPlayerPositions() {
+        return this.impl$trackedBlockPositions;
     }
 
     @Override
-    public Map<Short, PlayerTracker> bridge$getTrackedShortPlayerPositions() {
-        return this.impl$trackedShortBlockPositions;
-    }
-
-    @Override
-    public void bridge$setTrackedIntPlayerPositions(final Map<Integer, PlayerTracker> trackedPositions) {
-        this.impl$trackedIntBlockPositions = trackedPositions;
-    }
-
-    @Override
-    public void bridge$setTrackedShortPlayerPositions(final Map<Short, PlayerTracker> trackedPositions) {
-        this.impl$trackedShortBlockPositions = trackedPositions;
+    public void bridge$setTrackedPlayerPositions(final PlayerTrackerTable trackedPositions) {
+        this.impl$trackedBlockPositions = trackedPositions;
     }
 
     @Override
@@ -188,78 +175,63 @@ public abstract class LevelChunkMixin implements LevelChunkBridge, CacheKeyBridg
             }
         }
 
+        final int key = PlayerTrackerTable.key(pos);
+        final int index = this.impl$getIndexForUniqueId(uuid);
         if (trackerType == PlayerTracker.Type.CREATOR) {
-            this.impl$setTrackedUUID(pos, uuid, trackerType, (pt, idx) -> {
-                pt.creatorindex = idx;
-                pt.notifierIndex = idx;
-            });
+            if (this.impl$trackedBlockPositions.contains(key)) {
+                this.impl$trackedBlockPositions.set(key, index, index);
+            } else {
+                this.impl$trackedBlockPositions.set(key, index, -1);
+            }
         } else {
-            this.impl$setTrackedUUID(pos, uuid, trackerType, (pt, idx) -> pt.notifierIndex = idx);
+            this.impl$trackedBlockPositions.setNotifierIndex(key, index);
         }
     }
 
-    public Optional<UUID> bridge$trackedUUID(final BlockPos pos, final Function<PlayerTracker, Integer> func) {
+    public Optional<UUID> bridge$trackedUUID(final BlockPos pos, final PlayerTracker.Type type) {
         if (((LevelBridge) this.level).bridge$isFake()) {
             return Optional.empty();
         }
 
-        final int key = Constants.Sponge.blockPosToInt(pos);
-        final PlayerTracker intTracker = this.impl$trackedIntBlockPositions.get(key);
-        if (intTracker != null) {
-            final int ownerIndex = func.apply(intTracker);
-            return this.impl$getValidatedUUID(key, ownerIndex);
-        }
-        final short shortKey = Constants.Sponge.blockPosToShort(pos);
-        final PlayerTracker shortTracker = this.impl$trackedShortBlockPositions.get(shortKey);
-        if (shortTracker != null) {
-            final int ownerIndex = func.apply(shortTracker);
-            return this.impl$getValidatedUUID(shortKey, ownerIndex);
+        final int key = PlayerTrackerTable.key(pos);
+        if (!this.impl$trackedBlockPositions.contains(key)) {
+            return Optional.empty();
         }
-        return Optional.empty();
+        final int ownerIndex = type == PlayerTracker.Type.CREATOR
+                ? this.impl$trackedBlockPositions.creatorIndex(key)
+                : this.impl$trackedBlockPositions.notifierIndex(key);
+        return this.impl$getValidatedUUID(key, ownerIndex);
     }
 
     @Override
     public Optional<UUID> bridge$getBlockCreatorUUID(final BlockPos pos) {
-       return this.bridge$trackedUUID(pos, pt -> pt.creatorindex);
+       return this.bridge$trackedUUID(pos, PlayerTracker.Type.CREATOR);
     }
 
     @Override
     public Optional<UUID> bridge$getBlockNotifierUUID(final BlockPos pos) {
-        return this.bridge$trackedUUID(pos, pt -> pt.notifierIndex);
-    }
-
-    private <T> void impl$computePlayerTracker(final Map<T, PlayerTracker> map, final T blockPos, final int index, final PlayerTracker.Type type, final BiConsumer<PlayerTracker, Integer> consumer) {
-        final PlayerTracker tracker = map.get(blockPos);
-        if (tracker != null) {
-            consumer.accept(tracker, index);
-        } else {
-            map.put(blockPos, new PlayerTracker(index, type));
-        }
+        return this.bridge$trackedUUID(pos, PlayerTracker.Type.NOTIFIER);
     }
 
-    private void impl$setTrackedUUID(final BlockPos pos, final UUID uuid, final PlayerTracker.Type type, final BiConsumer<PlayerTracker, Integer> consumer) {
-        if (((LevelBridge) this.level).bridge$isFake()) {
-            return;
-        }
+    private int impl$getIndexForUniqueId(final @Nullable UUID uuid) {
         final PrimaryLevelDataBridge worldInfo = (PrimaryLevelDataBridge) this.level.getLevelData();
-        final int index = uuid == null ? -1 : worldInfo.bridge$getIndexForUniqueId(uuid);
-        if (pos.getY() <= 255) {
-            final short blockPos = Constants.Sponge.blockPosToShort(pos);
-            this.impl$computePlayerTracker(this.impl$trackedShortBlockPositions, blockPos, index, type, consumer);
-            return;
-        }
-        final int blockPos = Constants.Sponge.blockPosToInt(pos);
-        this.impl$computePlayerTracker(this.impl$trackedIntBlockPositions, blockPos, index, type, consumer);
+        return uuid == null ? -1 : worldInfo.bridge$getIndexForUniqueId(uuid);
     }
 
     @Override
     public void bridge$setBlockNotifier(final BlockPos pos, @Nullable final UUID uuid) {
-       this.impl$setTrackedUUID(pos, uuid, PlayerTracker.Type.NOTIFIER, (pt, idx) -> pt.notifierIndex = idx);
+        if (((LevelBridge) this.level).bridge$isFake()) {
+            return;
+        }
+        this.impl$trackedBlockPositions.setNotifierIndex(PlayerTrackerTable.key(pos), this.impl$getIndexForUniqueId(uuid));
     }
 
     @Override
     public void bridge$setBlockCreator(final BlockPos pos, @Nullable final UUID uuid) {
-        this.impl$setTrackedUUID(pos, uuid, PlayerTracker.Type.CREATOR, (pt, idx) -> pt.creatorindex = idx);
+        if (((LevelBridge) this.level).bridge$isFake()) {
+            return;
+        }
+        this.impl$trackedBlockPositions.setCreatorIndex(PlayerTrackerTable.key(pos), this.impl$getIndexForUniqueId(uuid));
     }
 
     private Optional<UUID> impl$getValidatedUUID(final int key, final int ownerIndex) {
@@ -268,10 +240,7 @@ public abstract class LevelChunkMixin implements LevelChunkBridge, CacheKeyBridg
         if (uuid != null) {
             // Verify id is valid and not invalid
             if (SpongeConfigs.getCommon().get().world.invalidLookupUuids.contains(uuid)) {
-                if (key <= Short.MAX_VALUE) {
-                    this.impl$trackedShortBlockPositions.remove((short) key);
-                }
-                this.impl$trackedIntBlockPositions.remove(key);
+                this.impl$trackedBlockPositions.remove(key);
                 return Optional.empty();
             }
 
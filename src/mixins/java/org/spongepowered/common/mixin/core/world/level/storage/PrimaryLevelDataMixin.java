@@ -38,8 +38,6 @@
 import net.minecraft.core.Registry;
 import net.minecraft.core.SerializableUUID;
 import net.minecraft.nbt.CompoundTag;
-import net.minecraft.nbt.IntArrayTag;
-import net.minecraft.nbt.ListTag;
 import net.minecraft.nbt.Tag;
 import net.minecraft.network.protocol.game.ClientboundChangeDifficultyPacket;
 import net.minecraft.network.protocol.game.ClientboundSetChunkCacheRadiusPacket;
@@ -75,6 +73,7 @@
 import org.spongepowered.common.config.inheritable.InheritableConfigHandle;
 import org.spongepowered.common.config.inheritable.WorldConfig;
 import org.spongepowered.common.data.fixer.LegacyUUIDCodec;
+import org.spongepowered.common.entity.PlayerUniqueIdIndex;
 import org.spongepowered.common.server.BootstrapProperties;
 import org.spongepowered.common.util.Constants;
 import org.spongepowered.common.util.MapUtil;
@@ -82,12 +81,12 @@
 import org.spongepowered.common.world.server.SpongeWorldManager;
 import org.spongepowered.math.vector.Vector3i;
 
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.StringJoiner;
 import java.util.UUID;
+import java.util.stream.LongStream;
 
 @Mixin(PrimaryLevelData.class)
 public abstract class PrimaryLevelDataMixin implements WorldData, PrimaryLevelDataBridge, ResourceKeyBridge {
@@ -113,9 +112,7 @@ public abstract class PrimaryLevelDataMixin implements WorldData, PrimaryLevelDa
     private Boolean impl$pvp;
     private InheritableConfigHandle<WorldConfig> impl$configAdapter;
 
-    private final BiMap<Integer, UUID> impl$playerUniqueIdMap = HashBiMap.create();
-    private final List<UUID> impl$pendingUniqueIds = new ArrayList<>();
-    private int impl$trackedUniqueIdCount = 0;
+    private final PlayerUniqueIdIndex impl$playerUniqueIdIndex = new PlayerUniqueIdIndex();
 
     private boolean impl$customDifficulty = false, impl$customGameType = false, impl$customSpawnPosition = false, impl$loadOnStartup,
         impl$performsSpawnLogic;
@@ -314,20 +311,13 @@ public abstract class PrimaryLevelDataMixin implements WorldData, PrimaryLevelDa
     }
 
     @Override
-    public int bridge$getIndexForUniqueId(UUID uuid) {
-        final Integer index = this.impl$playerUniqueIdMap.inverse().get(uuid);
-        if (index != null) {
-            return index;
-        }
-
-        this.impl$playerUniqueIdMap.put(this.impl$trackedUniqueIdCount, uuid);
-        this.impl$pendingUniqueIds.add(uuid);
-        return this.impl$trackedUniqueIdCount++;
+    public int bridge$getIndexForUniqueId(final UUID uuid) {
+        return this.impl$playerUniqueIdIndex.getOrAssign(uuid);
     }
 
     @Override
     public Optional<UUID> bridge$getUniqueIdForIndex(final int index) {
-        return Optional.ofNullable(this.impl$playerUniqueIdMap.get(index));
+        return Optional.ofNullable(this.impl$playerUniqueIdIndex.get(index));
     }
 
     @Override
@@ -394,15 +384,15 @@ public ServerLevelData overworldData() {
         }
         this.bridge$setMapUUIDIndex(mapIndex);
 
+        final Optional<LongStream> playerIndex = dynamic.get(Constants.Sponge.SPONGE_PLAYER_UUID_INDEX).asLongStreamOpt().result();
+        if (playerIndex.isPresent()) {
+            this.impl$playerUniqueIdIndex.addAll(playerIndex.get().toArray());
+            return;
+        }
         // TODO Move this to Schema
         dynamic.get(Constants.Sponge.LEGACY_SPONGE_PLAYER_UUID_TABLE).readList(LegacyUUIDCodec.CODEC).result().orElseGet(() ->
             dynamic.get(Constants.Sponge.SPONGE_PLAYER_UUID_TABLE).readList(SerializableUUID.CODEC).result().orElse(Collections.emptyList())
-        ).forEach(uuid -> {
-            final Integer playerIndex = this.impl$playerUniqueIdMap.inverse().get(uuid);
-            if (playerIndex == null) {
-                this.impl$playerUniqueIdMap.put(this.impl$trackedUniqueIdCount++, uuid);
-            }
-        });
+        ).forEach(this.impl$playerUniqueIdIndex::getOrAssign);
     }
 
     @Override
@@ -415,10 +405,8 @@ public ServerLevelData overworldData() {
         MapUtil.saveMapUUIDIndex(mapUUIDIndexTag, this.bridge$getMapUUIDIndex());
         data.put(Constants.Map.MAP_UUID_INDEX, mapUUIDIndexTag);
 
-        final ListTag playerIdList = new ListTag();
-        data.put(Constants.Sponge.SPONGE_PLAYER_UUID_TABLE, playerIdList);
-        this.impl$pendingUniqueIds.forEach(uuid -> playerIdList.add(new IntArrayTag(SerializableUUID.uuidToIntArray(uuid))));
-        this.impl$pendingUniqueIds.clear();
+        // The index is append-only, so the copy is written as is without re-encoding every unique id
+        data.putLongArray(Constants.Sponge.SPONGE_PLAYER_UUID_INDEX, this.impl$playerUniqueIdIndex.toLongArray());
 
         return data;
     }
@@ -50,6 +50,7 @@
 import net.minecraft.world.level.material.FluidState;
 import net.minecraft.world.phys.Vec3;
 import org.apache.logging.log4j.Level;
+import org.checkerframework.checker.nullness.qual.MonotonicNonNull;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.api.Sponge;
@@ -85,6 +86,7 @@
 import org.spongepowered.common.entity.PlayerTracker;
 import org.spongepowered.common.event.ShouldFire;
 import org.spongepowered.common.event.SpongeCommonEventFactory;
+import org.spongepowered.common.event.entity.MovementBatch;
 import org.spongepowered.common.event.tracking.BlockChangeFlagManager;
 import org.spongepowered.common.event.tracking.IPhaseState;
 import org.spongepowered.common.event.tracking.PhaseContext;
@@ -126,11 +128,14 @@
 import org.spongepowered.common.world.server.SpongeLocatableBlockBuilder;
 import org.spongepowered.common.world.volume.VolumeStreamUtils;
 
+import java.lang.ref.WeakReference;
 import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Random;
 import java.util.UUID;
+import java.util.function.BooleanSupplier;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -142,6 +147,10 @@ public abstract class ServerLevelMixin_Tracker extends LevelMixin_Tracker implem
     @Shadow @Final private List<ServerPlayer> players;
     // @formatting:on
 
+    private final MovementBatch tracker$movementBatch = new MovementBatch();
+    private @MonotonicNonNull WeakReference<ServerLevel> tracker$weakReference;
+    private @MonotonicNonNull Supplier<ServerLevel> tracker$weakSupplier;
+
 
     @Inject(method = "add", at = @At("TAIL"))
     private void tracker$setEntityTrackedInWorld(final net.minecraft.world.entity.Entity entityIn, final CallbackInfo ci) {
@@ -180,6 +189,33 @@ public abstract class ServerLevelMixin_Tracker extends LevelMixin_Tracker implem
         entityTickTiming.stopTiming();
     }
 
+    @Inject(method = "tick", at = @At(value = "INVOKE", target = "Lnet/minecraft/server/level/ServerLevel;tickBlockEntities()V"))
+    private void tracker$postMovementBatch(final BooleanSupplier hasTimeLeft, final CallbackInfo ci) {
+        this.tracker$movementBatch.post((ServerLevel) (Object) this);
+    }
+
+    @Override
+    public MovementBatch tracker$movementBatch() {
+        return this.tracker$movementBatch;
+    }
+
+    @Override
+    public WeakReference<ServerLevel> bridge$weakReference() {
+        if (this.tracker$weakReference == null) {
+            this.tracker$weakReference = new WeakReference<>((ServerLevel) (Object) this);
+        }
+        return this.tracker$weakReference;
+    }
+
+    @Override
+    public Supplier<ServerLevel> bridge$weakSupplier() {
+        if (this.tracker$weakSupplier == null) {
+            final WeakReference<ServerLevel> ref = this.bridge$weakReference();
+            this.tracker$weakSupplier = () -> Objects.requireNonNull(ref.get(), "ServerWorld dereferenced");
+        }
+        return this.tracker$weakSupplier;
+    }
+
     @Override
     protected void tracker$wrapBlockEntityTick(final TickableBlockEntity blockEntity) {
         TrackingUtil.tickTileEntity(this, blockEntity);
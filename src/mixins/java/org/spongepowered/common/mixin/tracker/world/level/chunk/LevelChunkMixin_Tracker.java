@@ -49,6 +49,7 @@
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
 import org.spongepowered.common.block.SpongeBlockSnapshot;
 import org.spongepowered.common.bridge.CreatorTrackedBridge;
+import org.spongepowered.common.bridge.world.TrackedWorldBridge;
 import org.spongepowered.common.bridge.world.level.LevelBridge;
 import org.spongepowered.common.bridge.world.level.block.state.BlockStateBridge;
 import org.spongepowered.common.bridge.world.level.chunk.ActiveChunkReferantBridge;
@@ -69,9 +70,7 @@
 import org.spongepowered.common.world.BlockChange;
 import org.spongepowered.common.world.SpongeBlockChangeFlag;
 
-import java.lang.ref.WeakReference;
 import java.util.List;
-import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -143,10 +142,25 @@ public abstract class LevelChunkMixin_Tracker implements TrackedLevelChunkBridge
         // Sponge Start - Build out the BlockTransaction
         final PhaseContext<@NonNull ?> context = PhaseTracker.getInstance().getPhaseContext();
         final @Nullable BlockEntity existing = this.shadow$getBlockEntity(pos, LevelChunk.EntityCreationType.CHECK);
+        // Plain changes skip the snapshot and transaction while nothing needs them
+        if (existing == null
+            && !((BlockStateBridge) currentState).bridge$hasTileEntity()
+            && !((BlockStateBridge) newState).bridge$hasTileEntity()
+            && context.allowsCompactBlockCapture()
+            && context.getTransactor().logCompactBlockChange(((TrackedWorldBridge) this.level).bridge$weakSupplier(), pos,
+                currentState, newState, flag, limit, context.associateBlockChangeWithSnapshot(newState, currentState))
+        ) {
+            final ChunkPipeline.Builder builder = ChunkPipeline.builder()
+                .kickOff(flag)
+                .chunk((LevelChunk) (Object) this)
+                .chunkSection(chunksection)
+                .world((ServerLevel) this.level);
+            ChangeBlock.addChunkEffects(builder);
+            return builder.build();
+        }
         // Build a transaction maybe?
-        final WeakReference<ServerLevel> ref = new WeakReference<>((ServerLevel) this.level);
         final SpongeBlockSnapshot snapshot = TrackingUtil.createPooledSnapshot(currentState, pos, flag, limit, existing,
-            () -> Objects.requireNonNull(ref.get(), "ServerWorld dereferenced"),
+            ((TrackedWorldBridge) this.level).bridge$weakSupplier(),
             Optional::empty, Optional::empty
         );
 
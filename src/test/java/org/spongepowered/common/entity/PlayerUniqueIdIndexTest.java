@@ -0,0 +1,77 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.entity;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+public class PlayerUniqueIdIndexTest {
+
+    @Test
+    public void testIndicesAreAssignedInOrder() {
+        final PlayerUniqueIdIndex index = new PlayerUniqueIdIndex();
+        final UUID first = UUID.randomUUID();
+        final UUID second = UUID.randomUUID();
+        assertEquals(-1, index.indexOf(first));
+        assertEquals(0, index.getOrAssign(first));
+        assertEquals(1, index.getOrAssign(second));
+        assertEquals(0, index.getOrAssign(first));
+        assertEquals(first, index.get(0));
+        assertEquals(second, index.get(1));
+        assertNull(index.get(2));
+        assertNull(index.get(-1));
+    }
+
+    @Test
+    public void testLookupsSurviveGrowth() {
+        final PlayerUniqueIdIndex index = new PlayerUniqueIdIndex();
+        final UUID[] uniqueIds = new UUID[1000];
+        for (int i = 0; i < uniqueIds.length; i++) {
+            uniqueIds[i] = UUID.randomUUID();
+            assertEquals(i, index.getOrAssign(uniqueIds[i]));
+        }
+        for (int i = 0; i < uniqueIds.length; i++) {
+            assertEquals(i, index.indexOf(uniqueIds[i]));
+            assertEquals(uniqueIds[i], index.get(i));
+        }
+    }
+
+    @Test
+    public void testLongArrayRoundTrip() {
+        final PlayerUniqueIdIndex index = new PlayerUniqueIdIndex();
+        for (int i = 0; i < 40; i++) {
+            index.getOrAssign(UUID.randomUUID());
+        }
+        final PlayerUniqueIdIndex copy = new PlayerUniqueIdIndex();
+        copy.addAll(index.toLongArray());
+        assertEquals(index.size(), copy.size());
+        assertArrayEquals(index.toLongArray(), copy.toLongArray());
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event.tracking.context.transaction.block;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+import org.spongepowered.common.world.BlockChange;
+
+class CompactBlockChangeLogTest {
+
+    private static void appendChanges(final CompactBlockChangeLog log, final int count) {
+        for (int i = 0; i < count; i++) {
+            log.append((long) i << 20 | 7, i, i + 1, i & 3, 512 - i, BlockChange.values()[i % BlockChange.values().length]);
+        }
+    }
+
+    @Test
+    void keepsChangesInOrderWhileGrowing() {
+        final CompactBlockChangeLog log = new CompactBlockChangeLog();
+        final int count = CompactBlockChangeLog.INITIAL_CAPACITY * 3 + 5;
+        CompactBlockChangeLogTest.appendChanges(log, count);
+
+        assertEquals(count, log.size());
+        for (int i = 0; i < count; i++) {
+            assertEquals((long) i << 20 | 7, log.position(i));
+            assertEquals(i, log.originalState(i));
+            assertEquals(i + 1, log.newState(i));
+            assertEquals(i & 3, log.flag(i));
+            assertEquals(512 - i, log.limit(i));
+            assertEquals(BlockChange.values()[i % BlockChange.values().length], log.blockChange(i));
+        }
+    }
+
+    @Test
+    void rejectsIndicesPastTheLoggedChanges() {
+        final CompactBlockChangeLog log = new CompactBlockChangeLog();
+        CompactBlockChangeLogTest.appendChanges(log, 2);
+
+        assertThrows(IndexOutOfBoundsException.class, () -> log.position(2));
+        assertThrows(IndexOutOfBoundsException.class, () -> log.newState(-1));
+    }
+
+    @Test
+    void clearKeepsSmallColumns() {
+        final CompactBlockChangeLog log = new CompactBlockChangeLog();
+        CompactBlockChangeLogTest.appendChanges(log, CompactBlockChangeLog.INITIAL_CAPACITY + 1);
+        final int capacity = log.capacity();
+
+        log.clear();
+
+        assertTrue(log.isEmpty());
+        assertEquals(capacity, log.capacity());
+        assertThrows(IndexOutOfBoundsException.class, () -> log.position(0));
+    }
+
+    @Test
+    void clearReleasesLargeColumns() {
+        final CompactBlockChangeLog log = new CompactBlockChangeLog();
+        CompactBlockChangeLogTest.appendChanges(log, CompactBlockChangeLog.RETAINED_CAPACITY + 1);
+
+        log.clear();
+
+        assertTrue(log.isEmpty());
+        assertEquals(CompactBlockChangeLog.INITIAL_CAPACITY, log.capacity());
+        CompactBlockChangeLogTest.appendChanges(log, 1);
+        assertFalse(log.isEmpty());
+        assertEquals(0, log.originalState(0));
+        assertEquals(1, log.newState(0));
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.scheduler;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import org.junit.jupiter.api.Test;
+import org.spongepowered.plugin.PluginContainer;
+
+public class TaskQueueTest {
+
+    private static SpongeScheduledTask task(final long deadline) {
+        final SpongeTask task = new SpongeTask(mock(PluginContainer.class), t -> {}, 0L, 0L, false, false);
+        final SpongeScheduledTask scheduledTask = new SpongeScheduledTask(null, task, "test-" + deadline);
+        scheduledTask.setDeadline(deadline);
+        return scheduledTask;
+    }
+
+    @Test
+    public void testTasksAreNotPolledBeforeDrain() {
+        final TaskQueue queue = new TaskQueue();
+        queue.offer(TaskQueueTest.task(0L));
+        assertNull(queue.poll(10L));
+        queue.drain();
+        assertNotNull(queue.poll(10L));
+    }
+
+    @Test
+    public void testTasksArePolledInDeadlineOrder() {
+        final TaskQueue queue = new TaskQueue();
+        final SpongeScheduledTask late = TaskQueueTest.task(30L);
+        final SpongeScheduledTask early = TaskQueueTest.task(10L);
+        final SpongeScheduledTask middle = TaskQueueTest.task(20L);
+        queue.offer(late);
+        queue.offer(early);
+        queue.offer(middle);
+        queue.drain();
+
+        assertSame(early, queue.poll(25L));
+        assertSame(middle, queue.poll(25L));
+        assertNull(queue.poll(25L));
+        assertSame(late, queue.poll(30L));
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    public void testNextDeadline() {
+        final TaskQueue queue = new TaskQueue();
+        assertEquals(Long.MAX_VALUE, queue.nextDeadline());
+        queue.offer(TaskQueueTest.task(42L));
+        queue.offer(TaskQueueTest.task(84L));
+        queue.drain();
+        assertEquals(42L, queue.nextDeadline());
+    }
+}
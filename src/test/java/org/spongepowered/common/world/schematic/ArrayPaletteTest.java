@@ -0,0 +1,184 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.schematic;
+
+import com.google.inject.Guice;
+import com.google.inject.Inject;
+import com.google.inject.Injector;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.spongepowered.api.Game;
+import org.spongepowered.api.Sponge;
+import org.spongepowered.api.registry.Registry;
+import org.spongepowered.api.registry.RegistryHolder;
+import org.spongepowered.api.registry.RegistryType;
+import org.spongepowered.api.world.schematic.Palette;
+import org.spongepowered.api.world.schematic.PaletteReference;
+import org.spongepowered.api.world.schematic.PaletteType;
+import org.spongepowered.common.test.stub.StubGame;
+import org.spongepowered.common.test.stub.StubModule;
+
+import java.util.Optional;
+import java.util.OptionalInt;
+
+@SuppressWarnings("unchecked")
+final class ArrayPaletteTest {
+
+    private static final Injector guice = Guice.createInjector(new StubModule());
+
+    private static PaletteType<String, Object> paletteType;
+    private static Registry<Object> registry;
+
+    @SuppressWarnings("unused")
+    static class DummyInjectable {
+        @Inject Game game;
+    }
+
+    @BeforeAll
+    static void setup() {
+        ArrayPaletteTest.guice.injectMembers(new DummyInjectable());
+        final StubGame game = (StubGame) Sponge.game();
+        game.factoryProvider().registerFactory(PaletteReference.Factory.class, new SpongePaletteReferenceFactory());
+
+        ArrayPaletteTest.paletteType = new SpongePaletteType<>((value, r) -> Optional.of(value), (r, value) -> value);
+        final RegistryType<Object> registryType = Mockito.mock(RegistryType.class);
+        ArrayPaletteTest.registry = Mockito.mock(Registry.class);
+        Mockito.when(ArrayPaletteTest.registry.type()).thenReturn(registryType);
+    }
+
+    private static MutableArrayPalette<String, Object> palette(final String... values) {
+        final MutableArrayPalette<String, Object> palette = new MutableArrayPalette<>(ArrayPaletteTest.paletteType, ArrayPaletteTest.registry);
+        for (final String value : values) {
+            palette.orAssign(value);
+        }
+        return palette;
+    }
+
+    @Test
+    void testOrAssign() {
+        final MutableArrayPalette<String, Object> palette = ArrayPaletteTest.palette();
+        Assertions.assertEquals(0, palette.orAssign("a"));
+        Assertions.assertEquals(1, palette.orAssign("b"));
+        Assertions.assertEquals(0, palette.orAssign("a"));
+        Assertions.assertEquals(1, palette.highestId());
+        Assertions.assertEquals(OptionalInt.of(1), palette.get("b"));
+        Assertions.assertEquals(OptionalInt.empty(), palette.get("c"));
+    }
+
+    @Test
+    void testOrAssignGrowsPastExpectedSize() {
+        final MutableArrayPalette<String, Object> palette = new MutableArrayPalette<>(ArrayPaletteTest.paletteType, ArrayPaletteTest.registry, 1);
+        for (int i = 0; i < 100; i++) {
+            Assertions.assertEquals(i, palette.orAssign("value" + i));
+        }
+        Assertions.assertEquals(99, palette.highestId());
+        Assertions.assertEquals(Optional.of("value99"), palette.get(99, Mockito.mock(RegistryHolder.class)));
+    }
+
+    @Test
+    void testRemove() {
+        final MutableArrayPalette<String, Object> palette = ArrayPaletteTest.palette("a", "b", "c");
+        Assertions.assertTrue(palette.remove("b"));
+        Assertions.assertFalse(palette.remove("b"));
+        Assertions.assertFalse(palette.remove("missing"));
+        Assertions.assertEquals(OptionalInt.empty(), palette.get("b"));
+        Assertions.assertEquals(Optional.empty(), palette.get(1));
+        Assertions.assertEquals(Optional.empty(), palette.get(1, Mockito.mock(RegistryHolder.class)));
+        Assertions.assertEquals(2, palette.highestId());
+
+        Assertions.assertTrue(palette.remove("c"));
+        Assertions.assertEquals(0, palette.highestId());
+    }
+
+    @Test
+    void testRemovedIdIsReused() {
+        final MutableArrayPalette<String, Object> palette = ArrayPaletteTest.palette("a", "b", "c");
+        final PaletteReference<String, Object> removed = palette.get(1).get();
+        palette.remove("b");
+
+        Assertions.assertEquals(1, palette.orAssign("d"));
+        Assertions.assertEquals(3, palette.orAssign("e"));
+        Assertions.assertEquals("d", palette.get(1).get().value());
+        Assertions.assertNotEquals(removed, palette.get(1).get());
+    }
+
+    @Test
+    void testAssignMovesExistingValue() {
+        final MutableArrayPalette<String, Object> palette = ArrayPaletteTest.palette("a", "b");
+        Assertions.assertEquals(5, palette.assign("a", 5));
+        Assertions.assertEquals(OptionalInt.of(5), palette.get("a"));
+        Assertions.assertEquals(Optional.empty(), palette.get(0));
+        Assertions.assertEquals(5, palette.highestId());
+        Assertions.assertEquals(0, palette.orAssign("c"));
+    }
+
+    @Test
+    void testAsImmutable() {
+        final MutableArrayPalette<String, Object> palette = ArrayPaletteTest.palette("a", "b", "c");
+        palette.remove("b");
+        final Palette.Immutable<String, Object> immutable = palette.asImmutable();
+
+        palette.orAssign("d");
+        palette.remove("c");
+
+        Assertions.assertEquals(2, immutable.highestId());
+        Assertions.assertEquals(OptionalInt.of(0), immutable.get("a"));
+        Assertions.assertEquals(OptionalInt.of(2), immutable.get("c"));
+        Assertions.assertEquals(OptionalInt.empty(), immutable.get("d"));
+        Assertions.assertEquals(Optional.empty(), immutable.get(1));
+        Assertions.assertEquals("c", immutable.get(2).get().value());
+    }
+
+    @Test
+    void testImmutableGetDoesNotResolve() {
+        final Palette.Immutable<String, Object> immutable = ArrayPaletteTest.palette("a", "b").asImmutable();
+        final RegistryHolder holder = Mockito.mock(RegistryHolder.class);
+
+        Assertions.assertEquals(Optional.of("b"), immutable.get(1, holder));
+        Assertions.assertEquals(Optional.empty(), immutable.get(2, holder));
+        Assertions.assertEquals(Optional.empty(), immutable.get(-1, holder));
+        Mockito.verifyNoInteractions(holder);
+    }
+
+    @Test
+    void testAsMutable() {
+        final MutableArrayPalette<String, Object> palette = ArrayPaletteTest.palette("a", "b", "c");
+        palette.remove("b");
+        final Palette.Immutable<String, Object> immutable = palette.asImmutable();
+        final Palette.Mutable<String, Object> mutable = immutable.asMutable(Mockito.mock(RegistryHolder.class));
+
+        Assertions.assertEquals(palette, mutable);
+        Assertions.assertEquals(OptionalInt.of(2), mutable.get("c"));
+        Assertions.assertEquals(1, mutable.orAssign("d"));
+        Assertions.assertTrue(mutable.remove("a"));
+
+        Assertions.assertEquals(OptionalInt.of(0), immutable.get("a"));
+        Assertions.assertEquals(OptionalInt.empty(), immutable.get("d"));
+        Assertions.assertEquals(immutable, palette.asImmutable());
+    }
+
+}
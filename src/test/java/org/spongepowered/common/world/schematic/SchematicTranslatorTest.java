@@ -0,0 +1,94 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.schematic;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.spongepowered.api.data.persistence.InvalidDataException;
+
+final class SchematicTranslatorTest {
+
+    @Test
+    void testVarIntRoundTrip() {
+        final int[] ids = {0, 1, 127, 128, 255, 16383, 16384, 2097151, 2097152, Integer.MAX_VALUE};
+        final byte[] data = SchematicTranslator.writeVarInts(ids);
+        Assertions.assertEquals(1 + 1 + 1 + 2 + 2 + 2 + 3 + 3 + 4 + 5, data.length);
+
+        final int[] decoded = new int[ids.length];
+        Assertions.assertEquals(ids.length, SchematicTranslator.readVarInts(data, decoded, Integer.MAX_VALUE));
+        Assertions.assertArrayEquals(ids, decoded);
+    }
+
+    @Test
+    void testVarIntEncoding() {
+        Assertions.assertArrayEquals(new byte[] {0, 127, (byte) 0x80, 1, (byte) 0xAC, 2},
+            SchematicTranslator.writeVarInts(new int[] {0, 127, 128, 300}));
+    }
+
+    @Test
+    void testEmptyData() {
+        Assertions.assertEquals(0, SchematicTranslator.writeVarInts(new int[0]).length);
+        Assertions.assertEquals(0, SchematicTranslator.readVarInts(new byte[0], new int[4], 1));
+    }
+
+    @Test
+    void testFewerEntriesThanSize() {
+        final int[] decoded = new int[4];
+        Assertions.assertEquals(2, SchematicTranslator.readVarInts(new byte[] {1, 2}, decoded, 3));
+        Assertions.assertArrayEquals(new int[] {1, 2, 0, 0}, decoded);
+    }
+
+    @Test
+    void testTruncatedVarInt() {
+        final byte[] data = {1, (byte) 0x80};
+        Assertions.assertThrows(InvalidDataException.class, () -> SchematicTranslator.readVarInts(data, new int[2], 256));
+    }
+
+    @Test
+    void testVarIntTooBig() {
+        final byte[] data = {(byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 1};
+        Assertions.assertThrows(InvalidDataException.class, () -> SchematicTranslator.readVarInts(data, new int[1], Integer.MAX_VALUE));
+    }
+
+    @Test
+    void testIdOutsideOfPalette() {
+        final byte[] data = SchematicTranslator.writeVarInts(new int[] {0, 1, 2});
+        Assertions.assertThrows(InvalidDataException.class, () -> SchematicTranslator.readVarInts(data, new int[3], 2));
+        Assertions.assertEquals(3, SchematicTranslator.readVarInts(data, new int[3], 3));
+    }
+
+    @Test
+    void testNegativeId() {
+        final byte[] data = SchematicTranslator.writeVarInts(new int[] {-1});
+        Assertions.assertThrows(InvalidDataException.class, () -> SchematicTranslator.readVarInts(data, new int[1], Integer.MAX_VALUE));
+    }
+
+    @Test
+    void testTooManyEntries() {
+        final byte[] data = SchematicTranslator.writeVarInts(new int[] {0, 1, 0});
+        Assertions.assertThrows(InvalidDataException.class, () -> SchematicTranslator.readVarInts(data, new int[2], 2));
+    }
+
+}
@@ -0,0 +1,113 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.storage;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+final class RegionFileLinksTest {
+
+    private static final byte[] ORIGINAL = {1, 2, 3, 4, 5, 6, 7, 8};
+
+    @TempDir
+    Path directory;
+
+    private Path linkedCopy(final Path original) throws IOException {
+        Assumptions.assumeTrue(RegionFileLinks.isSupported(this.directory), "Hard links are not supported");
+        Files.write(original, RegionFileLinksTest.ORIGINAL);
+        final Path copy = this.directory.resolve("copy").resolve(original.getFileName());
+        Files.createDirectories(copy.getParent());
+        RegionFileLinks.link(original, copy);
+        return copy;
+    }
+
+    private static void writeInPlace(final Path file) throws IOException {
+        // Region files are written in place rather than replaced
+        try (final FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[] {9, 9}), 2);
+        }
+    }
+
+    @Test
+    void testLinkSharesFile() throws IOException {
+        final Path original = this.directory.resolve("r.0.0.mca");
+        final Path copy = this.linkedCopy(original);
+
+        Assertions.assertTrue(Files.isSameFile(original, copy));
+        Assertions.assertEquals(2, (int) Files.getAttribute(copy, "unix:nlink"));
+    }
+
+    @Test
+    void testWritingOpenedCopyLeavesOriginalUnchanged() throws IOException {
+        final Path original = this.directory.resolve("r.0.0.mca");
+        final Path copy = this.linkedCopy(original);
+
+        // What the region file storage does when the copy opens the file
+        RegionFileLinks.unlink(copy);
+        RegionFileLinksTest.writeInPlace(copy);
+
+        Assertions.assertArrayEquals(RegionFileLinksTest.ORIGINAL, Files.readAllBytes(original));
+        Assertions.assertArrayEquals(new byte[] {1, 2, 9, 9, 5, 6, 7, 8}, Files.readAllBytes(copy));
+    }
+
+    @Test
+    void testWritingOpenedOriginalLeavesCopyUnchanged() throws IOException {
+        final Path original = this.directory.resolve("r.0.0.mca");
+        final Path copy = this.linkedCopy(original);
+
+        RegionFileLinks.unlink(original);
+        RegionFileLinksTest.writeInPlace(original);
+
+        Assertions.assertArrayEquals(RegionFileLinksTest.ORIGINAL, Files.readAllBytes(copy));
+        Assertions.assertEquals(1, (int) Files.getAttribute(copy, "unix:nlink"));
+    }
+
+    @Test
+    void testUnlinkKeepsUnsharedFile() throws IOException {
+        Assumptions.assumeTrue(RegionFileLinks.isSupported(this.directory), "Hard links are not supported");
+        final Path file = this.directory.resolve("r.1.0.mca");
+        Files.write(file, RegionFileLinksTest.ORIGINAL);
+        final Object key = Files.readAttributes(file, "unix:ino").get("ino");
+
+        RegionFileLinks.unlink(file);
+
+        Assertions.assertEquals(key, Files.readAttributes(file, "unix:ino").get("ino"));
+        Assertions.assertArrayEquals(RegionFileLinksTest.ORIGINAL, Files.readAllBytes(file));
+    }
+
+    @Test
+    void testUnlinkIgnoresMissingFile() {
+        Assertions.assertDoesNotThrow(() -> RegionFileLinks.unlink(this.directory.resolve("r.2.0.mca")));
+    }
+}
@@ -0,0 +1,187 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.volume;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+final class VolumeWriteBatchesTest {
+
+    private static final int CHUNK_SIZE = 16;
+    private static final Executor DIRECT = Runnable::run;
+
+    private static Iterator<List<Integer>> chunks(final int count, final AtomicInteger pulled) {
+        return IntStream.range(0, count)
+            .mapToObj(chunk -> {
+                pulled.incrementAndGet();
+                return IntStream.range(chunk * VolumeWriteBatchesTest.CHUNK_SIZE, (chunk + 1) * VolumeWriteBatchesTest.CHUNK_SIZE)
+                    .boxed()
+                    .collect(Collectors.toList());
+            })
+            .iterator();
+    }
+
+    @Test
+    void testDrainRequestsOneBatchAhead() {
+        final AtomicInteger pulled = new AtomicInteger();
+        final VolumeWriteBatches<Integer> writes = new VolumeWriteBatches<>(VolumeWriteBatchesTest.chunks(100, pulled), VolumeWriteBatchesTest.DIRECT);
+        Assertions.assertEquals(1, pulled.get());
+
+        final List<Integer> applied = new ArrayList<>();
+        Assertions.assertFalse(writes.drain(20, applied::add));
+        Assertions.assertEquals(20, applied.size());
+        Assertions.assertEquals(3, pulled.get());
+        Assertions.assertEquals(12, writes.pending());
+    }
+
+    @Test
+    void testPendingWritesStayWithinOneBatch() {
+        final AtomicInteger pulled = new AtomicInteger();
+        final VolumeWriteBatches<Integer> writes = new VolumeWriteBatches<>(VolumeWriteBatchesTest.chunks(1000, pulled), VolumeWriteBatchesTest.DIRECT);
+        final List<Integer> applied = new ArrayList<>();
+        int ticks = 0;
+        while (!writes.drain(7, applied::add)) {
+            Assertions.assertTrue(writes.pending() < VolumeWriteBatchesTest.CHUNK_SIZE);
+            Assertions.assertTrue(pulled.get() <= applied.size() / VolumeWriteBatchesTest.CHUNK_SIZE + 2);
+            ticks++;
+        }
+        Assertions.assertEquals(1000 * VolumeWriteBatchesTest.CHUNK_SIZE / 7, ticks);
+        Assertions.assertEquals(IntStream.range(0, 1000 * VolumeWriteBatchesTest.CHUNK_SIZE).boxed().collect(Collectors.toList()), applied);
+    }
+
+    @Test
+    void testDrainCompletesWithLastElement() {
+        final VolumeWriteBatches<Integer> writes = new VolumeWriteBatches<>(VolumeWriteBatchesTest.chunks(2, new AtomicInteger()), VolumeWriteBatchesTest.DIRECT);
+        final List<Integer> applied = new ArrayList<>();
+        Assertions.assertFalse(writes.drain(16, applied::add));
+        Assertions.assertTrue(writes.drain(16, applied::add));
+        Assertions.assertEquals(32, applied.size());
+    }
+
+    @Test
+    void testEmptyBatchesAreSkipped() {
+        final List<List<Integer>> batches = new ArrayList<>();
+        batches.add(Collections.emptyList());
+        batches.add(Collections.singletonList(1));
+        batches.add(Collections.emptyList());
+        final VolumeWriteBatches<Integer> writes = new VolumeWriteBatches<>(batches.iterator(), VolumeWriteBatchesTest.DIRECT);
+        final List<Integer> applied = new ArrayList<>();
+        Assertions.assertTrue(writes.drain(10, applied::add));
+        Assertions.assertEquals(Collections.singletonList(1), applied);
+        Assertions.assertTrue(new VolumeWriteBatches<>(Collections.<List<Integer>>emptyIterator(), VolumeWriteBatchesTest.DIRECT).drain(10, applied::add));
+    }
+
+    @Test
+    void testLazyBatchesReadFromSnapshot() {
+        // Mirrors the source into itself, the second half is read after the first
+        // half has been overwritten, which must not leak into the later batches
+        final int[] world = IntStream.range(0, 64).toArray();
+        final int[] snapshot = world.clone();
+        final Iterator<List<int[]>> batches = IntStream.range(0, 64 / VolumeWriteBatchesTest.CHUNK_SIZE)
+            .mapToObj(chunk -> IntStream.range(chunk * VolumeWriteBatchesTest.CHUNK_SIZE, (chunk + 1) * VolumeWriteBatchesTest.CHUNK_SIZE)
+                .mapToObj(index -> new int[] {63 - index, snapshot[index]})
+                .collect(Collectors.toList()))
+            .iterator();
+        final VolumeWriteBatches<int[]> writes = new VolumeWriteBatches<>(batches, VolumeWriteBatchesTest.DIRECT);
+
+        while (!writes.drain(10, write -> {
+            world[write[0]] = write[1];
+            return true;
+        })) {
+            Assertions.assertTrue(writes.pending() < VolumeWriteBatchesTest.CHUNK_SIZE);
+        }
+        for (int index = 0; index < world.length; index++) {
+            Assertions.assertEquals(63 - index, world[index], "Position " + index);
+        }
+    }
+
+    @Test
+    void testDrainDoesNotWaitForTheNextBatch() {
+        final Queue<Runnable> tasks = new ArrayDeque<>();
+        final AtomicInteger pulled = new AtomicInteger();
+        final VolumeWriteBatches<Integer> writes = new VolumeWriteBatches<>(VolumeWriteBatchesTest.chunks(2, pulled), tasks::add);
+        final List<Integer> applied = new ArrayList<>();
+
+        Assertions.assertFalse(writes.drain(20, applied::add));
+        Assertions.assertTrue(applied.isEmpty());
+        Assertions.assertEquals(0, pulled.get());
+
+        tasks.remove().run();
+        Assertions.assertFalse(writes.drain(20, applied::add));
+        Assertions.assertEquals(VolumeWriteBatchesTest.CHUNK_SIZE, applied.size());
+        // The second batch was requested when the first one was taken
+        Assertions.assertEquals(1, tasks.size());
+
+        tasks.remove().run();
+        Assertions.assertFalse(writes.drain(20, applied::add));
+        tasks.remove().run();
+        Assertions.assertTrue(writes.drain(20, applied::add));
+        Assertions.assertEquals(2 * VolumeWriteBatchesTest.CHUNK_SIZE, applied.size());
+    }
+
+    @Test
+    void testWriterStopsTheApplication() {
+        final VolumeWriteBatches<Integer> writes = new VolumeWriteBatches<>(VolumeWriteBatchesTest.chunks(10, new AtomicInteger()),
+            VolumeWriteBatchesTest.DIRECT);
+        final List<Integer> applied = new ArrayList<>();
+
+        Assertions.assertTrue(writes.drain(100, element -> applied.add(element) && element < 20));
+        Assertions.assertEquals(IntStream.rangeClosed(0, 20).boxed().collect(Collectors.toList()), applied);
+        Assertions.assertEquals(0, writes.pending());
+        Assertions.assertTrue(writes.drain(100, applied::add));
+        Assertions.assertEquals(21, applied.size());
+    }
+
+    @Test
+    void testFailedBatchIsRethrown() {
+        final Iterator<List<Integer>> batches = IntStream.range(0, 2)
+            .mapToObj(chunk -> {
+                if (chunk == 1) {
+                    throw new IllegalStateException("Chunk unavailable");
+                }
+                return Collections.singletonList(chunk);
+            })
+            .iterator();
+        final VolumeWriteBatches<Integer> writes = new VolumeWriteBatches<>(batches, VolumeWriteBatchesTest.DIRECT);
+        final List<Integer> applied = new ArrayList<>();
+
+        final CompletionException exception = Assertions.assertThrows(CompletionException.class, () -> writes.drain(10, applied::add));
+        Assertions.assertTrue(exception.getCause() instanceof IllegalStateException);
+        Assertions.assertEquals(Collections.singletonList(0), applied);
+    }
+
+}